@@ -0,0 +1,41 @@
+package com.seguradora.msorder.application.dto;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.CachedOrder;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO enviado nos streams de status: só o necessário para o canal decidir se precisa reler o pedido
+ */
+public record OrderStatusUpdate(
+    String orderId,
+    String customerId,
+    OrderStatus status,
+    String paymentApproved,
+    String subscriptionApproved,
+    LocalDateTime updatedAt
+) {
+    public static OrderStatusUpdate from(Order order) {
+        return new OrderStatusUpdate(
+            order.getId().getValue().toString(),
+            order.getCustomerId().getValue(),
+            order.getStatus(),
+            order.getPaymentApproved(),
+            order.getSubscriptionApproved(),
+            order.getUpdatedAt()
+        );
+    }
+
+    public static OrderStatusUpdate from(CachedOrder order) {
+        return new OrderStatusUpdate(
+            order.id().getValue().toString(),
+            order.customerId().getValue(),
+            order.status(),
+            order.paymentApproved(),
+            order.subscriptionApproved(),
+            order.updatedAt()
+        );
+    }
+}
@@ -7,6 +7,9 @@ import com.fasterxml.jackson.annotation.JsonProperty;
  */
 public class PaymentEventData {
 
+    @JsonProperty("eventId")
+    private String eventId;
+
     @JsonProperty("orderId")
     private String orderId;
 
@@ -26,6 +29,14 @@ public class PaymentEventData {
     private PaymentDetails paymentDetails;
 
     // Getters e Setters
+    public String getEventId() {
+        return eventId;
+    }
+
+    public void setEventId(String eventId) {
+        this.eventId = eventId;
+    }
+
     public String getOrderId() {
         return orderId;
     }
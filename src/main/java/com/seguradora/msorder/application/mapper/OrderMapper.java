@@ -3,6 +3,8 @@ package com.seguradora.msorder.application.mapper;
 import com.seguradora.msorder.application.dto.CreateOrderRequest;
 import com.seguradora.msorder.application.dto.OrderResponse;
 import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.OrderHistory;
+import com.seguradora.msorder.core.domain.valueobject.CachedOrder;
 import com.seguradora.msorder.core.port.in.CreateOrderUseCase.CreateOrderCommand;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -43,12 +45,22 @@ public interface OrderMapper {
     @Mapping(target = "history", expression = "java(mapHistory(order))")
     OrderResponse toResponse(Order order);
 
+    @Mapping(target = "id", expression = "java(order.id().getValue().toString())")
+    @Mapping(target = "customerId", expression = "java(order.customerId().getValue())")
+    @Mapping(target = "productId", expression = "java(order.productId() != null ? order.productId().getValue() : null)")
+    @Mapping(target = "history", expression = "java(mapHistory(order.history()))")
+    OrderResponse toResponse(CachedOrder order);
+
     default java.util.List<OrderResponse.OrderHistoryResponse> mapHistory(Order order) {
         if (order.getHistory() == null || order.getHistory().getEntries() == null) {
             return java.util.Collections.emptyList();
         }
 
-        return order.getHistory().getEntries().stream()
+        return mapHistory(order.getHistory().getEntries());
+    }
+
+    default java.util.List<OrderResponse.OrderHistoryResponse> mapHistory(java.util.List<OrderHistory.HistoryEntry> entries) {
+        return entries.stream()
             .map(entry -> new OrderResponse.OrderHistoryResponse(
                 entry.getToStatus(),
                 entry.getTimestamp()
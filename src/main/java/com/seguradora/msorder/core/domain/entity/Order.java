@@ -1,9 +1,13 @@
 package com.seguradora.msorder.core.domain.entity;
 
+import com.seguradora.msorder.core.domain.event.OrderTransition;
+import com.seguradora.msorder.core.domain.event.OrderTransitionType;
 import com.seguradora.msorder.core.domain.valueobject.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -32,6 +36,9 @@ public class Order {
     private String paymentApproved = "PENDING"; // PENDING, APPROVED, REJECTED
     private String subscriptionApproved = "PENDING"; // PENDING, APPROVED, REJECTED
 
+    // Transições ainda não persistidas (consumidas pelo adaptador de persistência)
+    private final List<OrderTransition> pendingTransitions = new ArrayList<>();
+
     private Order() {}
 
     public static Order create(CustomerId customerId, ProductId productId, InsuranceType category,
@@ -125,23 +132,17 @@ public class Order {
      * Atualiza o status da ordem validando as regras de transição com motivo
      */
     public void updateStatus(OrderStatus newStatus, String reason) {
+        updateStatus(newStatus, reason, null);
+    }
+
+    private void updateStatus(OrderStatus newStatus, String reason, RiskSource riskSource) {
         if (!this.status.canTransitionTo(newStatus)) {
             throw new IllegalStateException(
                 String.format("Invalid state transition from %s to %s", this.status, newStatus)
             );
         }
 
-        OrderStatus previousStatus = this.status;
-        this.status = newStatus;
-        this.updatedAt = LocalDateTime.now();
-
-        // Adicionar entrada no histórico
-        this.history = this.history.addEntry(previousStatus, newStatus, reason);
-
-        // Definir data de finalização para estados finais
-        if (newStatus == OrderStatus.APPROVED || newStatus == OrderStatus.REJECTED || newStatus == OrderStatus.CANCELLED) {
-            this.finishedAt = LocalDateTime.now();
-        }
+        raise(OrderTransitionType.forStatus(newStatus), reason, riskSource);
     }
 
     /**
@@ -168,10 +169,24 @@ public class Order {
      * Valida a solicitação após análise de fraudes
      */
     public void validate() {
+        validate("Validação de fraudes concluída");
+    }
+
+    /**
+     * Valida a solicitação com motivo específico
+     */
+    public void validate(String reason) {
+        validate(reason, null);
+    }
+
+    /**
+     * Valida a solicitação registrando a origem da classificação de risco
+     */
+    public void validate(String reason, RiskSource riskSource) {
         if (status != OrderStatus.RECEIVED) {
             throw new IllegalStateException("Can only validate orders in RECEIVED state");
         }
-        updateStatus(OrderStatus.VALIDATED, "Validação de fraudes concluída");
+        updateStatus(OrderStatus.VALIDATED, reason, riskSource);
     }
 
     /**
@@ -185,7 +200,14 @@ public class Order {
      * Rejeita a solicitação com motivo específico
      */
     public void reject(String reason) {
-        updateStatus(OrderStatus.REJECTED, reason);
+        reject(reason, null);
+    }
+
+    /**
+     * Rejeita a solicitação registrando a origem da classificação de risco
+     */
+    public void reject(String reason, RiskSource riskSource) {
+        updateStatus(OrderStatus.REJECTED, reason, riskSource);
     }
 
     /**
@@ -213,8 +235,7 @@ public class Order {
             throw new IllegalStateException("Can only approve payment for orders in PENDING state");
         }
 
-        this.paymentApproved = "APPROVED";
-        this.updatedAt = LocalDateTime.now();
+        raise(OrderTransitionType.PAYMENT_APPROVED, "Pagamento aprovado");
 
         return canBeFinalized();
     }
@@ -227,8 +248,7 @@ public class Order {
             throw new IllegalStateException("Can only reject payment for orders in PENDING state");
         }
 
-        this.paymentApproved = "REJECTED";
-        reject("Pagamento rejeitado: " + reason);
+        raise(OrderTransitionType.PAYMENT_REJECTED, "Pagamento rejeitado: " + reason);
     }
 
     /**
@@ -239,8 +259,7 @@ public class Order {
             throw new IllegalStateException("Can only approve subscription for orders in PENDING state");
         }
 
-        this.subscriptionApproved = "APPROVED";
-        this.updatedAt = LocalDateTime.now();
+        raise(OrderTransitionType.SUBSCRIPTION_APPROVED, "Subscrição aprovada");
 
         return canBeFinalized();
     }
@@ -253,8 +272,7 @@ public class Order {
             throw new IllegalStateException("Can only reject subscription for orders in PENDING state");
         }
 
-        this.subscriptionApproved = "REJECTED";
-        reject("Subscrição rejeitada: " + reason);
+        raise(OrderTransitionType.SUBSCRIPTION_REJECTED, "Subscrição rejeitada: " + reason);
     }
 
     /**
@@ -282,6 +300,66 @@ public class Order {
         updateStatus(OrderStatus.APPROVED, "Pagamento e subscrição aprovados - pedido finalizado");
     }
 
+    /**
+     * Reaplica transições já persistidas sobre o estado atual (reconstrução a partir de snapshot)
+     * @throws IllegalStateException se uma transição não parte do status em que o pedido está
+     */
+    public void replay(List<OrderTransition> transitions) {
+        for (OrderTransition transition : transitions) {
+            if (transition.fromStatus() != this.status) {
+                throw new IllegalStateException(String.format(
+                    "Transition %s from %s does not apply to order %s in %s state",
+                    transition.type(), transition.fromStatus(), id.getValue(), this.status));
+            }
+            apply(transition);
+        }
+    }
+
+    /**
+     * Retorna e limpa as transições registradas desde a última persistência
+     */
+    public List<OrderTransition> pullPendingTransitions() {
+        List<OrderTransition> transitions = List.copyOf(pendingTransitions);
+        pendingTransitions.clear();
+        return transitions;
+    }
+
+    private void raise(OrderTransitionType type, String reason) {
+        raise(type, reason, null);
+    }
+
+    private void raise(OrderTransitionType type, String reason, RiskSource riskSource) {
+        OrderStatus targetStatus = type.changesStatus() ? type.getTargetStatus() : this.status;
+        OrderTransition transition = new OrderTransition(type, this.status, targetStatus, reason, LocalDateTime.now(),
+            riskSource);
+        apply(transition);
+        pendingTransitions.add(transition);
+    }
+
+    private void apply(OrderTransition transition) {
+        switch (transition.type()) {
+            case PAYMENT_APPROVED -> this.paymentApproved = "APPROVED";
+            case PAYMENT_REJECTED -> this.paymentApproved = "REJECTED";
+            case SUBSCRIPTION_APPROVED -> this.subscriptionApproved = "APPROVED";
+            case SUBSCRIPTION_REJECTED -> this.subscriptionApproved = "REJECTED";
+            default -> { }
+        }
+
+        if (transition.changesStatus()) {
+            OrderStatus newStatus = transition.toStatus();
+            this.status = newStatus;
+            this.history = this.history.addEntry(transition.fromStatus(), newStatus, transition.reason(),
+                transition.occurredAt(), transition.riskSource());
+
+            // Definir data de finalização para estados finais
+            if (newStatus == OrderStatus.APPROVED || newStatus == OrderStatus.REJECTED || newStatus == OrderStatus.CANCELLED) {
+                this.finishedAt = transition.occurredAt();
+            }
+        }
+
+        this.updatedAt = transition.occurredAt();
+    }
+
     // Getters
     public OrderId getId() { return id; }
     public CustomerId getCustomerId() { return customerId; }
@@ -0,0 +1,37 @@
+package com.seguradora.msorder.core.domain.event;
+
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+import com.seguradora.msorder.core.domain.valueobject.RiskSource;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Evento de domínio imutável que representa uma transição aplicada a um pedido
+ *
+ * riskSource só é preenchido nas transições decididas por classificação de risco
+ */
+public record OrderTransition(
+    OrderTransitionType type,
+    OrderStatus fromStatus,
+    OrderStatus toStatus,
+    String reason,
+    LocalDateTime occurredAt,
+    RiskSource riskSource
+) {
+    public OrderTransition {
+        Objects.requireNonNull(type, "Transition type cannot be null");
+        Objects.requireNonNull(fromStatus, "From status cannot be null");
+        Objects.requireNonNull(toStatus, "To status cannot be null");
+        Objects.requireNonNull(occurredAt, "Occurred at cannot be null");
+    }
+
+    public OrderTransition(OrderTransitionType type, OrderStatus fromStatus, OrderStatus toStatus,
+                           String reason, LocalDateTime occurredAt) {
+        this(type, fromStatus, toStatus, reason, occurredAt, null);
+    }
+
+    public boolean changesStatus() {
+        return type.changesStatus();
+    }
+}
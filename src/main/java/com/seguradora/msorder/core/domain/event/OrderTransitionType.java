@@ -0,0 +1,49 @@
+package com.seguradora.msorder.core.domain.event;
+
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+
+/**
+ * Tipos de transição registrados no ciclo de vida de um pedido
+ */
+public enum OrderTransitionType {
+    VALIDATED(OrderStatus.VALIDATED),
+    MARKED_PENDING(OrderStatus.PENDING),
+    PAYMENT_APPROVED(null),
+    PAYMENT_REJECTED(OrderStatus.REJECTED),
+    SUBSCRIPTION_APPROVED(null),
+    SUBSCRIPTION_REJECTED(OrderStatus.REJECTED),
+    APPROVED(OrderStatus.APPROVED),
+    REJECTED(OrderStatus.REJECTED),
+    CANCELLED(OrderStatus.CANCELLED);
+
+    private final OrderStatus targetStatus;
+
+    OrderTransitionType(OrderStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+
+    /**
+     * Status resultante da transição, ou null quando apenas os flags de coordenação mudam
+     */
+    public OrderStatus getTargetStatus() {
+        return targetStatus;
+    }
+
+    public boolean changesStatus() {
+        return targetStatus != null;
+    }
+
+    /**
+     * Tipo de transição correspondente a uma mudança direta de status
+     */
+    public static OrderTransitionType forStatus(OrderStatus status) {
+        return switch (status) {
+            case VALIDATED -> VALIDATED;
+            case PENDING -> MARKED_PENDING;
+            case APPROVED -> APPROVED;
+            case REJECTED -> REJECTED;
+            case CANCELLED -> CANCELLED;
+            case RECEIVED -> throw new IllegalArgumentException("RECEIVED is not a transition target");
+        };
+    }
+}
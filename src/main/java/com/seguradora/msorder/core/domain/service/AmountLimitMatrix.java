@@ -0,0 +1,153 @@
+package com.seguradora.msorder.core.domain.service;
+
+import com.seguradora.msorder.core.domain.valueobject.InsuranceType;
+import com.seguradora.msorder.core.domain.valueobject.RiskLevel;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Tabela imutável de limites de valor segurado por nível de risco e tipo de seguro.
+ *
+ * Os limites ficam em centavos (ponto fixo) num array indexado pelos ordinais dos enums, com o
+ * BigDecimal correspondente pré-calculado: a consulta é O(1) e não aloca objetos.
+ * Combinações sem limite cadastrado não são aceitas.
+ */
+public final class AmountLimitMatrix {
+
+    public static final long NOT_ALLOWED = -1L;
+
+    private static final int TYPES = InsuranceType.values().length;
+    private static final int CELLS = RiskLevel.values().length * TYPES;
+
+    private final long version;
+    private final long[] limitsInCents;
+    private final BigDecimal[] limits;
+    // Por tipo de seguro: menor limite entre os riscos (null se algum risco não aceita) e maior limite (null se nenhum aceita)
+    private final BigDecimal[] lowestLimitByType;
+    private final BigDecimal[] highestLimitByType;
+
+    private AmountLimitMatrix(long version, long[] limitsInCents) {
+        this.version = version;
+        this.limitsInCents = limitsInCents;
+        this.limits = new BigDecimal[CELLS];
+        for (int i = 0; i < CELLS; i++) {
+            if (limitsInCents[i] != NOT_ALLOWED) {
+                limits[i] = BigDecimal.valueOf(limitsInCents[i], 2);
+            }
+        }
+
+        this.lowestLimitByType = new BigDecimal[TYPES];
+        this.highestLimitByType = new BigDecimal[TYPES];
+        for (InsuranceType insuranceType : InsuranceType.values()) {
+            long lowest = Long.MAX_VALUE;
+            long highest = NOT_ALLOWED;
+            for (RiskLevel riskLevel : RiskLevel.values()) {
+                long cents = limitsInCents[index(riskLevel, insuranceType)];
+                lowest = Math.min(lowest, cents);
+                highest = Math.max(highest, cents);
+            }
+            if (lowest != NOT_ALLOWED) {
+                lowestLimitByType[insuranceType.ordinal()] = BigDecimal.valueOf(lowest, 2);
+            }
+            if (highest != NOT_ALLOWED) {
+                highestLimitByType[insuranceType.ordinal()] = BigDecimal.valueOf(highest, 2);
+            }
+        }
+    }
+
+    public static Builder builder(long version) {
+        return new Builder(version);
+    }
+
+    /**
+     * Limites padrão da seguradora (versão 0), usados até a primeira carga da configuração
+     */
+    public static AmountLimitMatrix defaults() {
+        return builder(0)
+            .limit(RiskLevel.REGULAR, new BigDecimal("500000.00"), InsuranceType.LIFE, InsuranceType.HOME)
+            .limit(RiskLevel.REGULAR, new BigDecimal("350000.00"), InsuranceType.AUTO)
+            .limit(RiskLevel.REGULAR, new BigDecimal("255000.00"), InsuranceType.HEALTH, InsuranceType.TRAVEL)
+            .limit(RiskLevel.HIGH_RISK, new BigDecimal("250000.00"), InsuranceType.AUTO)
+            .limit(RiskLevel.HIGH_RISK, new BigDecimal("150000.00"), InsuranceType.HOME)
+            .limit(RiskLevel.HIGH_RISK, new BigDecimal("125000.00"), InsuranceType.LIFE, InsuranceType.HEALTH, InsuranceType.TRAVEL)
+            .limit(RiskLevel.PREFERENTIAL, new BigDecimal("800000.00"), InsuranceType.LIFE)
+            .limit(RiskLevel.PREFERENTIAL, new BigDecimal("450000.00"), InsuranceType.AUTO, InsuranceType.HOME)
+            .limit(RiskLevel.PREFERENTIAL, new BigDecimal("375000.00"), InsuranceType.HEALTH, InsuranceType.TRAVEL)
+            .limit(RiskLevel.NO_INFO, new BigDecimal("200000.00"), InsuranceType.LIFE, InsuranceType.HOME)
+            .limit(RiskLevel.NO_INFO, new BigDecimal("75000.00"), InsuranceType.AUTO)
+            .limit(RiskLevel.NO_INFO, new BigDecimal("55000.00"), InsuranceType.HEALTH, InsuranceType.TRAVEL)
+            .build();
+    }
+
+    public boolean isWithinLimit(RiskLevel riskLevel, InsuranceType insuranceType, BigDecimal amount) {
+        BigDecimal limit = limits[index(riskLevel, insuranceType)];
+        return limit != null && amount.compareTo(limit) <= 0;
+    }
+
+    /**
+     * Valor aceito qualquer que seja o nível de risco
+     */
+    public boolean isWithinLimitForAllRisks(InsuranceType insuranceType, BigDecimal amount) {
+        BigDecimal lowest = lowestLimitByType[insuranceType.ordinal()];
+        return lowest != null && amount.compareTo(lowest) <= 0;
+    }
+
+    /**
+     * Valor recusado qualquer que seja o nível de risco
+     */
+    public boolean isAboveLimitForAllRisks(InsuranceType insuranceType, BigDecimal amount) {
+        BigDecimal highest = highestLimitByType[insuranceType.ordinal()];
+        return highest == null || amount.compareTo(highest) > 0;
+    }
+
+    /**
+     * Limite em centavos, ou {@link #NOT_ALLOWED} se a combinação não é aceita
+     */
+    public long limitInCents(RiskLevel riskLevel, InsuranceType insuranceType) {
+        return limitsInCents[index(riskLevel, insuranceType)];
+    }
+
+    public long version() {
+        return version;
+    }
+
+    private static int index(RiskLevel riskLevel, InsuranceType insuranceType) {
+        return riskLevel.ordinal() * TYPES + insuranceType.ordinal();
+    }
+
+    public static final class Builder {
+
+        private final long version;
+        private final long[] limitsInCents = new long[CELLS];
+
+        private Builder(long version) {
+            this.version = version;
+            Arrays.fill(limitsInCents, NOT_ALLOWED);
+        }
+
+        public Builder limit(RiskLevel riskLevel, BigDecimal amount, InsuranceType... insuranceTypes) {
+            long cents = toCents(amount);
+            for (InsuranceType insuranceType : insuranceTypes) {
+                limitsInCents[index(riskLevel, insuranceType)] = cents;
+            }
+            return this;
+        }
+
+        public AmountLimitMatrix build() {
+            return new AmountLimitMatrix(version, limitsInCents.clone());
+        }
+
+        private static long toCents(BigDecimal amount) {
+            if (amount == null || amount.signum() < 0) {
+                throw new IllegalArgumentException("Limit must be a non-negative amount: " + amount);
+            }
+            try {
+                return amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("Limit must have at most 2 decimal places: " + amount, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.seguradora.msorder.core.domain.service;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerOrderStats;
+import com.seguradora.msorder.core.domain.valueobject.RiskLevel;
+
+import java.math.BigDecimal;
+
+/**
+ * Classificação de risco pelo histórico de pedidos do próprio cliente, usada quando a API de
+ * fraudes não responde.
+ *
+ * Sem pedidos finalizados: NO_INFO. Metade ou mais dos pedidos rejeitados/cancelados (mínimo de
+ * dois): HIGH_RISK. Sem rejeições e com vários pedidos aprovados ou volume aprovado alto:
+ * PREFERENTIAL. Demais casos: REGULAR.
+ */
+public final class HistoryRiskScorer {
+
+    static final long MIN_NEGATIVE_ORDERS = 2;
+    static final long MIN_APPROVED_FOR_PREFERENTIAL = 3;
+    static final BigDecimal PREFERENTIAL_APPROVED_AMOUNT = new BigDecimal("500000.00");
+
+    private HistoryRiskScorer() {}
+
+    public static RiskLevel score(CustomerOrderStats stats) {
+        if (stats == null || stats.finished() == 0) {
+            return RiskLevel.NO_INFO;
+        }
+
+        long negative = stats.rejected() + stats.cancelled();
+        if (negative >= MIN_NEGATIVE_ORDERS && negative * 2 >= stats.finished()) {
+            return RiskLevel.HIGH_RISK;
+        }
+
+        if (stats.rejected() == 0 && (stats.approved() >= MIN_APPROVED_FOR_PREFERENTIAL
+                || stats.approvedInsuredAmount().compareTo(PREFERENTIAL_APPROVED_AMOUNT) >= 0)) {
+            return RiskLevel.PREFERENTIAL;
+        }
+
+        return RiskLevel.REGULAR;
+    }
+}
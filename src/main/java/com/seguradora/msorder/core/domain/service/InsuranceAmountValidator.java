@@ -8,67 +8,64 @@ import java.math.BigDecimal;
 
 /**
  * Validador de valores de seguro por tipo de cliente conforme regras de negócio
+ *
+ * Os limites vêm de uma {@link AmountLimitMatrix} versionada, que pode ser trocada em tempo de
+ * execução sem redeploy.
  */
 @Service
 public class InsuranceAmountValidator {
 
+    private volatile AmountLimitMatrix limits;
+
+    public InsuranceAmountValidator() {
+        this(AmountLimitMatrix.defaults());
+    }
+
+    public InsuranceAmountValidator(AmountLimitMatrix limits) {
+        this.limits = limits;
+    }
+
     /**
      * Valida se o valor do seguro está dentro dos limites para o tipo de cliente
      */
     public boolean isAmountValid(RiskLevel riskLevel, InsuranceType insuranceType, BigDecimal amount) {
-        return switch (riskLevel) {
-            case REGULAR -> validateRegularCustomer(insuranceType, amount);
-            case HIGH_RISK -> validateHighRiskCustomer(insuranceType, amount);
-            case PREFERENTIAL -> validatePreferentialCustomer(insuranceType, amount);
-            case NO_INFO -> validateNoInfoCustomer(insuranceType, amount);
-        };
+        return limits.isWithinLimit(riskLevel, insuranceType, amount);
     }
 
     /**
-     * Cliente Regular - Perfil de risco baixo
+     * Decide pela tabela, sem conhecer o risco, os casos em que o resultado já é certo:
+     * valor abaixo do limite de todos os riscos (aceito) ou acima do limite de todos (recusado)
      */
-    private boolean validateRegularCustomer(InsuranceType type, BigDecimal amount) {
-        return switch (type) {
-            case LIFE, HOME -> amount.compareTo(new BigDecimal("500000.00")) <= 0;
-            case AUTO -> amount.compareTo(new BigDecimal("350000.00")) <= 0;
-            case HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("255000.00")) <= 0;
-            default -> false; // Para tipos não suportados
-        };
+    public PreValidation preValidate(InsuranceType insuranceType, BigDecimal amount) {
+        AmountLimitMatrix current = limits;
+        if (current.isAboveLimitForAllRisks(insuranceType, amount)) {
+            return PreValidation.ABOVE_ALL_LIMITS;
+        }
+        if (current.isWithinLimitForAllRisks(insuranceType, amount)) {
+            return PreValidation.WITHIN_ALL_LIMITS;
+        }
+        return PreValidation.DEPENDS_ON_RISK;
     }
 
     /**
-     * Cliente Alto Risco - Perfil de maior risco
+     * Substitui a tabela de limites se a versão for mais nova que a atual
+     * @return true se a tabela foi aplicada
      */
-    private boolean validateHighRiskCustomer(InsuranceType type, BigDecimal amount) {
-        return switch (type) {
-            case AUTO -> amount.compareTo(new BigDecimal("250000.00")) <= 0;
-            case HOME -> amount.compareTo(new BigDecimal("150000.00")) <= 0;
-            case LIFE, HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("125000.00")) <= 0;
-            default -> false; // Para tipos não suportados
-        };
+    public synchronized boolean updateLimits(AmountLimitMatrix newLimits) {
+        if (newLimits.version() <= limits.version()) {
+            return false;
+        }
+        limits = newLimits;
+        return true;
     }
 
-    /**
-     * Cliente Preferencial - Bom relacionamento com a seguradora
-     */
-    private boolean validatePreferentialCustomer(InsuranceType type, BigDecimal amount) {
-        return switch (type) {
-            case LIFE -> amount.compareTo(new BigDecimal("800000.00")) <= 0;
-            case AUTO, HOME -> amount.compareTo(new BigDecimal("450000.00")) <= 0;
-            case HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("375000.00")) <= 0;
-            default -> false; // Para tipos não suportados
-        };
+    public AmountLimitMatrix currentLimits() {
+        return limits;
     }
 
-    /**
-     * Cliente Sem Informação - Pouco histórico com a seguradora
-     */
-    private boolean validateNoInfoCustomer(InsuranceType type, BigDecimal amount) {
-        return switch (type) {
-            case LIFE, HOME -> amount.compareTo(new BigDecimal("200000.00")) <= 0;
-            case AUTO -> amount.compareTo(new BigDecimal("75000.00")) <= 0;
-            case HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("55000.00")) <= 0;
-            default -> false; // Para tipos não suportados
-        };
+    public enum PreValidation {
+        WITHIN_ALL_LIMITS,
+        ABOVE_ALL_LIMITS,
+        DEPENDS_ON_RISK
     }
 }
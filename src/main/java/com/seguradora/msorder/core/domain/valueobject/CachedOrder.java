@@ -0,0 +1,70 @@
+package com.seguradora.msorder.core.domain.valueobject;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cópia imutável de um pedido para leitura, com a versão em que foi lida
+ *
+ * É o que fica no cache "orders": a mesma instância pode ser entregue a várias threads sem cópia
+ * defensiva, porque nenhuma alteração do agregado chega até ela.
+ */
+public record CachedOrder(
+    OrderId id,
+    CustomerId customerId,
+    ProductId productId,
+    InsuranceType category,
+    SalesChannel salesChannel,
+    PaymentMethod paymentMethod,
+    BigDecimal totalMonthlyPremiumAmount,
+    BigDecimal insuredAmount,
+    Map<String, BigDecimal> coverages,
+    List<String> assistances,
+    OrderStatus status,
+    String description,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt,
+    LocalDateTime finishedAt,
+    List<OrderHistory.HistoryEntry> history,
+    String paymentApproved,
+    String subscriptionApproved,
+    Long version
+) {
+
+    public CachedOrder {
+        // Cópia que preserva a ordem das coberturas na resposta
+        coverages = coverages != null ? Collections.unmodifiableMap(new LinkedHashMap<>(coverages)) : null;
+        assistances = assistances != null ? List.copyOf(assistances) : null;
+        history = history != null ? List.copyOf(history) : List.of();
+    }
+
+    public static CachedOrder of(Order order) {
+        return new CachedOrder(
+            order.getId(),
+            order.getCustomerId(),
+            order.getProductId(),
+            order.getCategory(),
+            order.getSalesChannel(),
+            order.getPaymentMethod(),
+            order.getTotalMonthlyPremiumAmount(),
+            order.getInsuredAmount(),
+            order.getCoverages() != null ? order.getCoverages().getCoverageMap() : null,
+            order.getAssistances() != null ? order.getAssistances().getAssistanceList() : null,
+            order.getStatus(),
+            order.getDescription(),
+            order.getCreatedAt(),
+            order.getUpdatedAt(),
+            order.getFinishedAt(),
+            order.getHistory() != null ? order.getHistory().getEntries() : null,
+            order.getPaymentApproved(),
+            order.getSubscriptionApproved(),
+            order.getVersion()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.seguradora.msorder.core.domain.valueobject;
+
+import java.math.BigDecimal;
+
+/**
+ * Histórico agregado dos pedidos finalizados de um cliente
+ */
+public record CustomerOrderStats(long approved, long rejected, long cancelled, BigDecimal approvedInsuredAmount) {
+
+    public static final CustomerOrderStats EMPTY = new CustomerOrderStats(0, 0, 0, BigDecimal.ZERO);
+
+    public long finished() {
+        return approved + rejected + cancelled;
+    }
+}
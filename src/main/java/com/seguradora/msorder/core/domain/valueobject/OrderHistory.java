@@ -27,8 +27,17 @@ public class OrderHistory {
     }
 
     public OrderHistory addEntry(OrderStatus fromStatus, OrderStatus toStatus, String reason) {
+        return addEntry(fromStatus, toStatus, reason, LocalDateTime.now());
+    }
+
+    public OrderHistory addEntry(OrderStatus fromStatus, OrderStatus toStatus, String reason, LocalDateTime timestamp) {
+        return addEntry(fromStatus, toStatus, reason, timestamp, null);
+    }
+
+    public OrderHistory addEntry(OrderStatus fromStatus, OrderStatus toStatus, String reason, LocalDateTime timestamp,
+                                 RiskSource riskSource) {
         List<HistoryEntry> newEntries = new ArrayList<>(this.entries);
-        newEntries.add(new HistoryEntry(fromStatus, toStatus, reason, LocalDateTime.now()));
+        newEntries.add(new HistoryEntry(fromStatus, toStatus, reason, timestamp, riskSource));
         return new OrderHistory(newEntries);
     }
 
@@ -44,6 +53,9 @@ public class OrderHistory {
                     map.put("toStatus", entry.getToStatus().name());
                     map.put("reason", entry.getReason());
                     map.put("timestamp", entry.getTimestamp().toString());
+                    if (entry.getRiskSource() != null) {
+                        map.put("riskSource", entry.getRiskSource().name());
+                    }
                     return map;
                 })
                 .toList();
@@ -61,7 +73,9 @@ public class OrderHistory {
                     OrderStatus toStatus = OrderStatus.valueOf((String) map.get("toStatus"));
                     String reason = (String) map.get("reason");
                     LocalDateTime timestamp = LocalDateTime.parse((String) map.get("timestamp"));
-                    return new HistoryEntry(fromStatus, toStatus, reason, timestamp);
+                    RiskSource riskSource = map.get("riskSource") != null ?
+                            RiskSource.valueOf((String) map.get("riskSource")) : null;
+                    return new HistoryEntry(fromStatus, toStatus, reason, timestamp, riskSource);
                 })
                 .toList();
 
@@ -73,12 +87,19 @@ public class OrderHistory {
         private final OrderStatus toStatus;
         private final String reason;
         private final LocalDateTime timestamp;
+        private final RiskSource riskSource;
 
         public HistoryEntry(OrderStatus fromStatus, OrderStatus toStatus, String reason, LocalDateTime timestamp) {
+            this(fromStatus, toStatus, reason, timestamp, null);
+        }
+
+        public HistoryEntry(OrderStatus fromStatus, OrderStatus toStatus, String reason, LocalDateTime timestamp,
+                            RiskSource riskSource) {
             this.fromStatus = fromStatus;
             this.toStatus = Objects.requireNonNull(toStatus, "To status cannot be null");
             this.reason = reason;
             this.timestamp = Objects.requireNonNull(timestamp, "Timestamp cannot be null");
+            this.riskSource = riskSource;
         }
 
         // Getters
@@ -86,6 +107,7 @@ public class OrderHistory {
         public OrderStatus getToStatus() { return toStatus; }
         public String getReason() { return reason; }
         public LocalDateTime getTimestamp() { return timestamp; }
+        public RiskSource getRiskSource() { return riskSource; }
 
         @Override
         public boolean equals(Object o) {
@@ -95,12 +117,13 @@ public class OrderHistory {
             return Objects.equals(fromStatus, that.fromStatus) &&
                    Objects.equals(toStatus, that.toStatus) &&
                    Objects.equals(reason, that.reason) &&
-                   Objects.equals(timestamp, that.timestamp);
+                   Objects.equals(timestamp, that.timestamp) &&
+                   riskSource == that.riskSource;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(fromStatus, toStatus, reason, timestamp);
+            return Objects.hash(fromStatus, toStatus, reason, timestamp, riskSource);
         }
     }
 
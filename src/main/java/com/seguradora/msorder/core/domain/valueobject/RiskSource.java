@@ -0,0 +1,9 @@
+package com.seguradora.msorder.core.domain.valueobject;
+
+/**
+ * Origem da classificação de risco usada na validação do pedido
+ */
+public enum RiskSource {
+    FRAUD_API,
+    LOCAL_HISTORY
+}
@@ -4,6 +4,7 @@ import com.seguradora.msorder.core.domain.entity.Order;
 import com.seguradora.msorder.core.domain.valueobject.*;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -17,6 +18,13 @@ public interface CreateOrderUseCase {
      */
     Order createOrder(CreateOrderCommand command);
 
+    /**
+     * Reenvia para validação os pedidos parados em RECEIVED há mais de olderThan
+     * (validação recusada pelo executor saturado ou perdida em um restart)
+     * @return quantidade de pedidos reenviados
+     */
+    int resumeStalledValidations(Duration olderThan);
+
     /**
      * Comando para criação de pedido conforme especificação da API
      */
@@ -1,7 +1,9 @@
 package com.seguradora.msorder.core.port.in;
 
-import com.seguradora.msorder.core.domain.entity.Order;
 import com.seguradora.msorder.core.domain.valueobject.OrderId;
+import com.seguradora.msorder.core.domain.valueobject.CachedOrder;
+
+import java.util.List;
 
 /**
  * Port de entrada para consulta de pedidos
@@ -11,12 +13,32 @@ public interface GetOrderUseCase {
     /**
      * Busca um pedido por ID
      * @param query dados da consulta
-     * @return pedido encontrado
+     * @return cópia imutável do pedido encontrado, possivelmente compartilhada pelo cache
+     */
+    CachedOrder getOrderById(GetOrderQuery query);
+
+    /**
+     * Busca vários pedidos: os que estão em cache saem dele e os demais vêm em uma única consulta
+     * @param query dados da consulta
+     * @return pedidos encontrados na ordem pedida, sem repetições; ids inexistentes são omitidos
+     */
+    List<CachedOrder> getOrdersByIds(GetOrdersByIdsQuery query);
+
+    /**
+     * Versão atual do pedido, respondida pelo cache ou por uma consulta só da versão, sem
+     * reconstruir o agregado
+     * @param query dados da consulta
+     * @return versão do pedido
      */
-    Order getOrderById(GetOrderQuery query);
+    long getOrderVersion(GetOrderQuery query);
 
     /**
      * Query object para busca de pedido por ID
      */
     record GetOrderQuery(OrderId orderId) {}
+
+    /**
+     * Query object para busca de vários pedidos por ID
+     */
+    record GetOrdersByIdsQuery(List<OrderId> orderIds) {}
 }
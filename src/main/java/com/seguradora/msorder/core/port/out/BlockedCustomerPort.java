@@ -0,0 +1,16 @@
+package com.seguradora.msorder.core.port.out;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+
+/**
+ * Porta de saída para consulta de clientes bloqueados pela área de fraudes
+ */
+public interface BlockedCustomerPort {
+
+    /**
+     * Consulta a cópia local da lista de bloqueio, sem chamada remota
+     * @param customerId Cliente do pedido
+     * @return true se o cliente está bloqueado
+     */
+    boolean isBlocked(CustomerId customerId);
+}
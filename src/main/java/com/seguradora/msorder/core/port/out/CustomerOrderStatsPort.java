@@ -0,0 +1,16 @@
+package com.seguradora.msorder.core.port.out;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import com.seguradora.msorder.core.domain.valueobject.CustomerOrderStats;
+
+/**
+ * Porta de saída para o histórico agregado de pedidos por cliente
+ */
+public interface CustomerOrderStatsPort {
+
+    /**
+     * Consulta o agregado pré-calculado, sem acesso ao banco
+     * @return {@link CustomerOrderStats#EMPTY} se o cliente não tem pedidos finalizados
+     */
+    CustomerOrderStats findByCustomer(CustomerId customerId);
+}
@@ -11,6 +11,7 @@ public interface FraudAnalysisPort {
      * Consulta a API de fraudes para analisar o risco do pedido
      * @param request Dados do pedido para análise
      * @return Nível de risco: REGULAR, HIGH_RISK, PREFERENTIAL, NO_INFO
+     * @throws RuntimeException se a API estiver indisponível; o chamador decide o fallback
      */
     String analyzeRisk(FraudAnalysisRequest request);
 }
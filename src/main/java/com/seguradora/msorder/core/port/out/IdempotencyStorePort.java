@@ -0,0 +1,35 @@
+package com.seguradora.msorder.core.port.out;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Port para armazenamento de chaves de idempotência com expiração
+ */
+public interface IdempotencyStorePort {
+
+    /**
+     * Reserva a chave para processamento; retorna false se já existir registro válido (não expirado)
+     */
+    boolean reserve(String key, String requestHash, Duration ttl);
+
+    Optional<IdempotencyRecord> find(String key);
+
+    /**
+     * Grava a resposta da requisição original, liberando as repetições
+     */
+    void complete(String key, String responseBody);
+
+    /**
+     * Remove a reserva quando a requisição original falha, permitindo nova tentativa
+     */
+    void release(String key);
+
+    int purgeExpired();
+
+    record IdempotencyRecord(String key, String requestHash, String responseBody) {
+        public boolean isCompleted() {
+            return responseBody != null;
+        }
+    }
+}
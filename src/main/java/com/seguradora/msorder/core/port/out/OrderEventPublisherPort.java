@@ -1,6 +1,9 @@
 package com.seguradora.msorder.core.port.out;
 
 import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+
+import java.util.List;
 
 /**
  * Port para publicação de eventos relacionados a pedidos
@@ -22,4 +25,9 @@ public interface OrderEventPublisherPort {
     void publishPaymentApproved(Order order);
 
     void publishSubscriptionApproved(Order order);
+
+    /**
+     * Publica em um único evento a sequência ordenada de transições do pedido
+     */
+    void publishOrderTransitions(Order order, List<OrderStatus> transitions);
 }
@@ -5,6 +5,7 @@ import com.seguradora.msorder.core.domain.valueobject.CustomerId;
 import com.seguradora.msorder.core.domain.valueobject.OrderId;
 import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +18,17 @@ public interface OrderRepositoryPort {
 
     Optional<Order> findById(OrderId orderId);
 
+    /**
+     * Busca vários pedidos em uma única consulta; ids inexistentes são ignorados e a ordem do
+     * resultado não é garantida
+     */
+    List<Order> findAllById(Collection<OrderId> orderIds);
+
+    /**
+     * Versão atual do pedido sem reconstruir o agregado; muda a cada alteração persistida
+     */
+    Optional<Long> findVersionById(OrderId orderId);
+
     List<Order> findByCustomerId(CustomerId customerId);
 
     List<Order> findByStatus(OrderStatus status);
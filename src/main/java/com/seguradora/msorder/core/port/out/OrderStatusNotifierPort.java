@@ -0,0 +1,15 @@
+package com.seguradora.msorder.core.port.out;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+
+/**
+ * Porta de saída para avisar, no próprio processo, quem acompanha pedidos em tempo real
+ */
+public interface OrderStatusNotifierPort {
+
+    /**
+     * Notifica o estado do pedido após uma transição persistida
+     * @param order Pedido já salvo
+     */
+    void statusChanged(Order order);
+}
@@ -0,0 +1,17 @@
+package com.seguradora.msorder.core.port.out;
+
+import java.time.Duration;
+
+/**
+ * Port para registro persistente de eventos de entrada já processados
+ */
+public interface ProcessedEventStorePort {
+
+    /**
+     * Registra o evento; retorna false se ele já havia sido registrado.
+     * Participa da transação corrente, para ser desfeito junto com o processamento.
+     */
+    boolean markProcessed(String eventKey);
+
+    int purgeOlderThan(Duration retention);
+}
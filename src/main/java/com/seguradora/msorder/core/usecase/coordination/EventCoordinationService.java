@@ -5,18 +5,18 @@ import com.seguradora.msorder.core.domain.valueobject.OrderId;
 import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
+import com.seguradora.msorder.core.port.out.OrderStatusNotifierPort;
+import com.seguradora.msorder.core.usecase.order.OrderCacheKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Serviço responsável por coordenar eventos de pagamento e subscrição
- * Implementa controle de concorrência com retry para evitar race conditions
+ * Conflitos de concorrência são propagados ao consumer, que os reprocessa via tópicos de retry
  */
 @Service
 @Transactional
@@ -26,20 +26,20 @@ public class EventCoordinationService {
 
     private final OrderRepositoryPort orderRepository;
     private final OrderEventPublisherPort eventPublisher;
+    private final OrderStatusNotifierPort statusNotifier;
 
     public EventCoordinationService(OrderRepositoryPort orderRepository,
-                                  OrderEventPublisherPort eventPublisher) {
+                                  OrderEventPublisherPort eventPublisher,
+                                  OrderStatusNotifierPort statusNotifier) {
         this.orderRepository = orderRepository;
         this.eventPublisher = eventPublisher;
+        this.statusNotifier = statusNotifier;
     }
 
     /**
-     * Processa aprovação de pagamento com retry em caso de concorrência
+     * Processa aprovação de pagamento
      */
-    @Retryable(value = {OptimisticLockingFailureException.class},
-               maxAttempts = 3,
-               backoff = @Backoff(delay = 100, multiplier = 2))
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public void processPaymentApproval(String orderId) {
         try {
             logger.info("Processando aprovação de pagamento para pedido: {}", orderId);
@@ -66,9 +66,10 @@ public class EventCoordinationService {
             } else {
                 logger.info("Pagamento aprovado para pedido {}, aguardando aprovação de subscrição", orderId);
             }
+            statusNotifier.statusChanged(order);
 
         } catch (OptimisticLockingFailureException e) {
-            logger.warn("Conflito de concorrência ao processar pagamento para pedido: {}, tentando novamente...", orderId);
+            logger.warn("Conflito de concorrência ao processar pagamento para pedido: {}, será reprocessado", orderId);
             throw e; // Re-throw para trigger do retry
         } catch (Exception e) {
             logger.error("Erro ao processar aprovação de pagamento para pedido: {}", orderId, e);
@@ -77,12 +78,9 @@ public class EventCoordinationService {
     }
 
     /**
-     * Processa rejeição de pagamento com retry em caso de concorrência
+     * Processa rejeição de pagamento
      */
-    @Retryable(value = {OptimisticLockingFailureException.class},
-               maxAttempts = 3,
-               backoff = @Backoff(delay = 100, multiplier = 2))
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public void processPaymentRejection(String orderId, String reason) {
         try {
             logger.info("Processando rejeição de pagamento para pedido: {}", orderId);
@@ -97,10 +95,11 @@ public class EventCoordinationService {
 
             // Publicar evento de rejeição
             eventPublisher.publishOrderRejected(order);
+            statusNotifier.statusChanged(order);
             logger.info("Pedido {} rejeitado devido a pagamento rejeitado", orderId);
 
         } catch (OptimisticLockingFailureException e) {
-            logger.warn("Conflito de concorrência ao rejeitar pagamento para pedido: {}, tentando novamente...", orderId);
+            logger.warn("Conflito de concorrência ao rejeitar pagamento para pedido: {}, será reprocessado", orderId);
             throw e; // Re-throw para trigger do retry
         } catch (Exception e) {
             logger.error("Erro ao processar rejeição de pagamento para pedido: {}", orderId, e);
@@ -109,12 +108,9 @@ public class EventCoordinationService {
     }
 
     /**
-     * Processa aprovação de subscrição com retry em caso de concorrência
+     * Processa aprovação de subscrição
      */
-    @Retryable(value = {OptimisticLockingFailureException.class},
-               maxAttempts = 3,
-               backoff = @Backoff(delay = 100, multiplier = 2))
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public void processSubscriptionApproval(String orderId) {
         try {
             logger.info("Processando aprovação de subscrição para pedido: {}", orderId);
@@ -142,9 +138,10 @@ public class EventCoordinationService {
             } else {
                 logger.info("Subscrição aprovada para pedido {}, aguardando aprovação de pagamento", orderId);
             }
+            statusNotifier.statusChanged(order);
 
         } catch (OptimisticLockingFailureException e) {
-            logger.warn("Conflito de concorrência ao processar subscrição para pedido: {}, tentando novamente...", orderId);
+            logger.warn("Conflito de concorrência ao processar subscrição para pedido: {}, será reprocessado", orderId);
             throw e; // Re-throw para trigger do retry
         } catch (Exception e) {
             logger.error("Erro ao processar aprovação de subscrição para pedido: {}", orderId, e);
@@ -153,12 +150,9 @@ public class EventCoordinationService {
     }
 
     /**
-     * Processa rejeição de subscrição com retry em caso de concorrência
+     * Processa rejeição de subscrição
      */
-    @Retryable(value = {OptimisticLockingFailureException.class},
-               maxAttempts = 3,
-               backoff = @Backoff(delay = 100, multiplier = 2))
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public void processSubscriptionRejection(String orderId, String reason) {
         try {
             logger.info("Processando rejeição de subscrição para pedido: {}", orderId);
@@ -173,10 +167,11 @@ public class EventCoordinationService {
 
             // Publicar evento de rejeição
             eventPublisher.publishOrderRejected(order);
+            statusNotifier.statusChanged(order);
             logger.info("Pedido {} rejeitado devido a subscrição rejeitada", orderId);
 
         } catch (OptimisticLockingFailureException e) {
-            logger.warn("Conflito de concorrência ao rejeitar subscrição para pedido: {}, tentando novamente...", orderId);
+            logger.warn("Conflito de concorrência ao rejeitar subscrição para pedido: {}, será reprocessado", orderId);
             throw e; // Re-throw para trigger do retry
         } catch (Exception e) {
             logger.error("Erro ao processar rejeição de subscrição para pedido: {}", orderId, e);
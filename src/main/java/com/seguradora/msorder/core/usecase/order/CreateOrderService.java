@@ -1,25 +1,37 @@
 package com.seguradora.msorder.core.usecase.order;
 
 import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.service.HistoryRiskScorer;
 import com.seguradora.msorder.core.domain.service.InsuranceAmountValidator;
 import com.seguradora.msorder.core.domain.valueobject.*;
 import com.seguradora.msorder.core.port.in.CreateOrderUseCase;
+import com.seguradora.msorder.core.port.out.BlockedCustomerPort;
+import com.seguradora.msorder.core.port.out.CustomerOrderStatsPort;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import com.seguradora.msorder.core.port.out.FraudAnalysisPort;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.core.port.out.OrderStatusNotifierPort;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
 import com.seguradora.msorder.infrastructure.adapter.out.external.dto.FraudAnalysisRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.scheduling.annotation.Async;
-
-import java.util.concurrent.CompletableFuture;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
 
 /**
  * Implementação otimizada do caso de uso para criação de pedidos
  */
-@Service
 public class CreateOrderService implements CreateOrderUseCase {
 
     private static final Logger logger = LoggerFactory.getLogger(CreateOrderService.class);
@@ -28,15 +40,54 @@ public class CreateOrderService implements CreateOrderUseCase {
     private final OrderEventPublisherPort eventPublisher;
     private final FraudAnalysisPort fraudAnalysisPort;
     private final InsuranceAmountValidator amountValidator;
+    private final BlockedCustomerPort blockedCustomerPort;
+    private final CustomerOrderStatsPort customerOrderStatsPort;
+    private final OrderStatusNotifierPort statusNotifier;
+    private final OrderLaneExecutor laneExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor validationExecutor;
+    private final boolean coalesceTransitions;
+
+    // Contadores da pré-validação: pedidos decididos só pela tabela de limites e chamadas feitas à API de fraudes
+    private final LongAdder preApprovedCount = new LongAdder();
+    private final LongAdder preRejectedCount = new LongAdder();
+    private final LongAdder fraudAnalysisCount = new LongAdder();
+    private final LongAdder blockedCount = new LongAdder();
+    private final LongAdder historyFallbackCount = new LongAdder();
+    private final LongAdder validationRejectedCount = new LongAdder();
 
+    /**
+     * @param blockedCustomerPort lista local de clientes bloqueados, consultada antes de qualquer escrita
+     * @param customerOrderStatsPort histórico agregado do cliente, usado quando a API de fraudes falha
+     * @param statusNotifier avisado a cada transição persistida, para os streams de status
+     * @param laneExecutor raias por pedido, as mesmas das demais transições (consumers e endpoints)
+     * @param transactionManager transação em que a decisão da validação relê e grava o pedido
+     * @param validationExecutor executa a validação (fraudes e limites) fora da thread da requisição
+     * @param coalesceTransitions publica as transições da criação (RECEIVED, VALIDATED/REJECTED, PENDING)
+     *                            em um único evento ORDER_TRANSITIONS em vez de um evento por transição
+     */
     public CreateOrderService(OrderRepositoryPort orderRepository,
                              OrderEventPublisherPort eventPublisher,
                              FraudAnalysisPort fraudAnalysisPort,
-                             InsuranceAmountValidator amountValidator) {
+                             InsuranceAmountValidator amountValidator,
+                             BlockedCustomerPort blockedCustomerPort,
+                             CustomerOrderStatsPort customerOrderStatsPort,
+                             OrderStatusNotifierPort statusNotifier,
+                             OrderLaneExecutor laneExecutor,
+                             PlatformTransactionManager transactionManager,
+                             Executor validationExecutor,
+                             boolean coalesceTransitions) {
         this.orderRepository = orderRepository;
         this.eventPublisher = eventPublisher;
         this.fraudAnalysisPort = fraudAnalysisPort;
         this.amountValidator = amountValidator;
+        this.blockedCustomerPort = blockedCustomerPort;
+        this.customerOrderStatsPort = customerOrderStatsPort;
+        this.statusNotifier = statusNotifier;
+        this.laneExecutor = laneExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validationExecutor = validationExecutor;
+        this.coalesceTransitions = coalesceTransitions;
     }
 
     @Override
@@ -46,12 +97,19 @@ public class CreateOrderService implements CreateOrderUseCase {
             logger.debug("Iniciando criação de pedido para customer: {}", command.customerId());
         }
 
+        // Cliente bloqueado é recusado na entrada: sem pedido persistido, evento ou chamada à API de fraudes
+        if (blockedCustomerPort.isBlocked(command.customerId())) {
+            blockedCount.increment();
+            logger.warn("Pedido recusado - customer bloqueado: {}", command.customerId());
+            throw new CustomerBlockedException(command.customerId());
+        }
+
         try {
             // 1. Criar e persistir order com status RECEIVED
             Order order = createAndPersistInitialOrder(command);
 
-            // 2. MELHORIA: Processar validação de forma completamente assíncrona
-            processOrderValidationFullyAsync(order, command);
+            // 2. Validação assíncrona, disparada após o commit do RECEIVED
+            scheduleValidation(order.getId());
 
             // 3. Retornar order imediatamente (não aguarda validação)
             return order;
@@ -82,8 +140,11 @@ public class CreateOrderService implements CreateOrderUseCase {
 
         Order savedOrder = orderRepository.save(order);
 
-        // Publicar evento de criação de forma assíncrona
-        eventPublisher.publishOrderCreated(savedOrder);
+        // Publicar evento de criação (no modo compacto segue junto com o resultado da validação)
+        if (!coalesceTransitions) {
+            eventPublisher.publishOrderCreated(savedOrder);
+        }
+        statusNotifier.statusChanged(savedOrder);
 
         if (logger.isInfoEnabled()) {
             logger.info("Pedido criado - ID: {}, Customer: {}",
@@ -94,56 +155,151 @@ public class CreateOrderService implements CreateOrderUseCase {
     }
 
     /**
-     * NOVA IMPLEMENTAÇÃO: Processa validação completamente assíncrona
-     * Performance CRÍTICA: Não bloqueia a criação do pedido
+     * Agenda a validação para depois do commit: antes disso o pedido ainda não é visível para a
+     * thread do executor.
+     */
+    private void scheduleValidation(OrderId orderId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submitValidation(orderId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submitValidation(orderId);
+            }
+        });
+    }
+
+    /**
+     * Com o executor saturado o pedido fica em RECEIVED e é retomado por resumeStalledValidations,
+     * sem ocupar a thread da requisição com a chamada à API de fraudes.
+     * @return false quando o executor recusou a tarefa
      */
-    @Async("taskExecutor")
-    private void processOrderValidationFullyAsync(Order order, CreateOrderCommand command) {
+    private boolean submitValidation(OrderId orderId) {
         try {
-            // Análise de fraudes
-            RiskLevel riskLevel = performFraudAnalysisWithFallback(order, command);
+            validationExecutor.execute(() -> validateOrder(orderId));
+            return true;
+        } catch (RejectedExecutionException e) {
+            validationRejectedCount.increment();
+            logger.warn("Executor de validação saturado; pedido {} fica em RECEIVED até a próxima retomada",
+                       orderId.getValue());
+            return false;
+        }
+    }
 
-            // Aplicar regras de validação e atualizar status
-            Order processedOrder = applyValidationRulesOptimized(order, riskLevel);
+    @Override
+    public int resumeStalledValidations(Duration olderThan) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(olderThan);
+        int resumed = 0;
+        for (Order order : orderRepository.findByStatus(OrderStatus.RECEIVED)) {
+            if (!order.getCreatedAt().isBefore(cutoff)) {
+                continue;
+            }
+            // Executor ainda saturado: o restante espera a próxima rodada
+            if (!submitValidation(order.getId())) {
+                break;
+            }
+            resumed++;
+        }
+        return resumed;
+    }
+
+    /**
+     * Validação do pedido (pré-validação, fraudes e limites), na thread do executor.
+     * Recarrega o pedido: a instância criada já foi devolvida a quem chamou createOrder, e a mesma
+     * validação pode ter sido retomada mais de uma vez. A chamada à API de fraudes fica fora da raia;
+     * a decisão é aplicada em decideInLane.
+     */
+    private void validateOrder(OrderId orderId) {
+        Order order = orderRepository.findById(orderId).orElse(null);
+        if (order == null) {
+            logger.warn("Pedido {} não encontrado para validação", orderId.getValue());
+            return;
+        }
+        if (order.getStatus() != OrderStatus.RECEIVED) {
+            logger.debug("Pedido {} já saiu de RECEIVED ({}); validação ignorada", orderId.getValue(), order.getStatus());
+            return;
+        }
+
+        try {
+            // Pré-validação: valores que nenhum risco muda o resultado dispensam a API de fraudes
+            InsuranceAmountValidator.PreValidation preValidation =
+                amountValidator.preValidate(order.getCategory(), order.getInsuredAmount());
+            RiskAssessment assessment = preValidation == InsuranceAmountValidator.PreValidation.DEPENDS_ON_RISK
+                ? performFraudAnalysisWithFallback(order)
+                : null;
+
+            Order processedOrder = decideInLane(orderId, current -> switch (preValidation) {
+                case WITHIN_ALL_LIMITS -> {
+                    preApprovedCount.increment();
+                    yield approveValidatedOrder(current, null, null);
+                }
+                case ABOVE_ALL_LIMITS -> {
+                    preRejectedCount.increment();
+                    yield rejectInvalidOrder(current, null, null);
+                }
+                // Aplicar regras de validação e atualizar status
+                case DEPENDS_ON_RISK -> applyValidationRulesOptimized(current, assessment);
+            });
 
             // Se aprovado, trigger serviços externos
-            if (processedOrder.getStatus() == OrderStatus.PENDING) {
-                triggerExternalServicesAsync(processedOrder);
+            if (processedOrder != null && processedOrder.getStatus() == OrderStatus.PENDING) {
+                triggerExternalServices(processedOrder);
             }
 
         } catch (Exception e) {
-            logger.error("Erro na validação assíncrona do pedido {}", order.getId().getValue(), e);
-            handleValidationFailureAsync(order, e);
+            logger.error("Erro na validação assíncrona do pedido {}", orderId.getValue(), e);
+            handleValidationFailure(orderId, e);
         }
     }
 
+    /**
+     * Relê e grava o pedido na raia do pedido e em uma transação, como as demais transições: um
+     * cancelamento concorrente termina antes e é visto na releitura.
+     * @return null quando o pedido já saiu de RECEIVED e a decisão foi descartada
+     */
+    private Order decideInLane(OrderId orderId, UnaryOperator<Order> decision) {
+        return laneExecutor.execute(orderId.getValue().toString(), () -> transactionTemplate.execute(status -> {
+            Order current = orderRepository.findById(orderId).orElse(null);
+            if (current == null || current.getStatus() != OrderStatus.RECEIVED) {
+                logger.info("Pedido {} saiu de RECEIVED durante a validação; decisão descartada", orderId.getValue());
+                return null;
+            }
+            return decision.apply(current);
+        }));
+    }
+
     /**
      * Análise de fraudes com fallback para melhor resiliência
      */
-    private RiskLevel performFraudAnalysisWithFallback(Order order, CreateOrderCommand command) {
+    private RiskAssessment performFraudAnalysisWithFallback(Order order) {
+        fraudAnalysisCount.increment();
         try {
             FraudAnalysisRequest fraudRequest = new FraudAnalysisRequest(
                 order.getId().getValue().toString(),
-                command.customerId().getValue(),
-                command.insuredAmount(),
-                command.category().name(),
-                command.description()
+                order.getCustomerId().getValue(),
+                order.getInsuredAmount(),
+                order.getCategory().name(),
+                order.getDescription()
             );
 
             String riskLevelStr = fraudAnalysisPort.analyzeRisk(fraudRequest);
             RiskLevel riskLevel = RiskLevel.fromString(riskLevelStr);
 
             if (logger.isDebugEnabled()) {
-                logger.debug("Risk level: {} para customer: {}", riskLevel, command.customerId());
+                logger.debug("Risk level: {} para customer: {}", riskLevel, order.getCustomerId());
             }
 
-            return riskLevel;
+            return new RiskAssessment(riskLevel, RiskSource.FRAUD_API);
 
         } catch (Exception e) {
-            logger.warn("Falha na análise de fraudes para customer: {}, usando fallback",
-                       command.customerId(), e);
-            // Fallback: assumir risco regular em caso de falha da API
-            return RiskLevel.REGULAR;
+            // Fallback: classificação pelo histórico agregado do próprio cliente, sem chamada remota
+            RiskLevel riskLevel = HistoryRiskScorer.score(customerOrderStatsPort.findByCustomer(order.getCustomerId()));
+            historyFallbackCount.increment();
+            logger.warn("Falha na análise de fraudes para customer: {}, risco {} pelo histórico local",
+                       order.getCustomerId(), riskLevel, e);
+            return new RiskAssessment(riskLevel, RiskSource.LOCAL_HISTORY);
         }
     }
 
@@ -151,56 +307,88 @@ public class CreateOrderService implements CreateOrderUseCase {
      * Aplicar regras de validação de forma otimizada
      * Reduz operações de banco combinando mudanças de status
      */
-    @Transactional
-    private Order applyValidationRulesOptimized(Order order, RiskLevel riskLevel) {
+    private Order applyValidationRulesOptimized(Order order, RiskAssessment assessment) {
+        RiskLevel riskLevel = assessment.riskLevel();
         boolean isAmountValid = amountValidator.isAmountValid(
             riskLevel, order.getCategory(), order.getInsuredAmount());
 
-        if (isAmountValid) {
-            // Transição: RECEIVED -> VALIDATED -> PENDING (otimizada)
-            order.validate();
-            order.markAsPending();
+        // A origem da classificação fica registrada na transição (API de fraudes ou histórico local)
+        return isAmountValid
+            ? approveValidatedOrder(order, riskLevel, assessment.riskSource())
+            : rejectInvalidOrder(order, riskLevel, assessment.riskSource());
+    }
 
-            // Uma única operação de persistência para ambas transições
-            Order savedOrder = orderRepository.save(order);
+    /**
+     * Transição: RECEIVED -> VALIDATED -> PENDING (otimizada)
+     * @param riskLevel null quando decidido pela pré-validação
+     * @param riskSource origem da classificação; null quando decidido pela pré-validação
+     */
+    private Order approveValidatedOrder(Order order, RiskLevel riskLevel, RiskSource riskSource) {
+        order.validate("Validação de fraudes concluída", riskSource);
+        order.markAsPending();
 
-            // Publicar eventos de forma batch/assíncrona
-            publishValidationEvents(savedOrder, riskLevel);
+        // Uma única operação de persistência para ambas transições
+        Order savedOrder = orderRepository.save(order);
 
-            if (logger.isInfoEnabled()) {
-                logger.info("Pedido aprovado - ID: {}, Status: PENDING, Risk: {}",
-                           savedOrder.getId().getValue(), riskLevel);
-            }
+        // Publicar eventos de forma batch/assíncrona
+        publishValidationEvents(savedOrder, riskLevel);
+        statusNotifier.statusChanged(savedOrder);
 
-            return savedOrder;
+        if (logger.isInfoEnabled()) {
+            logger.info("Pedido aprovado - ID: {}, Status: PENDING, Risk: {}",
+                       savedOrder.getId().getValue(), riskLevel != null ? riskLevel : "pré-validação");
+        }
 
-        } else {
-            // Rejeição direta
-            order.reject();
-            Order rejectedOrder = orderRepository.save(order);
+        return savedOrder;
+    }
 
-            eventPublisher.publishOrderRejected(rejectedOrder);
+    /**
+     * Rejeição direta
+     * @param riskLevel null quando decidido pela pré-validação
+     * @param riskSource origem da classificação; null quando decidido pela pré-validação
+     */
+    private Order rejectInvalidOrder(Order order, RiskLevel riskLevel, RiskSource riskSource) {
+        order.reject("Solicitação rejeitada", riskSource);
+        Order rejectedOrder = orderRepository.save(order);
 
-            logger.warn("Pedido rejeitado - ID: {}, Valor: {}, Risk: {}",
-                       rejectedOrder.getId().getValue(), order.getInsuredAmount(), riskLevel);
+        publishRejectionEvents(rejectedOrder);
+        statusNotifier.statusChanged(rejectedOrder);
 
-            return rejectedOrder;
-        }
+        logger.warn("Pedido rejeitado - ID: {}, Valor: {}, Risk: {}",
+                   rejectedOrder.getId().getValue(), order.getInsuredAmount(),
+                   riskLevel != null ? riskLevel : "pré-validação");
+
+        return rejectedOrder;
     }
 
     /**
      * Publica eventos de validação de forma otimizada
      */
     private void publishValidationEvents(Order order, RiskLevel riskLevel) {
+        if (coalesceTransitions) {
+            eventPublisher.publishOrderTransitions(order,
+                List.of(OrderStatus.RECEIVED, OrderStatus.VALIDATED, OrderStatus.PENDING));
+            return;
+        }
         eventPublisher.publishOrderValidated(order);
         eventPublisher.publishOrderPending(order);
     }
 
     /**
-     * Trigger serviços externos de forma assíncrona
+     * Publica a rejeição; no modo compacto inclui o RECEIVED ainda não publicado
+     */
+    private void publishRejectionEvents(Order order) {
+        if (coalesceTransitions) {
+            eventPublisher.publishOrderTransitions(order, List.of(OrderStatus.RECEIVED, OrderStatus.REJECTED));
+            return;
+        }
+        eventPublisher.publishOrderRejected(order);
+    }
+
+    /**
+     * Trigger serviços externos
      */
-    @Async("taskExecutor")
-    private void triggerExternalServicesAsync(Order order) {
+    private void triggerExternalServices(Order order) {
         try {
             logger.info("Serviços externos disparados para pedido: {}", order.getId().getValue());
         } catch (Exception e) {
@@ -211,16 +399,53 @@ public class CreateOrderService implements CreateOrderUseCase {
     /**
      * Trata falhas na validação assíncrona
      */
-    @Async("taskExecutor")
-    private void handleValidationFailureAsync(Order order, Exception e) {
+    private void handleValidationFailure(OrderId orderId, Exception e) {
         try {
-            order.reject();
-            Order rejectedOrder = orderRepository.save(order);
-            eventPublisher.publishOrderRejected(rejectedOrder);
-
-            logger.error("Pedido rejeitado devido a falha na validação: {}", order.getId().getValue(), e);
+            Order rejectedOrder = decideInLane(orderId, order -> {
+                order.reject();
+                Order saved = orderRepository.save(order);
+                publishRejectionEvents(saved);
+                statusNotifier.statusChanged(saved);
+                return saved;
+            });
+
+            if (rejectedOrder != null) {
+                logger.error("Pedido rejeitado devido a falha na validação: {}", orderId.getValue(), e);
+            }
         } catch (Exception ex) {
-            logger.error("Erro crítico ao processar falha de validação para pedido: {}", order.getId().getValue(), ex);
+            logger.error("Erro crítico ao processar falha de validação para pedido: {}", orderId.getValue(), ex);
+        }
+    }
+
+    public long getPreApprovedCount() {
+        return preApprovedCount.sum();
+    }
+
+    public long getPreRejectedCount() {
+        return preRejectedCount.sum();
+    }
+
+    public long getFraudAnalysisCount() {
+        return fraudAnalysisCount.sum();
+    }
+
+    public long getBlockedCount() {
+        return blockedCount.sum();
+    }
+
+    public long getHistoryFallbackCount() {
+        return historyFallbackCount.sum();
+    }
+
+    public long getValidationRejectedCount() {
+        return validationRejectedCount.sum();
+    }
+
+    private record RiskAssessment(RiskLevel riskLevel, RiskSource riskSource) {}
+
+    public static class CustomerBlockedException extends RuntimeException {
+        public CustomerBlockedException(CustomerId customerId) {
+            super("Customer is blocked: " + customerId.getValue());
         }
     }
 
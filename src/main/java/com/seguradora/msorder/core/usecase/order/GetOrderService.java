@@ -1,32 +1,93 @@
 package com.seguradora.msorder.core.usecase.order;
 
-import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.OrderId;
+import com.seguradora.msorder.core.domain.valueobject.CachedOrder;
 import com.seguradora.msorder.core.port.in.GetOrderUseCase;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import org.springframework.cache.Cache;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
 /**
  * Implementação otimizada do caso de uso para consulta de pedidos
  */
-@Service
 @Transactional(readOnly = true)
 public class GetOrderService implements GetOrderUseCase {
 
     private final OrderRepositoryPort orderRepository;
+    private final Cache ordersCache;
 
-    public GetOrderService(OrderRepositoryPort orderRepository) {
+    /**
+     * @param ordersCache cache "orders" usado por {@link #getOrderById}; consultado antes do banco para a versão
+     *                    e para a busca de vários pedidos
+     */
+    public GetOrderService(OrderRepositoryPort orderRepository, Cache ordersCache) {
         this.orderRepository = orderRepository;
+        this.ordersCache = ordersCache;
     }
 
     @Override
-    @Cacheable(value = "orders", key = "#query.orderId().getValue().toString()", unless = "#result == null")
-    public Order getOrderById(GetOrderQuery query) {
+    @Cacheable(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#query.orderId())",
+        unless = "#result == null")
+    public CachedOrder getOrderById(GetOrderQuery query) {
         return orderRepository.findById(query.orderId())
+            .map(CachedOrder::of)
             .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + query.orderId()));
     }
 
+    @Override
+    public List<CachedOrder> getOrdersByIds(GetOrdersByIdsQuery query) {
+        Set<OrderId> orderIds = new LinkedHashSet<>(query.orderIds());
+        Map<OrderId, CachedOrder> found = new HashMap<>();
+        List<OrderId> misses = new ArrayList<>();
+        for (OrderId orderId : orderIds) {
+            CachedOrder cached = cachedOrder(orderId);
+            if (cached != null) {
+                found.put(orderId, cached);
+            } else {
+                misses.add(orderId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            orderRepository.findAllById(misses).stream()
+                .map(CachedOrder::of)
+                .forEach(order -> {
+                    found.put(order.id(), order);
+                    if (ordersCache != null) {
+                        ordersCache.put(OrderCacheKey.of(order.id()), order);
+                    }
+                });
+        }
+
+        return orderIds.stream()
+            .map(found::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public long getOrderVersion(GetOrderQuery query) {
+        CachedOrder cached = cachedOrder(query.orderId());
+        if (cached != null && cached.version() != null) {
+            return cached.version();
+        }
+        return orderRepository.findVersionById(query.orderId())
+            .orElseThrow(() -> new OrderNotFoundException("Order not found with ID: " + query.orderId()));
+    }
+
+    private CachedOrder cachedOrder(OrderId orderId) {
+        return ordersCache != null ? ordersCache.get(OrderCacheKey.of(orderId), CachedOrder.class) : null;
+    }
+
     public static class OrderNotFoundException extends RuntimeException {
         public OrderNotFoundException(String message) {
             super(message);
@@ -0,0 +1,27 @@
+package com.seguradora.msorder.core.usecase.order;
+
+import com.seguradora.msorder.core.domain.valueobject.OrderId;
+
+/**
+ * Nome e chave do cache "orders", compartilhados por quem lê e por quem invalida
+ *
+ * Nas anotações: {@code key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)"}
+ */
+public final class OrderCacheKey {
+
+    public static final String CACHE_NAME = "orders";
+
+    private OrderCacheKey() {
+    }
+
+    public static String of(OrderId orderId) {
+        return orderId.getValue().toString();
+    }
+
+    /**
+     * Normaliza o id recebido como texto (ex.: UUID em maiúsculas) para a mesma chave de {@link #of(OrderId)}
+     */
+    public static String of(String orderId) {
+        return of(OrderId.of(orderId));
+    }
+}
@@ -5,6 +5,7 @@ import com.seguradora.msorder.core.domain.valueobject.OrderId;
 import com.seguradora.msorder.core.port.in.UpdateOrderStatusUseCase;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.core.port.out.OrderStatusNotifierPort;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -18,48 +19,57 @@ public class UpdateOrderStatusService implements UpdateOrderStatusUseCase {
 
     private final OrderRepositoryPort orderRepository;
     private final OrderEventPublisherPort eventPublisher;
+    private final OrderStatusNotifierPort statusNotifier;
 
     public UpdateOrderStatusService(OrderRepositoryPort orderRepository,
-                                   OrderEventPublisherPort eventPublisher) {
+                                   OrderEventPublisherPort eventPublisher,
+                                   OrderStatusNotifierPort statusNotifier) {
         this.orderRepository = orderRepository;
         this.eventPublisher = eventPublisher;
+        this.statusNotifier = statusNotifier;
     }
 
     @Override
-    @CacheEvict(value = "orders", key = "#command.orderId().value")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#command.orderId())")
     public Order approveOrder(ApproveOrderCommand command) {
         Order order = findOrderById(command.orderId());
         order.approve();
         Order savedOrder = orderRepository.save(order);
         eventPublisher.publishOrderApproved(savedOrder);
+        statusNotifier.statusChanged(savedOrder);
         return savedOrder;
     }
 
     @Override
-    @CacheEvict(value = "orders", key = "#command.orderId().value")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#command.orderId())")
     public Order rejectOrder(RejectOrderCommand command) {
         Order order = findOrderById(command.orderId());
         order.reject();
         Order savedOrder = orderRepository.save(order);
         eventPublisher.publishOrderRejected(savedOrder);
+        statusNotifier.statusChanged(savedOrder);
         return savedOrder;
     }
 
     @Override
-    @CacheEvict(value = "orders", key = "#command.orderId().value")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#command.orderId())")
     public Order cancelOrder(CancelOrderCommand command) {
         Order order = findOrderById(command.orderId());
         order.cancel();
         Order savedOrder = orderRepository.save(order);
         eventPublisher.publishOrderCancelled(savedOrder);
+        statusNotifier.statusChanged(savedOrder);
         return savedOrder;
     }
 
     @Override
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#command.orderId())")
     public Order pendingOrder(PendingOrderCommand command) {
         Order order = findOrderById(command.orderId());
         order.markAsPending();
-        return orderRepository.save(order);
+        Order savedOrder = orderRepository.save(order);
+        statusNotifier.statusChanged(savedOrder);
+        return savedOrder;
     }
 
     private Order findOrderById(OrderId orderId) {
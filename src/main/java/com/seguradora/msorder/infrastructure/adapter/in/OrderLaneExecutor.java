@@ -0,0 +1,59 @@
+package com.seguradora.msorder.infrastructure.adapter.in;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serializa, dentro da instância, as transições de um mesmo pedido vindas de consumers e endpoints.
+ * Cada orderId cai em uma raia fixa (hash % lanes); trabalhos da mesma raia rodam um de cada vez,
+ * na ordem de chegada, e raias diferentes rodam em paralelo.
+ *
+ * O trabalho executa na própria thread chamadora, envolvendo a transação do caso de uso, de modo que
+ * o próximo da fila só lê o pedido depois do commit anterior (evita OptimisticLockingFailureException).
+ */
+@Component
+public class OrderLaneExecutor {
+
+    private final ReentrantLock[] lanes;
+
+    public OrderLaneExecutor(@Value("${order.transitions.lanes:64}") int laneCount) {
+        if (laneCount < 1) {
+            throw new IllegalArgumentException("order.transitions.lanes must be positive: " + laneCount);
+        }
+        this.lanes = new ReentrantLock[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            // Lock justo: a fila de cada raia é atendida na ordem de chegada
+            lanes[i] = new ReentrantLock(true);
+        }
+    }
+
+    public <T> T execute(String orderId, Supplier<T> work) {
+        ReentrantLock lane = lanes[laneOf(orderId)];
+        lane.lock();
+        try {
+            return work.get();
+        } finally {
+            lane.unlock();
+        }
+    }
+
+    public void run(String orderId, Runnable work) {
+        execute(orderId, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    int laneOf(String orderId) {
+        int hash = Objects.hashCode(orderId);
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    int laneCount() {
+        return lanes.length;
+    }
+}
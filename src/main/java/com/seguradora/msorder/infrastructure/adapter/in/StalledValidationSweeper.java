@@ -0,0 +1,37 @@
+package com.seguradora.msorder.infrastructure.adapter.in;
+
+import com.seguradora.msorder.core.port.in.CreateOrderUseCase;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Retoma periodicamente a validação de pedidos parados em RECEIVED, como os recusados pelo executor
+ * de validação saturado. min-age evita reenviar pedidos cuja validação ainda está na fila.
+ */
+@Component
+public class StalledValidationSweeper {
+
+    private static final Logger logger = LoggerFactory.getLogger(StalledValidationSweeper.class);
+
+    private final CreateOrderUseCase createOrderUseCase;
+    private final Duration minAge;
+
+    public StalledValidationSweeper(CreateOrderUseCase createOrderUseCase,
+                                    @Value("${order.validation.resume.min-age:PT2M}") Duration minAge) {
+        this.createOrderUseCase = createOrderUseCase;
+        this.minAge = minAge;
+    }
+
+    @Scheduled(fixedDelayString = "${order.validation.resume.interval:PT1M}")
+    public void resumeStalledValidations() {
+        int resumed = createOrderUseCase.resumeStalledValidations(minAge);
+        if (resumed > 0) {
+            logger.info("Validação retomada para {} pedidos parados em RECEIVED", resumed);
+        }
+    }
+}
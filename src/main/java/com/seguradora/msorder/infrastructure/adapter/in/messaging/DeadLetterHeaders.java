@@ -0,0 +1,48 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Leitura dos cabeçalhos que o DeadLetterPublishingRecoverer grava nas mensagens do DLT
+ */
+final class DeadLetterHeaders {
+
+    private DeadLetterHeaders() {
+    }
+
+    /**
+     * Origem e exceção da falha, para o log; o payload não entra (pode ser grande ou ilegível)
+     */
+    static String describe(ConsumerRecord<?, ?> record) {
+        return "origem=" + text(record, KafkaHeaders.DLT_ORIGINAL_TOPIC)
+            + ", partição=" + number(record, KafkaHeaders.DLT_ORIGINAL_PARTITION)
+            + ", offset=" + number(record, KafkaHeaders.DLT_ORIGINAL_OFFSET)
+            + ", exceção=" + text(record, KafkaHeaders.DLT_EXCEPTION_FQCN)
+            + ", causa=" + text(record, KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN)
+            + ", mensagem=" + text(record, KafkaHeaders.DLT_EXCEPTION_MESSAGE);
+    }
+
+    private static String text(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    // Partição (int) e offset (long) são gravados em binário
+    private static Number number(ConsumerRecord<?, ?> record, String name) {
+        Header header = record.headers().lastHeader(name);
+        if (header == null || header.value() == null) {
+            return null;
+        }
+        ByteBuffer value = ByteBuffer.wrap(header.value());
+        return switch (header.value().length) {
+            case Integer.BYTES -> value.getInt();
+            case Long.BYTES -> value.getLong();
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Reenvia mensagens do DLT para o tópico de origem, após a correção da causa da falha.
+ *
+ * Usa um consumer group próprio por tópico, então cada mensagem do DLT é reenviada uma única vez.
+ * O registro volta como foi publicado na origem: bytes do valor e cabeçalhos (tipo, rastreio, chave de
+ * deduplicação), menos os cabeçalhos kafka_dlt-* que o DLT acrescentou.
+ */
+@Service
+public class DeadLetterReplayService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DeadLetterReplayService.class);
+
+    static final Set<String> REPLAYABLE_TOPICS = Set.of("payment-events", "subscription-events");
+    static final String DLT_SUFFIX = "-dlt";
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private static final String DLT_HEADER_PREFIX = "kafka_dlt-";
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    public DeadLetterReplayService(@Qualifier("deadLetterConsumerFactory") ConsumerFactory<String, byte[]> consumerFactory,
+                                   @Qualifier("rawKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+    }
+
+    /**
+     * Reenvia até maxRecords mensagens de {topic}-dlt para {topic}; retorna quantas foram reenviadas
+     */
+    public int replay(String topic, int maxRecords) {
+        if (!REPLAYABLE_TOPICS.contains(topic)) {
+            throw new IllegalArgumentException("Tópico sem DLT para replay: " + topic);
+        }
+
+        String dlt = topic + DLT_SUFFIX;
+        int replayed = 0;
+
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer("order-service-dlt-replay-" + topic, null)) {
+            consumer.subscribe(List.of(dlt));
+
+            while (replayed < maxRecords) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    break;
+                }
+
+                for (ConsumerRecord<String, byte[]> dead : records) {
+                    if (replayed == maxRecords) {
+                        break;
+                    }
+                    send(new ProducerRecord<>(topic, null, dead.key(), dead.value(), originalHeaders(dead)));
+                    consumer.commitSync(Map.of(new TopicPartition(dead.topic(), dead.partition()),
+                                               new OffsetAndMetadata(dead.offset() + 1)));
+                    replayed++;
+                }
+            }
+        }
+
+        logger.info("Replay do DLT {} concluído: {} mensagens reenviadas para {}", dlt, replayed, topic);
+        return replayed;
+    }
+
+    private static List<Header> originalHeaders(ConsumerRecord<String, byte[]> dead) {
+        List<Header> headers = new ArrayList<>();
+        for (Header header : dead.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX)) {
+                headers.add(header);
+            }
+        }
+        return headers;
+    }
+
+    private void send(ProducerRecord<String, byte[]> record) {
+        try {
+            kafkaTemplate.send(record).get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Replay interrompido", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Falha ao reenviar mensagem do DLT para " + record.topic(), e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import com.seguradora.msorder.core.port.out.ProcessedEventStorePort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Descarta reentregas de eventos de pagamento e subscrição antes de tocar na tabela de pedidos.
+ *
+ * Uma janela em memória (LRU limitada) responde às reentregas recentes sem I/O; as demais são
+ * resolvidas pela tabela processed_events, que sobrevive a rebalanceamentos e reinícios.
+ * O registro em processed_events é gravado na mesma transação que altera o pedido: se o
+ * processamento falhar (ou a instância cair antes do commit), nenhum dos dois fica gravado e a
+ * próxima entrega é processada normalmente.
+ *
+ * No modo exactly-once o container já abriu a transação do Kafka (offset + eventos publicados); a
+ * transação do banco fica aninhada nela e é confirmada antes. Uma falha no commit do banco propaga e
+ * aborta o registro no Kafka, que é reentregue; se o commit do Kafka falhar depois do commit do banco,
+ * a reentrega encontra a chave gravada e é descartada sem efeito.
+ */
+@Component
+public class InboundEventDeduplicator {
+
+    private static final Logger logger = LoggerFactory.getLogger(InboundEventDeduplicator.class);
+
+    private final ProcessedEventStorePort store;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final Set<String> recentEvents;
+
+    public InboundEventDeduplicator(ProcessedEventStorePort store,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${order.events.dedup.window-size:10000}") int windowSize,
+                                    @Value("${order.events.dedup.retention:P7D}") Duration retention) {
+        this.store = store;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.recentEvents = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > windowSize;
+            }
+        }));
+    }
+
+    /**
+     * Chave de deduplicação: o id do evento quando informado; senão a chave de negócio
+     * (um mesmo status só produz efeito uma vez por pedido)
+     */
+    public static String eventKey(String source, String eventId, String orderId, String status) {
+        if (eventId != null && !eventId.isBlank()) {
+            return source + ":" + eventId;
+        }
+        return source + ":" + orderId + ":" + status;
+    }
+
+    /**
+     * Processa o evento uma única vez: registra a chave e executa o trabalho na mesma transação.
+     * Retorna false, sem executar nada, se o evento for uma reentrega.
+     */
+    public boolean processOnce(String eventKey, Runnable work) {
+        if (recentEvents.contains(eventKey)) {
+            return false;
+        }
+        boolean processed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (!store.markProcessed(eventKey)) {
+                return false;
+            }
+            work.run();
+            return true;
+        }));
+        // Só entra na janela depois do commit: uma falha acima propaga sem marcar o evento
+        recentEvents.add(eventKey);
+        return processed;
+    }
+
+    @Scheduled(fixedDelayString = "${order.events.dedup.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int purged = store.purgeOlderThan(retention);
+        if (purged > 0 && logger.isDebugEnabled()) {
+            logger.debug("Registros de eventos processados removidos: {}", purged);
+        }
+    }
+}
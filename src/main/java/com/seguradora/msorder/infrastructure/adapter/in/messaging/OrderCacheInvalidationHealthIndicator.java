@@ -0,0 +1,38 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Saúde do canal de invalidação do cache: DOWN quando a thread de escuta parou ou está sem conexão
+ * (nesse intervalo o cache "orders" desta instância não recebe as escritas das demais)
+ */
+@Component("orderCacheInvalidation")
+@ConditionalOnProperty(name = "order.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderCacheInvalidationHealthIndicator implements HealthIndicator {
+
+    private final OrderCacheInvalidationListener listener;
+
+    public OrderCacheInvalidationHealthIndicator(OrderCacheInvalidationListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    public Health health() {
+        boolean listening = listener.isListening();
+        boolean connected = listener.isConnected();
+
+        Health.Builder builder = listening && connected ? Health.up() : Health.down();
+        builder
+            .withDetail("listening", listening)
+            .withDetail("connected", connected)
+            .withDetail("reconnects", (long) listener.reconnects());
+        String lastFailure = listener.lastFailure();
+        if (lastFailure != null) {
+            builder.withDetail("lastFailure", lastFailure);
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,246 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import com.seguradora.msorder.application.dto.OrderStatusUpdate;
+import com.seguradora.msorder.core.domain.valueobject.OrderId;
+import com.seguradora.msorder.core.domain.valueobject.CachedOrder;
+import com.seguradora.msorder.core.port.in.GetOrderUseCase;
+import com.seguradora.msorder.core.usecase.order.OrderCacheKey;
+import com.seguradora.msorder.infrastructure.adapter.in.web.OrderStatusStreamHub;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.OrderCacheInvalidation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Pattern;
+
+/**
+ * Invalida o cache "orders" local a partir das escritas feitas em qualquer instância.
+ *
+ * Escuta o canal do Postgres (LISTEN) numa conexão própria, fora do pool. Cada aviso remove a cópia
+ * em cache, a não ser que ela já seja mais nova que a escrita avisada. Ao (re)conectar o cache
+ * inteiro é limpo, porque os avisos enviados enquanto a conexão estava fora se perderam.
+ * Avisos de escritas feitas por outras instâncias também são repassados aos streams de status desta.
+ */
+@Component
+@ConditionalOnProperty(name = "order.cache.invalidation.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderCacheInvalidationListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderCacheInvalidationListener.class);
+
+    // LISTEN não aceita parâmetro: o nome do canal entra direto no comando
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    private final DataSourceProperties dataSourceProperties;
+    private final Cache ordersCache;
+    private final OrderStatusStreamHub streamHub;
+    private final GetOrderUseCase getOrderUseCase;
+    private final String channel;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+
+    private final AtomicBoolean connected = new AtomicBoolean();
+    private volatile boolean running;
+    private volatile Thread worker;
+    private volatile String lastFailure;
+
+    private final Timer lagTimer;
+    private final Counter evictedCounter;
+    private final Counter notCachedCounter;
+    private final Counter newerCounter;
+    private final Counter reconnectCounter;
+
+    public OrderCacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                          CacheManager cacheManager,
+                                          MeterRegistry meterRegistry,
+                                          OrderStatusStreamHub streamHub,
+                                          GetOrderUseCase getOrderUseCase,
+                                          @Value("${order.cache.invalidation.channel:order_cache_invalidation}") String channel,
+                                          @Value("${order.cache.invalidation.poll-timeout:PT1S}") Duration pollTimeout,
+                                          @Value("${order.cache.invalidation.reconnect-delay:PT5S}") Duration reconnectDelay) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.dataSourceProperties = dataSourceProperties;
+        this.ordersCache = cacheManager.getCache(OrderCacheKey.CACHE_NAME);
+        this.streamHub = streamHub;
+        this.getOrderUseCase = getOrderUseCase;
+        this.channel = channel;
+        this.pollTimeoutMillis = (int) pollTimeout.toMillis();
+        this.reconnectDelayMillis = reconnectDelay.toMillis();
+
+        this.lagTimer = Timer.builder("order.cache.invalidation.lag")
+            .description("Tempo entre a escrita do pedido e a invalidação do cache nesta instância")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.evictedCounter = receivedCounter(meterRegistry, "evicted");
+        this.notCachedCounter = receivedCounter(meterRegistry, "not-cached");
+        this.newerCounter = receivedCounter(meterRegistry, "newer");
+        this.reconnectCounter = Counter.builder("order.cache.invalidation.reconnects")
+            .description("Reconexões do canal de invalidação (cache local limpo a cada uma)")
+            .register(meterRegistry);
+        Gauge.builder("order.cache.invalidation.connected", connected, c -> c.get() ? 1 : 0)
+            .description("Canal de invalidação conectado")
+            .register(meterRegistry);
+    }
+
+    private static Counter receivedCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("order.cache.invalidation.received")
+            .description("Avisos de invalidação recebidos, por resultado")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::listen, "OrderCacheInvalidation");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+            try {
+                worker.join(pollTimeoutMillis + 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + channel);
+                }
+                connected.set(true);
+                ordersCache.clear();
+                logger.info("Escutando invalidações do cache de pedidos no canal {}", channel);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            apply(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    logger.warn("Canal de invalidação do cache caiu; reconectando em {} ms: {}",
+                        reconnectDelayMillis, e.getMessage());
+                    reconnectAfterFailure(e);
+                }
+            } catch (RuntimeException e) {
+                // Falha inesperada não pode matar a thread: o cache ficaria sem invalidação para sempre
+                if (running) {
+                    logger.error("Falha inesperada no canal de invalidação do cache; reconectando em {} ms",
+                        reconnectDelayMillis, e);
+                    reconnectAfterFailure(e);
+                }
+            } finally {
+                connected.set(false);
+            }
+        }
+    }
+
+    private void reconnectAfterFailure(Exception e) {
+        lastFailure = e.getClass().getSimpleName() + ": " + e.getMessage();
+        reconnectCounter.increment();
+        // Avisos enviados até a reconexão se perdem; nada em cache pode ser confiado até lá
+        ordersCache.clear();
+        sleepBeforeReconnect();
+    }
+
+    /**
+     * Thread de escuta ativa (pode estar entre tentativas de conexão)
+     */
+    boolean isListening() {
+        Thread current = worker;
+        return running && current != null && current.isAlive();
+    }
+
+    boolean isConnected() {
+        return connected.get();
+    }
+
+    double reconnects() {
+        return reconnectCounter.count();
+    }
+
+    /**
+     * Última falha do canal, ou null se nunca caiu
+     */
+    String lastFailure() {
+        return lastFailure;
+    }
+
+    void apply(String payload) {
+        OrderCacheInvalidation invalidation;
+        String key;
+        try {
+            invalidation = OrderCacheInvalidation.parse(payload);
+            key = OrderCacheKey.of(invalidation.orderId());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Aviso de invalidação ignorado: {}", e.getMessage());
+            return;
+        }
+
+        CachedOrder cached = ordersCache.get(key, CachedOrder.class);
+        if (cached == null) {
+            notCachedCounter.increment();
+        } else if (invalidation.supersedes(cached.version())) {
+            ordersCache.evict(key);
+            evictedCounter.increment();
+        } else {
+            newerCounter.increment();
+        }
+        lagTimer.record(Math.max(0, System.currentTimeMillis() - invalidation.sentAtMillis()), TimeUnit.MILLISECONDS);
+
+        // As escritas locais já foram avisadas aos streams depois do commit
+        if (!invalidation.isLocal()) {
+            var query = new GetOrderUseCase.GetOrderQuery(OrderId.of(invalidation.orderId()));
+            streamHub.changedElsewhere(invalidation.orderId(), invalidation.customerId(),
+                () -> OrderStatusUpdate.from(getOrderUseCase.getOrderById(query)));
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Amostragem do log de payloads recebidos: só 1 a cada N eventos é detalhado em DEBUG,
+ * para que o log não pese no caminho de consumo
+ */
+@Component
+public class SampledPayloadLogger {
+
+    private final int sampleEvery;
+    private final AtomicLong received = new AtomicLong();
+
+    public SampledPayloadLogger(@Value("${order.events.payload-log-sample-rate:100}") int sampleEvery) {
+        this.sampleEvery = Math.max(1, sampleEvery);
+    }
+
+    public boolean shouldLog(Logger logger) {
+        return logger.isDebugEnabled() && received.getAndIncrement() % sampleEvery == 0;
+    }
+}
@@ -1,15 +1,22 @@
 package com.seguradora.msorder.infrastructure.adapter.in.messaging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seguradora.msorder.application.dto.SubscriptionEventData;
 import com.seguradora.msorder.core.usecase.coordination.EventCoordinationService;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
 /**
  * Consumer responsável por receber eventos de subscrição
+ *
+ * Falhas transitórias são reprocessadas em tópicos de retry com atraso exponencial, sem bloquear a
+ * partição principal; mensagens inválidas ou esgotadas vão para o DLT (subscription-events-dlt).
  */
 @Component
 public class SubscriptionEventConsumer {
@@ -17,28 +24,58 @@ public class SubscriptionEventConsumer {
     private static final Logger logger = LoggerFactory.getLogger(SubscriptionEventConsumer.class);
 
     private final EventCoordinationService coordinationService;
-    private final ObjectMapper objectMapper;
+    private final InboundEventDeduplicator deduplicator;
+    private final SampledPayloadLogger payloadLogger;
+    private final OrderLaneExecutor laneExecutor;
 
-    public SubscriptionEventConsumer(EventCoordinationService coordinationService, ObjectMapper objectMapper) {
+    public SubscriptionEventConsumer(EventCoordinationService coordinationService, InboundEventDeduplicator deduplicator,
+                                     SampledPayloadLogger payloadLogger, OrderLaneExecutor laneExecutor) {
         this.coordinationService = coordinationService;
-        this.objectMapper = objectMapper;
+        this.deduplicator = deduplicator;
+        this.payloadLogger = payloadLogger;
+        this.laneExecutor = laneExecutor;
     }
 
+    @RetryableTopic(
+        attempts = "${order.events.retry.attempts:4}",
+        backoff = @Backoff(delayExpression = "${order.events.retry.initial-delay:1000}",
+                           multiplierExpression = "${order.events.retry.multiplier:2.0}",
+                           maxDelayExpression = "${order.events.retry.max-delay:30000}"),
+        kafkaTemplate = "genericKafkaTemplate",
+        listenerContainerFactory = "subscriptionEventListenerContainerFactory",
+        exclude = {IllegalArgumentException.class, IllegalStateException.class},
+        traversingCauses = "true")
     @KafkaListener(topics = "subscription-events", groupId = "order-service-subscription-group")
-    public void handleSubscriptionEvent(String message) {
-        try {
-            logger.info("Recebido evento de subscrição: {}", message);
+    public void handleSubscriptionEvent(SubscriptionEventData eventData) {
+        if (payloadLogger.shouldLog(logger)) {
+            logger.debug("Recebido evento de subscrição: orderId={}, status={}, eventType={}, timestamp={}",
+                eventData.getOrderId(), eventData.getStatus(), eventData.getEventType(), eventData.getTimestamp());
+        }
 
-            SubscriptionEventData eventData = objectMapper.readValue(message, SubscriptionEventData.class);
+        String status = eventData.getStatus();
+        if (!"APPROVED".equals(status) && !"REJECTED".equals(status)) {
+            return;
+        }
 
-            if ("APPROVED".equals(eventData.getStatus())) {
+        String eventKey = InboundEventDeduplicator.eventKey("subscription", eventData.getEventId(), eventData.getOrderId(), status);
+        boolean processed = laneExecutor.execute(eventData.getOrderId(), () -> deduplicator.processOnce(eventKey, () -> {
+            if ("APPROVED".equals(status)) {
                 coordinationService.processSubscriptionApproval(eventData.getOrderId());
-            } else if ("REJECTED".equals(eventData.getStatus())) {
+            } else {
                 coordinationService.processSubscriptionRejection(eventData.getOrderId(), eventData.getReason());
             }
-
-        } catch (Exception e) {
-            logger.error("Erro ao processar evento de subscrição: {}", message, e);
+        }));
+        if (!processed) {
+            logger.info("Evento de subscrição duplicado descartado: {}", eventKey);
         }
     }
+
+    /**
+     * Recebe o registro cru: o DLT é lido como byte[] (ver KafkaConfig), então payloads que nem
+     * chegaram a ser convertidos em SubscriptionEventData também são registrados aqui
+     */
+    @DltHandler
+    public void handleDeadLetter(ConsumerRecord<?, ?> deadLetter) {
+        logger.error("Evento de subscrição enviado ao DLT: key={}, {}", deadLetter.key(), DeadLetterHeaders.describe(deadLetter));
+    }
 }
@@ -0,0 +1,214 @@
+package com.seguradora.msorder.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seguradora.msorder.core.port.out.IdempotencyStorePort;
+import com.seguradora.msorder.core.port.out.IdempotencyStorePort.IdempotencyRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Garante idempotência de requisições identificadas pelo header Idempotency-Key.
+ *
+ * Repetições de uma chave já concluída recebem a resposta armazenada; duplicatas concorrentes no
+ * mesmo nó aguardam a execução em andamento e, entre nós, aguardam a conclusão registrada no store.
+ */
+@Component
+public class IdempotentRequestHandler {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotentRequestHandler.class);
+
+    private static final long POLL_INTERVAL_MS = 50;
+
+    // Tamanho da coluna idempotency_keys.idempotency_key
+    static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyStorePort store;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+    private final Map<String, InFlight<?>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotentRequestHandler(IdempotencyStorePort store,
+                                    ObjectMapper objectMapper,
+                                    @Value("${order.idempotency.ttl:PT10M}") Duration ttl,
+                                    @Value("${order.idempotency.wait-timeout:PT5S}") Duration waitTimeout) {
+        this.store = store;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    /**
+     * Executa a ação uma única vez por chave, devolvendo a resposta original nas repetições
+     */
+    public <T> IdempotentResult<T> execute(String key, Object request, Class<T> responseType, Supplier<T> action) {
+        validateKey(key);
+        String requestHash = hash(request);
+
+        InFlight<T> mine = new InFlight<>(requestHash, new CompletableFuture<>());
+        @SuppressWarnings("unchecked")
+        InFlight<T> existing = (InFlight<T>) inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            ensureSameRequest(key, existing.requestHash(), requestHash);
+            return new IdempotentResult<>(await(key, existing.response()), true);
+        }
+
+        try {
+            Optional<T> replay = replayStored(key, requestHash, responseType);
+            if (replay.isPresent()) {
+                mine.response().complete(replay.get());
+                return new IdempotentResult<>(replay.get(), true);
+            }
+
+            if (!store.reserve(key, requestHash, ttl)) {
+                // Requisição original em andamento em outro nó
+                T response = awaitStored(key, requestHash, responseType);
+                mine.response().complete(response);
+                return new IdempotentResult<>(response, true);
+            }
+
+            T response = runAndStore(key, action);
+            mine.response().complete(response);
+            return new IdempotentResult<>(response, false);
+
+        } catch (RuntimeException e) {
+            mine.response().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.idempotency.purge-interval:PT5M}")
+    public void purgeExpiredKeys() {
+        int purged = store.purgeExpired();
+        if (purged > 0 && logger.isDebugEnabled()) {
+            logger.debug("Chaves de idempotência expiradas removidas: {}", purged);
+        }
+    }
+
+    private <T> T runAndStore(String key, Supplier<T> action) {
+        T response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            store.release(key);
+            throw e;
+        }
+
+        try {
+            store.complete(key, objectMapper.writeValueAsString(response));
+        } catch (JsonProcessingException e) {
+            logger.error("Falha ao serializar resposta para chave de idempotência: {}", key, e);
+            store.release(key);
+        }
+        return response;
+    }
+
+    private <T> Optional<T> replayStored(String key, String requestHash, Class<T> responseType) {
+        Optional<IdempotencyRecord> stored = store.find(key);
+        if (stored.isEmpty() || !stored.get().isCompleted()) {
+            return Optional.empty();
+        }
+        ensureSameRequest(key, stored.get().requestHash(), requestHash);
+        return Optional.of(deserialize(stored.get().responseBody(), responseType));
+    }
+
+    private <T> T awaitStored(String key, String requestHash, Class<T> responseType) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (System.nanoTime() < deadline) {
+            Optional<T> replay = replayStored(key, requestHash, responseType);
+            if (replay.isPresent()) {
+                return replay.get();
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        throw new IdempotencyRequestInProgressException(key);
+    }
+
+    private <T> T await(String key, CompletableFuture<T> response) {
+        try {
+            return response.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new IdempotencyRequestInProgressException(key);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotencyRequestInProgressException(key);
+        }
+    }
+
+    private static void validateKey(String key) {
+        if (key == null || key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private void ensureSameRequest(String key, String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyKeyReuseException(key);
+        }
+    }
+
+    private <T> T deserialize(String body, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(body, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response cannot be read", e);
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Unable to fingerprint request", e);
+        }
+    }
+
+    private record InFlight<T>(String requestHash, CompletableFuture<T> response) {}
+
+    /**
+     * Resultado da execução idempotente; replayed indica resposta reaproveitada
+     */
+    public record IdempotentResult<T>(T response, boolean replayed) {}
+
+    public static class IdempotencyKeyReuseException extends RuntimeException {
+        public IdempotencyKeyReuseException(String key) {
+            super("Idempotency key already used with a different request: " + key);
+        }
+    }
+
+    public static class IdempotencyRequestInProgressException extends RuntimeException {
+        public IdempotencyRequestInProgressException(String key) {
+            super("Request with idempotency key is still being processed: " + key);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.seguradora.msorder.application.dto.ManualPaymentEventRequest;
 import com.seguradora.msorder.application.dto.ManualSubscriptionEventRequest;
 import com.seguradora.msorder.application.dto.PaymentEventData;
 import com.seguradora.msorder.application.dto.SubscriptionEventData;
+import com.seguradora.msorder.infrastructure.adapter.in.messaging.DeadLetterReplayService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,10 +25,13 @@ public class ManualEventController {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
     private final ObjectMapper objectMapper;
+    private final DeadLetterReplayService deadLetterReplayService;
 
-    public ManualEventController(KafkaTemplate<String, Object> kafkaTemplate, ObjectMapper objectMapper) {
+    public ManualEventController(KafkaTemplate<String, Object> kafkaTemplate, ObjectMapper objectMapper,
+                                 DeadLetterReplayService deadLetterReplayService) {
         this.kafkaTemplate = kafkaTemplate;
         this.objectMapper = objectMapper;
+        this.deadLetterReplayService = deadLetterReplayService;
     }
 
     @PostMapping("/payment")
@@ -92,6 +96,19 @@ public class ManualEventController {
         }
     }
 
+    /**
+     * Reenvia as mensagens do DLT do tópico informado para o tópico de origem
+     */
+    @PostMapping("/dlt/{topic}/replay")
+    public ResponseEntity<Object> replayDeadLetters(@PathVariable String topic,
+                                                    @RequestParam(defaultValue = "100") int maxRecords) {
+        logger.info("Iniciando replay do DLT do tópico {} (máximo {} mensagens)", topic, maxRecords);
+
+        int replayed = deadLetterReplayService.replay(topic, maxRecords);
+
+        return ResponseEntity.ok(java.util.Map.of("topic", topic, "replayed", replayed));
+    }
+
     @GetMapping("/topics")
     public ResponseEntity<Object> getAvailableTopics() {
         return ResponseEntity.ok(java.util.Map.of(
@@ -6,13 +6,18 @@ import com.seguradora.msorder.application.mapper.OrderMapper;
 import com.seguradora.msorder.core.domain.entity.Order;
 import com.seguradora.msorder.core.domain.valueobject.CustomerId;
 import com.seguradora.msorder.core.domain.valueobject.OrderId;
+import com.seguradora.msorder.core.domain.valueobject.CachedOrder;
 import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
 import com.seguradora.msorder.core.port.in.CreateOrderUseCase;
 import com.seguradora.msorder.core.port.in.GetOrderUseCase;
 import com.seguradora.msorder.core.port.in.ListOrdersUseCase;
 import com.seguradora.msorder.core.port.in.UpdateOrderStatusUseCase;
+import com.seguradora.msorder.core.usecase.order.OrderCacheKey;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -26,38 +31,116 @@ import java.util.List;
 @RequestMapping("/api/v1/orders")
 public class OrderController {
 
+    static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
     private final CreateOrderUseCase createOrderUseCase;
     private final GetOrderUseCase getOrderUseCase;
     private final ListOrdersUseCase listOrdersUseCase;
     private final UpdateOrderStatusUseCase updateOrderStatusUseCase;
     private final OrderMapper orderMapper;
+    private final IdempotentRequestHandler idempotentRequestHandler;
+    private final OrderLaneExecutor laneExecutor;
+
+    @Value("${order.multi-get.max-ids:100}")
+    private int maxIdsPerRequest = 100;
 
     public OrderController(CreateOrderUseCase createOrderUseCase,
                           GetOrderUseCase getOrderUseCase,
                           ListOrdersUseCase listOrdersUseCase,
                           UpdateOrderStatusUseCase updateOrderStatusUseCase,
-                          OrderMapper orderMapper) {
+                          OrderMapper orderMapper,
+                          IdempotentRequestHandler idempotentRequestHandler,
+                          OrderLaneExecutor laneExecutor) {
         this.createOrderUseCase = createOrderUseCase;
         this.getOrderUseCase = getOrderUseCase;
         this.listOrdersUseCase = listOrdersUseCase;
         this.updateOrderStatusUseCase = updateOrderStatusUseCase;
         this.orderMapper = orderMapper;
+        this.idempotentRequestHandler = idempotentRequestHandler;
+        this.laneExecutor = laneExecutor;
     }
 
     @PostMapping
-    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request) {
+    public ResponseEntity<OrderResponse> createOrder(@Valid @RequestBody CreateOrderRequest request,
+                                                     @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(create(request));
+        }
+
+        var result = idempotentRequestHandler.execute(idempotencyKey, request, OrderResponse.class, () -> create(request));
+        return ResponseEntity.status(HttpStatus.CREATED)
+            .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+            .body(result.response());
+    }
+
+    private OrderResponse create(CreateOrderRequest request) {
         var command = orderMapper.toCreateCommand(request);
         Order order = createOrderUseCase.createOrder(command);
-        OrderResponse response = orderMapper.toResponse(order);
-        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        return orderMapper.toResponse(order);
     }
 
+    /**
+     * ETag forte com a versão do pedido; com If-None-Match a versão é conferida pelo cache ou por
+     * uma consulta só da versão e, sem mudança, responde 304 sem reconstruir o pedido
+     */
     @GetMapping("/{orderId}")
-    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId) {
+    public ResponseEntity<OrderResponse> getOrder(@PathVariable String orderId,
+                                                  @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         var query = new GetOrderUseCase.GetOrderQuery(OrderId.of(orderId));
-        Order order = getOrderUseCase.getOrderById(query);
+
+        if (ifNoneMatch != null) {
+            String currentETag = eTagOf(getOrderUseCase.getOrderVersion(query));
+            if (matchesAny(ifNoneMatch, currentETag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentETag).build();
+            }
+        }
+
+        CachedOrder order = getOrderUseCase.getOrderById(query);
         OrderResponse response = orderMapper.toResponse(order);
-        return ResponseEntity.ok(response);
+        if (order.version() == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(eTagOf(order.version())).body(response);
+    }
+
+    static String eTagOf(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Comparação fraca do If-None-Match (RFC 9110): aceita lista, prefixo W/ e *
+     */
+    static boolean matchesAny(String ifNoneMatch, String eTag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Busca vários pedidos por ID (ids=a,b,c); ids inexistentes são omitidos da resposta
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<OrderResponse>> getOrdersByIds(@RequestParam List<String> ids) {
+        if (ids.size() > maxIdsPerRequest) {
+            throw new IllegalArgumentException("At most " + maxIdsPerRequest + " ids per request, got " + ids.size());
+        }
+        var query = new GetOrderUseCase.GetOrdersByIdsQuery(ids.stream()
+            .map(String::trim)
+            .filter(id -> !id.isEmpty())
+            .map(OrderId::of)
+            .toList());
+        List<OrderResponse> responses = getOrderUseCase.getOrdersByIds(query).stream()
+            .map(orderMapper::toResponse)
+            .toList();
+        return ResponseEntity.ok(responses);
     }
 
     @GetMapping
@@ -90,37 +173,37 @@ public class OrderController {
     }
 
     @PutMapping("/{orderId}/approve")
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public ResponseEntity<OrderResponse> approveOrder(@PathVariable String orderId) {
         var command = new UpdateOrderStatusUseCase.ApproveOrderCommand(OrderId.of(orderId));
-        Order order = updateOrderStatusUseCase.approveOrder(command);
+        Order order = laneExecutor.execute(orderId, () -> updateOrderStatusUseCase.approveOrder(command));
         OrderResponse response = orderMapper.toResponse(order);
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{orderId}/reject")
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public ResponseEntity<OrderResponse> rejectOrder(@PathVariable String orderId) {
         var command = new UpdateOrderStatusUseCase.RejectOrderCommand(OrderId.of(orderId));
-        Order order = updateOrderStatusUseCase.rejectOrder(command);
+        Order order = laneExecutor.execute(orderId, () -> updateOrderStatusUseCase.rejectOrder(command));
         OrderResponse response = orderMapper.toResponse(order);
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{orderId}/cancel")
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public ResponseEntity<OrderResponse> cancelOrder(@PathVariable String orderId) {
         var command = new UpdateOrderStatusUseCase.CancelOrderCommand(OrderId.of(orderId));
-        Order order = updateOrderStatusUseCase.cancelOrder(command);
+        Order order = laneExecutor.execute(orderId, () -> updateOrderStatusUseCase.cancelOrder(command));
         OrderResponse response = orderMapper.toResponse(order);
         return ResponseEntity.ok(response);
     }
 
     @PutMapping("/{orderId}/pending")
-    @CacheEvict(value = "orders", key = "#orderId")
+    @CacheEvict(value = OrderCacheKey.CACHE_NAME, key = "T(com.seguradora.msorder.core.usecase.order.OrderCacheKey).of(#orderId)")
     public ResponseEntity<OrderResponse> pendingOrder(@PathVariable String orderId) {
         var command = new UpdateOrderStatusUseCase.PendingOrderCommand(OrderId.of(orderId));
-        Order order = updateOrderStatusUseCase.pendingOrder(command);
+        Order order = laneExecutor.execute(orderId, () -> updateOrderStatusUseCase.pendingOrder(command));
         OrderResponse response = orderMapper.toResponse(order);
         return ResponseEntity.ok(response);
     }
@@ -0,0 +1,345 @@
+package com.seguradora.msorder.infrastructure.adapter.in.web;
+
+import com.seguradora.msorder.application.dto.OrderStatusUpdate;
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.port.out.OrderStatusNotifierPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Distribui as mudanças de status dos pedidos para as conexões SSE e long-poll abertas nesta instância.
+ *
+ * As notificações saem depois do commit da transição; as escritas de outras instâncias chegam pelo
+ * canal de invalidação do cache ({@link #changedElsewhere}). Cada conexão tem um buffer limitado: um cliente
+ * lento perde as atualizações mais antigas (a última sempre chega) sem segurar a thread que
+ * confirmou a transição nem as demais conexões. O envio fica num pool próprio.
+ */
+@Component
+public class OrderStatusStreamHub implements OrderStatusNotifierPort, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(OrderStatusStreamHub.class);
+
+    static final String STATUS_EVENT = "status";
+
+    private final ConcurrentMap<String, Set<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger sseConnections = new AtomicInteger();
+    private final AtomicInteger longPollConnections = new AtomicInteger();
+    private final ExecutorService sender;
+    private final int bufferSize;
+    private final int maxConnections;
+    private final long sseTimeoutMillis;
+
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+
+    public OrderStatusStreamHub(@Value("${order.stream.buffer-size:16}") int bufferSize,
+                                @Value("${order.stream.max-connections:5000}") int maxConnections,
+                                @Value("${order.stream.sse-timeout:PT30M}") Duration sseTimeout,
+                                @Value("${order.stream.sender-threads:4}") int senderThreads,
+                                MeterRegistry meterRegistry) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        this.maxConnections = maxConnections;
+        this.sseTimeoutMillis = sseTimeout.toMillis();
+        this.sender = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("OrderStream-"));
+
+        Gauge.builder("order.stream.connections", sseConnections, AtomicInteger::get)
+            .description("Conexões abertas nos streams de status")
+            .tag("channel", Channel.SSE.tag)
+            .register(meterRegistry);
+        Gauge.builder("order.stream.connections", longPollConnections, AtomicInteger::get)
+            .description("Conexões abertas nos streams de status")
+            .tag("channel", Channel.LONG_POLL.tag)
+            .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("order.stream.delivered")
+            .description("Atualizações de status entregues às conexões")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("order.stream.dropped")
+            .description("Atualizações descartadas por buffer cheio (cliente lento)")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.stream.rejected")
+            .description("Conexões recusadas pelo limite de conexões")
+            .register(meterRegistry);
+    }
+
+    public static String orderTopic(String orderId) {
+        return "order:" + orderId;
+    }
+
+    public static String customerTopic(String customerId) {
+        return "customer:" + customerId;
+    }
+
+    @Override
+    public void statusChanged(Order order) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        OrderStatusUpdate update = OrderStatusUpdate.from(order);
+
+        // Só avisa o que foi confirmado: um rollback não pode chegar aos clientes
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(update);
+                }
+            });
+        } else {
+            dispatch(update);
+        }
+    }
+
+    /**
+     * Pedido alterado por outra instância: relê o estado atual no pool de envio e distribui, só se houver
+     * conexão no tópico do pedido ou do cliente
+     * @param customerId cliente do pedido, vindo do aviso; null (exclusão ou aviso antigo) só alcança o
+     *                   tópico do pedido
+     * @param currentState estado confirmado do pedido (pode devolver null se ele não existe mais)
+     */
+    public void changedElsewhere(String orderId, String customerId, Supplier<OrderStatusUpdate> currentState) {
+        if (!hasSubscribers(orderTopic(orderId)) && (customerId == null || !hasSubscribers(customerTopic(customerId)))) {
+            return;
+        }
+        try {
+            sender.execute(() -> {
+                try {
+                    OrderStatusUpdate update = currentState.get();
+                    if (update != null) {
+                        dispatch(update);
+                    }
+                } catch (RuntimeException e) {
+                    logger.warn("Falha ao reler o pedido {} alterado em outra instância: {}", orderId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            logger.debug("Stream encerrado; mudança do pedido {} não distribuída", orderId);
+        }
+    }
+
+    private boolean hasSubscribers(String topic) {
+        return subscriptions.containsKey(topic);
+    }
+
+    void dispatch(OrderStatusUpdate update) {
+        offer(orderTopic(update.orderId()), update);
+        offer(customerTopic(update.customerId()), update);
+    }
+
+    private void offer(String topic, OrderStatusUpdate update) {
+        Set<Subscription> subscribers = subscriptions.get(topic);
+        if (subscribers != null) {
+            subscribers.forEach(subscription -> subscription.offer(update));
+        }
+    }
+
+    /**
+     * Abre um stream SSE para o tópico
+     * @param initialState estado atual enviado como primeiro evento (pode devolver null); lido depois da
+     *                     inscrição para que nenhuma transição fique entre a leitura e o stream
+     * @return vazio se o limite de conexões foi atingido
+     */
+    public Optional<SseEmitter> openStream(String topic, Supplier<OrderStatusUpdate> initialState) {
+        SseEmitter emitter = new SseEmitter(sseTimeoutMillis);
+        Optional<Subscription> subscription = subscribe(topic, Channel.SSE,
+            update -> emitter.send(SseEmitter.event().name(STATUS_EVENT).data(update)));
+        if (subscription.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Subscription s = subscription.get();
+        OrderStatusUpdate initial;
+        try {
+            initial = initialState.get();
+        } catch (RuntimeException e) {
+            s.close();
+            throw e;
+        }
+        s.onClose(emitter::complete);
+        emitter.onCompletion(s::close);
+        emitter.onTimeout(s::close);
+        emitter.onError(error -> s.close());
+        if (initial != null) {
+            s.offer(initial);
+        }
+        return Optional.of(emitter);
+    }
+
+    /**
+     * Inscrição de uso único para long-poll: o listener é chamado na primeira atualização do tópico
+     * @return vazio se o limite de conexões foi atingido
+     */
+    public Optional<Subscription> awaitNext(String topic, Runnable listener) {
+        return subscribe(topic, Channel.LONG_POLL, new Sink() {
+            private final AtomicBoolean fired = new AtomicBoolean();
+
+            @Override
+            public void send(OrderStatusUpdate update) {
+                if (fired.compareAndSet(false, true)) {
+                    listener.run();
+                }
+            }
+        });
+    }
+
+    Optional<Subscription> subscribe(String topic, Channel channel, Sink sink) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            rejectedCounter.increment();
+            logger.warn("Stream de status recusado para {}: limite de {} conexões atingido", topic, maxConnections);
+            return Optional.empty();
+        }
+        channel.counter(this).incrementAndGet();
+
+        Subscription subscription = new Subscription(topic, channel, sink);
+        subscriptions.computeIfAbsent(topic, key -> ConcurrentHashMap.newKeySet()).add(subscription);
+        return Optional.of(subscription);
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscriptions.computeIfPresent(subscription.topic, (key, subscribers) -> {
+            subscribers.remove(subscription);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        connections.decrementAndGet();
+        subscription.channel.counter(this).decrementAndGet();
+    }
+
+    public int getConnectionCount() {
+        return connections.get();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(Subscription::close));
+        sender.shutdown();
+        if (!sender.awaitTermination(5, TimeUnit.SECONDS)) {
+            sender.shutdownNow();
+        }
+    }
+
+    enum Channel {
+        SSE("sse"),
+        LONG_POLL("long-poll");
+
+        private final String tag;
+
+        Channel(String tag) {
+            this.tag = tag;
+        }
+
+        AtomicInteger counter(OrderStatusStreamHub hub) {
+            return this == SSE ? hub.sseConnections : hub.longPollConnections;
+        }
+    }
+
+    @FunctionalInterface
+    interface Sink {
+        void send(OrderStatusUpdate update) throws IOException;
+    }
+
+    /**
+     * Conexão inscrita em um tópico, com buffer próprio drenado por no máximo uma thread por vez
+     */
+    public final class Subscription {
+
+        private final String topic;
+        private final Channel channel;
+        private final Sink sink;
+        private final ArrayBlockingQueue<OrderStatusUpdate> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile Runnable onClose = () -> { };
+
+        private Subscription(String topic, Channel channel, Sink sink) {
+            this.topic = topic;
+            this.channel = channel;
+            this.sink = sink;
+        }
+
+        void offer(OrderStatusUpdate update) {
+            if (closed.get()) {
+                return;
+            }
+            while (!buffer.offer(update)) {
+                if (buffer.poll() != null) {
+                    droppedCounter.increment();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                OrderStatusUpdate update;
+                while (!closed.get() && (update = buffer.poll()) != null) {
+                    sink.send(update);
+                    deliveredCounter.increment();
+                }
+            } catch (IOException | RuntimeException e) {
+                logger.debug("Conexão do stream {} encerrada no envio: {}", topic, e.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // Atualização que chegou entre o último poll e a liberação do dreno
+            if (!closed.get() && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        void onClose(Runnable onClose) {
+            this.onClose = onClose;
+        }
+
+        /**
+         * Encerra a inscrição; chamadas repetidas são ignoradas
+         */
+        public void close() {
+            if (closed.compareAndSet(false, true)) {
+                buffer.clear();
+                unsubscribe(this);
+                try {
+                    onClose.run();
+                } catch (RuntimeException e) {
+                    logger.debug("Falha ao encerrar conexão do stream {}: {}", topic, e.getMessage());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.seguradora.msorder.infrastructure.adapter.in.web;
+
+import com.seguradora.msorder.application.dto.OrderResponse;
+import com.seguradora.msorder.application.dto.OrderStatusUpdate;
+import com.seguradora.msorder.application.mapper.OrderMapper;
+import com.seguradora.msorder.core.domain.valueobject.OrderId;
+import com.seguradora.msorder.core.domain.valueobject.CachedOrder;
+import com.seguradora.msorder.core.port.in.GetOrderUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Acompanhamento de status em tempo real, no lugar do polling de GET /api/v1/orders/{orderId}
+ *
+ * SSE por pedido ou por cliente e, para clientes sem SSE, long-poll condicional pelo ETag do pedido.
+ */
+@RestController
+@RequestMapping("/api/v1/orders")
+public class OrderStreamController {
+
+    static final String RETRY_AFTER_SECONDS = "5";
+
+    private final GetOrderUseCase getOrderUseCase;
+    private final OrderMapper orderMapper;
+    private final OrderStatusStreamHub streamHub;
+    private final long longPollTimeoutMillis;
+
+    public OrderStreamController(GetOrderUseCase getOrderUseCase,
+                                 OrderMapper orderMapper,
+                                 OrderStatusStreamHub streamHub,
+                                 @Value("${order.stream.long-poll-timeout:PT30S}") Duration longPollTimeout) {
+        this.getOrderUseCase = getOrderUseCase;
+        this.orderMapper = orderMapper;
+        this.streamHub = streamHub;
+        this.longPollTimeoutMillis = longPollTimeout.toMillis();
+    }
+
+    /**
+     * Stream SSE do pedido: o primeiro evento traz o status atual, os seguintes cada transição
+     */
+    @GetMapping(value = "/{orderId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOrder(@PathVariable String orderId) {
+        var query = new GetOrderUseCase.GetOrderQuery(OrderId.of(orderId));
+        return streamOrUnavailable(streamHub.openStream(OrderStatusStreamHub.orderTopic(orderId),
+            () -> OrderStatusUpdate.from(getOrderUseCase.getOrderById(query))));
+    }
+
+    /**
+     * Stream SSE das transições de todos os pedidos do cliente
+     */
+    @GetMapping(value = "/customer/{customerId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamCustomerOrders(@PathVariable String customerId) {
+        return streamOrUnavailable(streamHub.openStream(OrderStatusStreamHub.customerTopic(customerId), () -> null));
+    }
+
+    /**
+     * Long-poll: responde na hora se o pedido mudou desde o If-None-Match; senão espera a próxima
+     * transição até o timeout. No timeout a versão é conferida de novo (uma mudança pode ter escapado
+     * do aviso) e só sem mudança devolve 304
+     */
+    @GetMapping("/{orderId}/changes")
+    public DeferredResult<ResponseEntity<OrderResponse>> awaitOrderChange(
+            @PathVariable String orderId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        var query = new GetOrderUseCase.GetOrderQuery(OrderId.of(orderId));
+        DeferredResult<ResponseEntity<OrderResponse>> result = new DeferredResult<>(longPollTimeoutMillis);
+
+        if (ifNoneMatch == null) {
+            result.setResult(currentOrder(query));
+            return result;
+        }
+
+        // Inscreve antes de conferir a versão: uma transição entre a conferência e a espera não se perde
+        Optional<OrderStatusStreamHub.Subscription> subscription = streamHub.awaitNext(
+            OrderStatusStreamHub.orderTopic(orderId), () -> completeWithCurrentOrder(result, query));
+        if (subscription.isEmpty()) {
+            result.setResult(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build());
+            return result;
+        }
+        result.onCompletion(subscription.get()::close);
+
+        try {
+            String currentETag = OrderController.eTagOf(getOrderUseCase.getOrderVersion(query));
+            if (!OrderController.matchesAny(ifNoneMatch, currentETag)) {
+                completeWithCurrentOrder(result, query);
+            } else {
+                result.onTimeout(() -> completeOnTimeout(result, query, currentETag));
+            }
+        } catch (RuntimeException e) {
+            subscription.get().close();
+            throw e;
+        }
+        return result;
+    }
+
+    private void completeOnTimeout(DeferredResult<ResponseEntity<OrderResponse>> result,
+                                   GetOrderUseCase.GetOrderQuery query, String awaitedETag) {
+        try {
+            if (awaitedETag.equals(OrderController.eTagOf(getOrderUseCase.getOrderVersion(query)))) {
+                result.setResult(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(awaitedETag).build());
+            } else {
+                result.setResult(currentOrder(query));
+            }
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+    }
+
+    private void completeWithCurrentOrder(DeferredResult<ResponseEntity<OrderResponse>> result,
+                                          GetOrderUseCase.GetOrderQuery query) {
+        try {
+            result.setResult(currentOrder(query));
+        } catch (RuntimeException e) {
+            result.setErrorResult(e);
+        }
+    }
+
+    private ResponseEntity<OrderResponse> currentOrder(GetOrderUseCase.GetOrderQuery query) {
+        CachedOrder order = getOrderUseCase.getOrderById(query);
+        OrderResponse response = orderMapper.toResponse(order);
+        if (order.version() == null) {
+            return ResponseEntity.ok(response);
+        }
+        return ResponseEntity.ok().eTag(OrderController.eTagOf(order.version())).body(response);
+    }
+
+    private static ResponseEntity<SseEmitter> streamOrUnavailable(Optional<SseEmitter> emitter) {
+        return emitter
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS).build());
+    }
+}
@@ -1,6 +1,9 @@
 package com.seguradora.msorder.infrastructure.adapter.in.web.exception;
 
+import com.seguradora.msorder.core.usecase.order.CreateOrderService;
 import com.seguradora.msorder.core.usecase.order.GetOrderService;
+import com.seguradora.msorder.infrastructure.adapter.in.web.IdempotentRequestHandler;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.OrderEventPublishTracker;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -61,6 +64,45 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    @ExceptionHandler(CreateOrderService.CustomerBlockedException.class)
+    public ResponseEntity<ErrorResponse> handleCustomerBlocked(CreateOrderService.CustomerBlockedException ex) {
+        logger.warn("Customer blocked: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+            "CUSTOMER_BLOCKED",
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
+    @ExceptionHandler(IdempotentRequestHandler.IdempotencyKeyReuseException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyKeyReuse(IdempotentRequestHandler.IdempotencyKeyReuseException ex) {
+        logger.warn("Idempotency key reuse: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+            "IDEMPOTENCY_KEY_REUSED",
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(error);
+    }
+
+    @ExceptionHandler(IdempotentRequestHandler.IdempotencyRequestInProgressException.class)
+    public ResponseEntity<ErrorResponse> handleIdempotencyInProgress(IdempotentRequestHandler.IdempotencyRequestInProgressException ex) {
+        logger.warn("Idempotent request in progress: {}", ex.getMessage());
+
+        ErrorResponse error = new ErrorResponse(
+            "IDEMPOTENCY_REQUEST_IN_PROGRESS",
+            ex.getMessage(),
+            LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).header("Retry-After", "1").body(error);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidation(MethodArgumentNotValidException ex) {
         logger.error("Validation error: {}", ex.getMessage());
@@ -84,6 +126,19 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGeneral(Exception ex) {
+        // A recusa do publicador chega embrulhada pelo caso de uso; o cliente deve tentar novamente
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OrderEventPublishTracker.PublisherSaturatedException) {
+                logger.warn("Event publisher saturated: {}", cause.getMessage());
+                ErrorResponse error = new ErrorResponse(
+                    "EVENT_PUBLISHER_SATURATED",
+                    cause.getMessage(),
+                    LocalDateTime.now()
+                );
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").body(error);
+            }
+        }
+
         logger.error("Unexpected error: {}", ex.getMessage(), ex);
 
         ErrorResponse error = new ErrorResponse(
@@ -0,0 +1,184 @@
+package com.seguradora.msorder.infrastructure.adapter.out.external;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import com.seguradora.msorder.core.port.out.BlockedCustomerPort;
+import com.seguradora.msorder.infrastructure.adapter.out.external.dto.CustomerBlockedResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cópia local da lista de clientes bloqueados da API de fraudes.
+ *
+ * Carga completa em GET /api/v1/fraud/blocked-customers e, entre cargas completas, só as mudanças
+ * (?updatedSince=) com bloqueios e desbloqueios. A consulta passa primeiro pelo bloom filter e só
+ * os "pode conter" são confirmados no conjunto exato. Até a primeira carga nenhum cliente é
+ * considerado bloqueado; falhas de atualização mantêm a última lista carregada.
+ */
+@Component
+public class BlockedCustomerAdapter implements BlockedCustomerPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(BlockedCustomerAdapter.class);
+
+    private static final String PATH = "/api/v1/fraud/blocked-customers";
+
+    private final RestTemplate restTemplate;
+    private final String fraudApiBaseUrl;
+    private final boolean enabled;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration fullReloadInterval;
+
+    private volatile Snapshot snapshot;
+    private Instant lastSync;
+    private Instant lastFullLoad;
+
+    private final Counter falsePositives;
+    private final Counter refreshFailures;
+
+    @Autowired
+    public BlockedCustomerAdapter(@Value("${fraud-api.base-url:http://localhost:8081}") String fraudApiBaseUrl,
+                                  @Value("${order.blocked-customers.enabled:false}") boolean enabled,
+                                  @Value("${order.blocked-customers.expected-insertions:100000}") int expectedInsertions,
+                                  @Value("${order.blocked-customers.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${order.blocked-customers.full-reload-interval:PT1H}") Duration fullReloadInterval,
+                                  @Value("${order.blocked-customers.connect-timeout:PT2S}") Duration connectTimeout,
+                                  @Value("${order.blocked-customers.read-timeout:PT10S}") Duration readTimeout,
+                                  MeterRegistry meterRegistry) {
+        this(restTemplate(connectTimeout, readTimeout), fraudApiBaseUrl, enabled, expectedInsertions, falsePositiveRate,
+            fullReloadInterval, meterRegistry);
+    }
+
+    /**
+     * Sem timeout uma API de fraudes pendurada prenderia a thread do agendador, compartilhada com
+     * os demais jobs @Scheduled
+     */
+    static RestTemplate restTemplate(Duration connectTimeout, Duration readTimeout) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(connectTimeout);
+        requestFactory.setReadTimeout(readTimeout);
+        return new RestTemplate(requestFactory);
+    }
+
+    BlockedCustomerAdapter(RestTemplate restTemplate, String fraudApiBaseUrl, boolean enabled, int expectedInsertions,
+                           double falsePositiveRate, Duration fullReloadInterval, MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.fraudApiBaseUrl = fraudApiBaseUrl;
+        this.enabled = enabled;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.fullReloadInterval = fullReloadInterval;
+        this.snapshot = new Snapshot(new CustomerBloomFilter(expectedInsertions, falsePositiveRate),
+            ConcurrentHashMap.newKeySet());
+
+        this.falsePositives = Counter.builder("order.blocked-customers.filter.false-positives")
+            .description("Clientes que passaram pelo bloom filter mas não estão no conjunto exato")
+            .register(meterRegistry);
+        this.refreshFailures = Counter.builder("order.blocked-customers.refresh.failures")
+            .description("Atualizações da lista de bloqueio que falharam")
+            .register(meterRegistry);
+        Gauge.builder("order.blocked-customers.size", this, BlockedCustomerAdapter::size)
+            .description("Clientes bloqueados na cópia local")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean isBlocked(CustomerId customerId) {
+        Snapshot current = snapshot;
+        String id = customerId.getValue();
+        if (!current.filter().mightContain(id)) {
+            return false;
+        }
+        if (current.blocked().contains(id)) {
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${order.blocked-customers.refresh-interval:PT1M}")
+    public synchronized void refresh() {
+        if (!enabled) {
+            return;
+        }
+        Instant startedAt = Instant.now();
+        try {
+            if (lastFullLoad == null || Duration.between(lastFullLoad, startedAt).compareTo(fullReloadInterval) >= 0) {
+                fullLoad();
+                lastFullLoad = startedAt;
+            } else {
+                applyChangesSince(lastSync);
+            }
+            // Próxima consulta parte do início desta, para não perder mudanças feitas durante a chamada
+            lastSync = startedAt;
+        } catch (RestClientException e) {
+            refreshFailures.increment();
+            logger.warn("Falha ao atualizar lista de clientes bloqueados; mantendo {} clientes", size(), e);
+        }
+    }
+
+    private void fullLoad() {
+        List<CustomerBlockedResponse> entries = fetch(fraudApiBaseUrl + PATH);
+        Set<String> blocked = ConcurrentHashMap.newKeySet();
+        for (CustomerBlockedResponse entry : entries) {
+            if (entry.isBlocked()) {
+                blocked.add(entry.customerId());
+            }
+        }
+
+        // Lista maior que o esperado: dimensiona o filtro pela lista para manter a taxa de falso positivo
+        CustomerBloomFilter filter = new CustomerBloomFilter(Math.max(expectedInsertions, blocked.size()),
+            falsePositiveRate);
+        blocked.forEach(filter::put);
+        snapshot = new Snapshot(filter, blocked);
+        logger.info("Lista de clientes bloqueados carregada: {} clientes", blocked.size());
+    }
+
+    private void applyChangesSince(Instant since) {
+        String url = UriComponentsBuilder.fromHttpUrl(fraudApiBaseUrl + PATH)
+            .queryParam("updatedSince", since.toString())
+            .toUriString();
+        List<CustomerBlockedResponse> changes = fetch(url);
+
+        Snapshot current = snapshot;
+        for (CustomerBlockedResponse change : changes) {
+            if (change.isBlocked()) {
+                current.filter().put(change.customerId());
+                current.blocked().add(change.customerId());
+            } else {
+                // O bloom filter não remove: o id vira falso positivo até a próxima carga completa
+                current.blocked().remove(change.customerId());
+            }
+        }
+        if (!changes.isEmpty()) {
+            logger.info("Lista de clientes bloqueados atualizada: {} mudanças, {} clientes", changes.size(), size());
+        }
+    }
+
+    private List<CustomerBlockedResponse> fetch(String url) {
+        CustomerBlockedResponse[] response = restTemplate.getForObject(url, CustomerBlockedResponse[].class);
+        return response != null ? List.of(response) : List.of();
+    }
+
+    public int size() {
+        return snapshot.blocked().size();
+    }
+
+    private record Snapshot(CustomerBloomFilter filter, Set<String> blocked) {}
+}
@@ -0,0 +1,81 @@
+package com.seguradora.msorder.infrastructure.adapter.out.external;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bloom filter de ids de cliente: "não contém" é definitivo, "pode conter" precisa de confirmação.
+ *
+ * Tamanho e número de funções de hash calculados para a quantidade esperada de ids e a taxa de
+ * falso positivo desejada. Inserções e consultas podem ser concorrentes.
+ */
+final class CustomerBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final int bitCount;
+    private final int hashFunctions;
+
+    CustomerBloomFilter(int expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be in (0, 1): " + falsePositiveRate);
+        }
+        int insertions = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-insertions * Math.log(falsePositiveRate) / (LN2 * LN2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63L, Math.max(Long.SIZE, bits));
+        this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / insertions * LN2));
+        this.words = new AtomicLongArray((bitCount + Long.SIZE - 1) / Long.SIZE);
+    }
+
+    void put(String customerId) {
+        long hash = hash64(customerId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = bitIndex(h1, h2, i);
+            long mask = 1L << bit;
+            words.getAndAccumulate(bit >>> 6, mask, (current, m) -> current | m);
+        }
+    }
+
+    boolean mightContain(String customerId) {
+        long hash = hash64(customerId);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 0; i < hashFunctions; i++) {
+            int bit = bitIndex(h1, h2, i);
+            if ((words.get(bit >>> 6) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int bitCount() {
+        return bitCount;
+    }
+
+    int hashFunctions() {
+        return hashFunctions;
+    }
+
+    // Double hashing (Kirsch-Mitzenmacher): k índices a partir de dois hashes de 32 bits
+    private int bitIndex(int h1, int h2, int i) {
+        return (int) Math.floorMod(h1 + (long) i * h2, (long) bitCount);
+    }
+
+    // FNV-1a 64 bits seguido do finalizador do MurmurHash3 para espalhar os bits
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -3,37 +3,68 @@ package com.seguradora.msorder.infrastructure.adapter.out.external;
 import com.seguradora.msorder.core.port.out.FraudAnalysisPort;
 import com.seguradora.msorder.infrastructure.adapter.out.external.dto.FraudAnalysisRequest;
 import com.seguradora.msorder.infrastructure.adapter.out.external.dto.FraudAnalysisResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Com hedging ligado (fraud.analysis.hedging.enabled), a análise é feita por um
+ * {@link HedgedRequestExecutor}: chamadas mais lentas que o percentil configurado ganham uma
+ * segunda chamada, dentro do orçamento global de hedges.
+ */
 @Component
 public class FraudAnalysisAdapter implements FraudAnalysisPort {
 
     private final RestTemplate restTemplate;
     private final String fraudApiBaseUrl;
+    private final HedgedRequestExecutor hedgedExecutor;
 
+    @Autowired
     public FraudAnalysisAdapter(
-            @Value("${fraud-api.base-url:http://localhost:8081}") String fraudApiBaseUrl) {
-        this.restTemplate = new RestTemplate();
+            @Value("${fraud-api.base-url:http://localhost:8081}") String fraudApiBaseUrl,
+            ObjectProvider<HedgedRequestExecutor> hedgedExecutor) {
+        this(new RestTemplate(), fraudApiBaseUrl, hedgedExecutor.getIfAvailable());
+    }
+
+    FraudAnalysisAdapter(RestTemplate restTemplate, String fraudApiBaseUrl, HedgedRequestExecutor hedgedExecutor) {
+        this.restTemplate = restTemplate;
         this.fraudApiBaseUrl = fraudApiBaseUrl;
+        this.hedgedExecutor = hedgedExecutor;
     }
 
+    /**
+     * @throws FraudAnalysisUnavailableException se a API falhar ou não devolver classificação,
+     *         para que o chamador aplique o seu fallback
+     */
     @Override
     public String analyzeRisk(FraudAnalysisRequest request) {
+        FraudAnalysisResponse response;
         try {
-            String url = fraudApiBaseUrl + "/api/v1/fraud/analyze";
-            FraudAnalysisResponse response = restTemplate.postForObject(
-                    url, request, FraudAnalysisResponse.class);
-
-            if (response != null) {
-                return response.getClassification() != null ?
-                        response.getClassification() :
-                        response.getRiskLevel();
-            }
-            return "REGULAR";
+            response = hedgedExecutor != null
+                ? hedgedExecutor.execute(() -> requestAnalysis(request))
+                : requestAnalysis(request);
         } catch (Exception e) {
-            return "REGULAR";
+            throw new FraudAnalysisUnavailableException("Fraud API call failed for order " + request.orderId(), e);
+        }
+
+        if (response == null) {
+            throw new FraudAnalysisUnavailableException("Fraud API returned no body for order " + request.orderId(), null);
+        }
+        return response.getClassification() != null ?
+                response.getClassification() :
+                response.getRiskLevel();
+    }
+
+    private FraudAnalysisResponse requestAnalysis(FraudAnalysisRequest request) {
+        String url = fraudApiBaseUrl + "/api/v1/fraud/analyze";
+        return restTemplate.postForObject(url, request, FraudAnalysisResponse.class);
+    }
+
+    public static class FraudAnalysisUnavailableException extends RuntimeException {
+        public FraudAnalysisUnavailableException(String message, Throwable cause) {
+            super(message, cause);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,212 @@
+package com.seguradora.msorder.infrastructure.adapter.out.external;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Executa uma chamada remota com hedging: se a resposta não chega dentro do percentil configurado
+ * da latência recente, uma segunda chamada idêntica é disparada e vale a primeira resposta bem-sucedida.
+ *
+ * As chamadas extras são limitadas por um orçamento global: cada chamada principal deposita
+ * budgetPercent centésimos de crédito (até um teto) e cada hedge consome um crédito inteiro.
+ */
+public class HedgedRequestExecutor implements DisposableBean {
+
+    private static final int WINDOW_SIZE = 512;
+    private static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 32;
+    private static final long HEDGE_COST = 100;
+    private static final long MAX_BUDGET = 10 * HEDGE_COST;
+
+    private final double percentile;
+    private final long minDelayMillis;
+    private final long budgetPercent;
+    private final ThreadPoolExecutor pool;
+
+    // Janela circular das latências (ms) das chamadas principais bem-sucedidas
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private long samples;
+    private int next;
+    private volatile long delayMillis;
+
+    private final AtomicLong budget = new AtomicLong(MAX_BUDGET);
+
+    private final Counter requests;
+    private final Counter hedges;
+    private final Counter hedgeWins;
+    private final Counter budgetExhausted;
+
+    public HedgedRequestExecutor(String threadNamePrefix, double percentile, long initialDelayMillis,
+                                 long minDelayMillis, int budgetPercent, int maxConcurrency,
+                                 String metricPrefix, MeterRegistry meterRegistry) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("Percentile must be in (0, 1): " + percentile);
+        }
+        this.percentile = percentile;
+        this.minDelayMillis = minDelayMillis;
+        this.budgetPercent = budgetPercent;
+        this.delayMillis = Math.max(minDelayMillis, initialDelayMillis);
+        this.pool = new ThreadPoolExecutor(0, maxConcurrency, 60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+            new CustomizableThreadFactory(threadNamePrefix), new ThreadPoolExecutor.AbortPolicy());
+
+        this.requests = Counter.builder(metricPrefix + ".requests")
+            .description("Chamadas principais feitas pelo executor com hedging")
+            .register(meterRegistry);
+        this.hedges = Counter.builder(metricPrefix + ".hedges")
+            .description("Chamadas extras disparadas por demora da principal")
+            .register(meterRegistry);
+        this.hedgeWins = Counter.builder(metricPrefix + ".hedge.wins")
+            .description("Hedges que responderam antes da chamada principal")
+            .register(meterRegistry);
+        this.budgetExhausted = Counter.builder(metricPrefix + ".hedge.budget-exhausted")
+            .description("Hedges não disparados por falta de orçamento")
+            .register(meterRegistry);
+        Gauge.builder(metricPrefix + ".hedge.delay", this, HedgedRequestExecutor::getDelayMillis)
+            .description("Espera (ms) antes de disparar o hedge")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @return a primeira resposta bem-sucedida; a exceção da última chamada se todas falharem
+     */
+    public <T> T execute(Supplier<T> call) {
+        requests.increment();
+        deposit();
+
+        long startedAt = System.nanoTime();
+        CompletableFuture<T> primary = submit(call);
+        if (primary == null) {
+            // Sem thread livre: chamada direta, sem hedge
+            return call.get();
+        }
+        // Arredonda para cima: truncar deixaria a espera abaixo da latência típica e dispararia hedges à toa
+        primary.thenRun(() -> record((System.nanoTime() - startedAt + 999_999) / 1_000_000));
+
+        try {
+            return primary.get(delayMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return hedge(call, primary);
+        } catch (ExecutionException e) {
+            throw propagate(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for response", e);
+        }
+    }
+
+    private <T> T hedge(Supplier<T> call, CompletableFuture<T> primary) {
+        if (!tryAcquireBudget()) {
+            budgetExhausted.increment();
+            return join(primary);
+        }
+        CompletableFuture<T> secondary = submit(call);
+        if (secondary == null) {
+            return join(primary);
+        }
+        hedges.increment();
+
+        CompletableFuture<T> first = new CompletableFuture<>();
+        AtomicInteger failures = new AtomicInteger();
+        primary.whenComplete((result, error) -> complete(first, result, error, failures));
+        secondary.whenComplete((result, error) -> {
+            if (error == null && complete(first, result, null, failures)) {
+                hedgeWins.increment();
+            } else if (error != null) {
+                complete(first, null, error, failures);
+            }
+        });
+        return join(first);
+    }
+
+    /**
+     * Sucesso completa na hora; falha só completa quando as duas chamadas falharam
+     */
+    private static <T> boolean complete(CompletableFuture<T> first, T result, Throwable error, AtomicInteger failures) {
+        if (error == null) {
+            return first.complete(result);
+        }
+        if (failures.incrementAndGet() == 2) {
+            first.completeExceptionally(error);
+        }
+        return false;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> call) {
+        try {
+            return CompletableFuture.supplyAsync(call, pool);
+        } catch (RejectedExecutionException e) {
+            return null;
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw propagate(e.getCause());
+        }
+    }
+
+    private static RuntimeException propagate(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+    }
+
+    private void deposit() {
+        budget.accumulateAndGet(budgetPercent, (current, amount) -> Math.min(MAX_BUDGET, current + amount));
+    }
+
+    boolean tryAcquireBudget() {
+        long current;
+        do {
+            current = budget.get();
+            if (current < HEDGE_COST) {
+                return false;
+            }
+        } while (!budget.compareAndSet(current, current - HEDGE_COST));
+        return true;
+    }
+
+    /**
+     * Registra a latência e recalcula o atraso do hedge a cada RECOMPUTE_EVERY amostras
+     */
+    synchronized void record(long latencyMillis) {
+        latencies[next] = latencyMillis;
+        next = (next + 1) % WINDOW_SIZE;
+        samples++;
+        if (samples >= MIN_SAMPLES && samples % RECOMPUTE_EVERY == 0 || samples == MIN_SAMPLES) {
+            long[] window = Arrays.copyOf(latencies, (int) Math.min(samples, WINDOW_SIZE));
+            Arrays.sort(window);
+            int index = (int) Math.ceil(percentile * window.length) - 1;
+            delayMillis = Math.max(minDelayMillis, window[Math.max(0, index)]);
+        }
+    }
+
+    public long getDelayMillis() {
+        return delayMillis;
+    }
+
+    @Override
+    public void destroy() {
+        pool.shutdownNow();
+    }
+}
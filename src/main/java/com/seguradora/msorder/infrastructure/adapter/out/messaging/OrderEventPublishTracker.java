@@ -0,0 +1,123 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Controla os envios para order-events ainda sem confirmação do broker.
+ * Limita quantos podem estar em voo ao mesmo tempo e registra latência e falhas das confirmações.
+ */
+@Component
+public class OrderEventPublishTracker {
+
+    private final int maxInFlight;
+    private final long acquireTimeoutMs;
+    private final Semaphore permits;
+    private final ConcurrentSkipListMap<Long, Long> pending = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final Timer latency;
+    private final Counter failureCounter;
+    private final Counter rejectedCounter;
+
+    public OrderEventPublishTracker(@Value("${order.events.publisher.max-in-flight:1000}") int maxInFlight,
+                                    @Value("${order.events.publisher.acquire-timeout-ms:50}") long acquireTimeoutMs,
+                                    MeterRegistry meterRegistry) {
+        this.maxInFlight = maxInFlight;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+        this.permits = new Semaphore(maxInFlight);
+        this.latency = Timer.builder("order.events.publish.latency")
+            .description("Tempo entre o envio e a confirmação do broker")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.failureCounter = Counter.builder("order.events.publish.failures")
+            .description("Envios confirmados com erro")
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.events.publish.rejected")
+            .description("Envios recusados por excesso de mensagens em voo")
+            .register(meterRegistry);
+        Gauge.builder("order.events.publish.in-flight", pending, Map::size)
+            .description("Envios aguardando confirmação do broker")
+            .register(meterRegistry);
+        Gauge.builder("order.events.publish.oldest-pending", this, tracker -> tracker.oldestPendingAge().toMillis())
+            .description("Idade em ms do envio mais antigo sem confirmação")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Reserva uma vaga para um novo envio, esperando no máximo acquire-timeout-ms
+     * @return ticket a ser informado em {@link #complete(long, Throwable)}
+     * @throws PublisherSaturatedException quando o limite de mensagens em voo foi atingido
+     */
+    public long begin() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                rejectedCounter.increment();
+                throw new PublisherSaturatedException(maxInFlight);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PublisherSaturatedException(maxInFlight);
+        }
+        long ticket = sequence.incrementAndGet();
+        pending.put(ticket, System.nanoTime());
+        return ticket;
+    }
+
+    /**
+     * Libera a vaga do envio e registra o resultado da confirmação
+     */
+    public void complete(long ticket, Throwable error) {
+        Long startNanos = pending.remove(ticket);
+        if (startNanos == null) {
+            return;
+        }
+        permits.release();
+        latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        if (error != null) {
+            failures.incrementAndGet();
+            failureCounter.increment();
+        }
+    }
+
+    public int inFlight() {
+        return pending.size();
+    }
+
+    public int maxInFlight() {
+        return maxInFlight;
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    /**
+     * Há quanto tempo o envio mais antigo aguarda confirmação (zero se não houver pendentes)
+     */
+    public Duration oldestPendingAge() {
+        Map.Entry<Long, Long> oldest = pending.firstEntry();
+        if (oldest == null) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, System.nanoTime() - oldest.getValue()));
+    }
+
+    public static class PublisherSaturatedException extends RuntimeException {
+        public PublisherSaturatedException(int maxInFlight) {
+            super("Limite de " + maxInFlight + " eventos aguardando confirmação do Kafka atingido");
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.seguradora.msorder.infrastructure.adapter.out.messaging;
 
 import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
 import org.slf4j.Logger;
@@ -8,6 +9,8 @@ import org.slf4j.LoggerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Adaptador de mensageria Kafka que implementa a porta de publicação de eventos
  */
@@ -19,120 +22,95 @@ public class OrderEventPublisherAdapter implements OrderEventPublisherPort {
     private static final String ORDER_TOPIC = "order-events";
 
     private final KafkaTemplate<String, OrderEvent> kafkaTemplate;
+    private final OrderEventPublishTracker publishTracker;
 
-    public OrderEventPublisherAdapter(KafkaTemplate<String, OrderEvent> kafkaTemplate) {
+    public OrderEventPublisherAdapter(KafkaTemplate<String, OrderEvent> kafkaTemplate,
+                                      OrderEventPublishTracker publishTracker) {
         this.kafkaTemplate = kafkaTemplate;
+        this.publishTracker = publishTracker;
     }
 
     @Override
     public void publishOrderCreated(Order order) {
-        OrderEvent event = OrderEvent.orderCreated(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.orderCreated(order);
         publishEvent(event);
         logger.info("Published ORDER_RECEIVED event for order: {}", order.getId());
     }
 
     @Override
     public void publishOrderValidated(Order order) {
-        OrderEvent event = OrderEvent.orderValidated(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.orderValidated(order);
         publishEvent(event);
         logger.info("Published ORDER_VALIDATED event for order: {}", order.getId());
     }
 
     @Override
     public void publishOrderPending(Order order) {
-        OrderEvent event = OrderEvent.orderPending(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.orderPending(order);
         publishEvent(event);
         logger.info("Published ORDER_PENDING event for order: {}", order.getId());
     }
 
     @Override
     public void publishOrderRejected(Order order) {
-        OrderEvent event = OrderEvent.orderRejected(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.orderRejected(order);
         publishEvent(event);
         logger.info("Published ORDER_REJECTED event for order: {}", order.getId());
     }
 
     @Override
     public void publishOrderCancelled(Order order) {
-        OrderEvent event = OrderEvent.orderCancelled(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.orderCancelled(order);
         publishEvent(event);
         logger.info("Published ORDER_CANCELLED event for order: {}", order.getId());
     }
 
     @Override
     public void publishSubscriptionApproved(Order order) {
-        OrderEvent event = OrderEvent.subscriptionApproved(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.subscriptionApproved(order);
         publishEvent(event);
         logger.info("Published SUBSCRIPTION_APPROVED event for order: {}", order.getId());
     }
 
     @Override
     public void publishPaymentApproved(Order order) {
-        OrderEvent event = OrderEvent.paymentApproved(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.paymentApproved(order);
         publishEvent(event);
         logger.info("Published PAYMENT_APPROVED event for order: {}", order.getId());
     }
 
     @Override
     public void publishOrderApproved(Order order) {
-        OrderEvent event = OrderEvent.orderApproved(
-            order.getId().toString(),
-            order.getCustomerId().toString(),
-            order.getCategory(),
-            order.getInsuredAmount(),
-            order.getDescription()
-        );
+        OrderEvent event = OrderEvent.orderApproved(order);
         publishEvent(event);
         logger.info("Published ORDER_APPROVED event for order: {}", order.getId());
     }
 
+    @Override
+    public void publishOrderTransitions(Order order, List<OrderStatus> transitions) {
+        OrderEvent event = OrderEvent.transitions(order, transitions);
+        publishEvent(event);
+        logger.info("Published ORDER_TRANSITIONS event {} for order: {}", transitions, order.getId());
+    }
+
+    /**
+     * Envia o evento sem aguardar o broker; a confirmação (ou falha) chega pelo callback.
+     * Se houver eventos demais aguardando confirmação, recusa de imediato em vez de bloquear no buffer do producer.
+     */
     private void publishEvent(OrderEvent event) {
+        long ticket = publishTracker.begin();
         try {
-            kafkaTemplate.send(ORDER_TOPIC, event.orderId(), event);
-            logger.debug("Event published successfully: {}", event);
+            kafkaTemplate.send(ORDER_TOPIC, event.orderId(), event)
+                .whenComplete((result, ex) -> {
+                    publishTracker.complete(ticket, ex);
+                    if (ex != null) {
+                        logger.error("Broker did not acknowledge event: {}", event, ex);
+                    } else {
+                        logger.debug("Event acknowledged: {}", event);
+                    }
+                });
         } catch (Exception e) {
+            publishTracker.complete(ticket, e);
             logger.error("Error publishing event: {}", event, e);
             throw new RuntimeException("Failed to publish event", e);
         }
@@ -0,0 +1,44 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Saúde do publicador de order-events: OUT_OF_SERVICE quando o limite de mensagens em voo foi atingido
+ * ou quando a confirmação mais antiga está atrasada além de max-lag-ms. Não é DOWN porque a instância
+ * se recupera sozinha quando o broker volta; tirá-la da readiness basta, reiniciar não ajuda.
+ */
+@Component("orderEventPublisher")
+public class OrderEventPublisherHealthIndicator implements HealthIndicator {
+
+    private final OrderEventPublishTracker publishTracker;
+    private final Duration maxLag;
+
+    public OrderEventPublisherHealthIndicator(OrderEventPublishTracker publishTracker,
+                                              @Value("${order.events.publisher.max-lag-ms:10000}") long maxLagMs) {
+        this.publishTracker = publishTracker;
+        this.maxLag = Duration.ofMillis(maxLagMs);
+    }
+
+    @Override
+    public Health health() {
+        int inFlight = publishTracker.inFlight();
+        Duration lag = publishTracker.oldestPendingAge();
+
+        Health.Builder builder = inFlight >= publishTracker.maxInFlight() || lag.compareTo(maxLag) > 0
+            ? Health.outOfService()
+            : Health.up();
+
+        return builder
+            .withDetail("inFlight", inFlight)
+            .withDetail("maxInFlight", publishTracker.maxInFlight())
+            .withDetail("oldestPendingMs", lag.toMillis())
+            .withDetail("maxLagMs", maxLag.toMillis())
+            .withDetail("failures", publishTracker.failures())
+            .build();
+    }
+}
@@ -1,13 +1,24 @@
 package com.seguradora.msorder.infrastructure.adapter.out.messaging.event;
 
+import com.seguradora.msorder.core.domain.entity.Order;
 import com.seguradora.msorder.core.domain.valueobject.InsuranceType;
+import com.seguradora.msorder.core.domain.valueobject.OrderHistory;
 import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+import com.seguradora.msorder.core.domain.valueobject.PaymentMethod;
+import com.seguradora.msorder.core.domain.valueobject.SalesChannel;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Evento base para pedidos
+ *
+ * A partir da versão 2 o evento é autocontido: traz a transição que o originou (fromStatus e
+ * reason) e o snapshot do pedido, para que consumidores não precisem consultar a API.
+ * A versão 3 acrescenta transitions, preenchido apenas no evento ORDER_TRANSITIONS, que agrupa
+ * em um único registro a sequência ordenada de transições de um mesmo processamento.
  */
 public record OrderEvent(
     String orderId,
@@ -17,66 +28,217 @@ public record OrderEvent(
     BigDecimal amount,
     String description,
     LocalDateTime timestamp,
-    String eventType
+    String eventType,
+    int schemaVersion,
+    OrderStatus fromStatus,
+    String reason,
+    OrderSnapshot order,
+    List<Transition> transitions
 ) {
 
-    public static OrderEvent orderCreated(String orderId, String customerId, InsuranceType insuranceType,
-                                         BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.RECEIVED,
-                             amount, description, LocalDateTime.now(), "ORDER_RECEIVED");
+    public static final int SCHEMA_VERSION = 3;
+
+    public static final String TRANSITIONS_EVENT_TYPE = "ORDER_TRANSITIONS";
+
+    /**
+     * Evento na versão 1 (sem transição nem snapshot)
+     */
+    public OrderEvent(String orderId, String customerId, InsuranceType insuranceType, OrderStatus status,
+                      BigDecimal amount, String description, LocalDateTime timestamp, String eventType) {
+        this(orderId, customerId, insuranceType, status, amount, description, timestamp, eventType, 1, null, null, null, null);
+    }
+
+    /**
+     * Estado completo do pedido no momento do evento
+     */
+    public record OrderSnapshot(
+        String productId,
+        SalesChannel salesChannel,
+        PaymentMethod paymentMethod,
+        BigDecimal totalMonthlyPremiumAmount,
+        BigDecimal insuredAmount,
+        Map<String, BigDecimal> coverages,
+        List<String> assistances,
+        String paymentStatus,
+        String subscriptionStatus,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime finishedAt,
+        Long version,
+        List<HistoryEntry> history
+    ) {
+        public static OrderSnapshot of(Order order) {
+            return new OrderSnapshot(
+                order.getProductId().getValue(),
+                order.getSalesChannel(),
+                order.getPaymentMethod(),
+                order.getTotalMonthlyPremiumAmount(),
+                order.getInsuredAmount(),
+                order.getCoverages().getCoverageMap(),
+                order.getAssistances().getAssistanceList(),
+                order.getPaymentApproved(),
+                order.getSubscriptionApproved(),
+                order.getCreatedAt(),
+                order.getUpdatedAt(),
+                order.getFinishedAt(),
+                order.getVersion(),
+                order.getHistory().getEntries().stream().map(HistoryEntry::of).toList()
+            );
+        }
+    }
+
+    /**
+     * Entrada do histórico de status do pedido
+     */
+    public record HistoryEntry(
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        String reason,
+        LocalDateTime timestamp
+    ) {
+        static HistoryEntry of(OrderHistory.HistoryEntry entry) {
+            return new HistoryEntry(entry.getFromStatus(), entry.getToStatus(), entry.getReason(), entry.getTimestamp());
+        }
+    }
+
+    /**
+     * Transição contida em um evento ORDER_TRANSITIONS, com o eventType do evento individual equivalente
+     */
+    public record Transition(
+        String eventType,
+        OrderStatus fromStatus,
+        OrderStatus toStatus,
+        String reason,
+        LocalDateTime timestamp
+    ) {
+        static Transition of(OrderEvent event) {
+            return new Transition(event.eventType(), event.fromStatus(), event.status(), event.reason(), event.timestamp());
+        }
+    }
+
+    /**
+     * Quebra um evento ORDER_TRANSITIONS nos eventos individuais equivalentes, para consumidores legados
+     */
+    public List<OrderEvent> expand() {
+        if (transitions == null) {
+            return List.of(this);
+        }
+        return transitions.stream()
+            .map(transition -> new OrderEvent(orderId, customerId, insuranceType, transition.toStatus(), amount,
+                description, transition.timestamp(), transition.eventType(), schemaVersion,
+                transition.fromStatus(), transition.reason(), order, null))
+            .toList();
+    }
+
+    public static OrderEvent orderCreated(Order order) {
+        return transition(order, OrderStatus.RECEIVED, "ORDER_RECEIVED");
+    }
+
+    public static OrderEvent orderValidated(Order order) {
+        return transition(order, OrderStatus.VALIDATED, "ORDER_VALIDATED");
+    }
+
+    public static OrderEvent orderPending(Order order) {
+        return transition(order, OrderStatus.PENDING, "ORDER_PENDING");
+    }
+
+    public static OrderEvent orderApproved(Order order) {
+        return transition(order, OrderStatus.APPROVED, "ORDER_APPROVED");
+    }
+
+    public static OrderEvent orderRejected(Order order) {
+        return transition(order, OrderStatus.REJECTED, "ORDER_REJECTED");
     }
 
-    public static OrderEvent orderValidated(String orderId, String customerId, InsuranceType insuranceType,
-                                           BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.VALIDATED,
-                             amount, description, LocalDateTime.now(), "ORDER_VALIDATED");
+    public static OrderEvent orderCancelled(Order order) {
+        return transition(order, OrderStatus.CANCELLED, "ORDER_CANCELLED");
     }
 
-    public static OrderEvent orderPending(String orderId, String customerId, InsuranceType insuranceType,
-                                         BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.PENDING,
-                             amount, description, LocalDateTime.now(), "ORDER_PENDING");
+    public static OrderEvent subscriptionApproved(Order order) {
+        return of(order, OrderStatus.PENDING, "SUBSCRIPTION_APPROVED", null);
     }
 
-    public static OrderEvent orderApproved(String orderId, String customerId, InsuranceType insuranceType,
-                                          BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.APPROVED,
-                             amount, description, LocalDateTime.now(), "ORDER_APPROVED");
+    public static OrderEvent paymentApproved(Order order) {
+        return of(order, OrderStatus.PENDING, "PAYMENT_APPROVED", null);
     }
 
-    public static OrderEvent orderRejected(String orderId, String customerId, InsuranceType insuranceType,
-                                          BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.REJECTED,
-                             amount, description, LocalDateTime.now(), "ORDER_REJECTED");
+    public static OrderEvent paymentRejected(Order order) {
+        return transition(order, OrderStatus.REJECTED, "PAYMENT_REJECTED");
     }
 
-    public static OrderEvent orderCancelled(String orderId, String customerId, InsuranceType insuranceType,
-                                            BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.CANCELLED,
-                             amount, description, LocalDateTime.now(), "ORDER_CANCELLED");
+    public static OrderEvent subscriptionRejected(Order order) {
+        return transition(order, OrderStatus.REJECTED, "SUBSCRIPTION_REJECTED");
     }
 
-    public static OrderEvent subscriptionApproved(String orderId, String customerId, InsuranceType insuranceType,
-                                                  BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.PENDING,
-                             amount, description, LocalDateTime.now(), "SUBSCRIPTION_APPROVED");
+    /**
+     * Evento individual de mudança para o status informado
+     */
+    public static OrderEvent statusChanged(Order order, OrderStatus status) {
+        return switch (status) {
+            case RECEIVED -> orderCreated(order);
+            case VALIDATED -> orderValidated(order);
+            case PENDING -> orderPending(order);
+            case APPROVED -> orderApproved(order);
+            case REJECTED -> orderRejected(order);
+            case CANCELLED -> orderCancelled(order);
+        };
     }
 
-    public static OrderEvent paymentApproved(String orderId, String customerId, InsuranceType insuranceType,
-                                            BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.PENDING,
-                             amount, description, LocalDateTime.now(), "PAYMENT_APPROVED");
+    /**
+     * Evento único com as transições informadas, na ordem; o status do evento é o da última transição
+     */
+    public static OrderEvent transitions(Order order, List<OrderStatus> statuses) {
+        if (statuses.isEmpty()) {
+            throw new IllegalArgumentException("Lote de transições vazio");
+        }
+        List<OrderEvent> events = statuses.stream().map(status -> statusChanged(order, status)).toList();
+        OrderEvent first = events.get(0);
+        OrderEvent last = events.get(events.size() - 1);
+        return new OrderEvent(
+            order.getId().toString(),
+            order.getCustomerId().toString(),
+            order.getCategory(),
+            last.status(),
+            order.getInsuredAmount(),
+            order.getDescription(),
+            LocalDateTime.now(),
+            TRANSITIONS_EVENT_TYPE,
+            SCHEMA_VERSION,
+            first.fromStatus(),
+            last.reason(),
+            OrderSnapshot.of(order),
+            events.stream().map(Transition::of).toList()
+        );
     }
 
-    public static OrderEvent paymentRejected(String orderId, String customerId, InsuranceType insuranceType,
-                                            BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.REJECTED,
-                             amount, description, LocalDateTime.now(), "PAYMENT_REJECTED");
+    /**
+     * Evento de mudança de status: fromStatus e reason vêm da última entrada do histórico para o status
+     */
+    private static OrderEvent transition(Order order, OrderStatus status, String eventType) {
+        List<OrderHistory.HistoryEntry> entries = order.getHistory().getEntries();
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            if (entries.get(i).getToStatus() == status) {
+                return of(order, status, eventType, entries.get(i));
+            }
+        }
+        return of(order, status, eventType, null);
     }
 
-    public static OrderEvent subscriptionRejected(String orderId, String customerId, InsuranceType insuranceType,
-                                                  BigDecimal amount, String description) {
-        return new OrderEvent(orderId, customerId, insuranceType, OrderStatus.REJECTED,
-                             amount, description, LocalDateTime.now(), "SUBSCRIPTION_REJECTED");
+    private static OrderEvent of(Order order, OrderStatus status, String eventType, OrderHistory.HistoryEntry transition) {
+        return new OrderEvent(
+            order.getId().toString(),
+            order.getCustomerId().toString(),
+            order.getCategory(),
+            status,
+            order.getInsuredAmount(),
+            order.getDescription(),
+            LocalDateTime.now(),
+            eventType,
+            SCHEMA_VERSION,
+            transition != null ? transition.getFromStatus() : null,
+            transition != null ? transition.getReason() : null,
+            OrderSnapshot.of(order),
+            null
+        );
     }
 }
@@ -0,0 +1,82 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.message.SchemaStore;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro local de schemas Avro, substituto de um schema registry externo.
+ *
+ * Os schemas são indexados pelo fingerprint de 64 bits gravado em cada mensagem (single-object
+ * encoding). A fonte é o classpath (avro/*.avsc) e, opcionalmente, um diretório compartilhado
+ * com os consumidores.
+ */
+public class LocalSchemaStore implements SchemaStore {
+
+    static final String CLASSPATH_PATTERN = "classpath*:avro/*.avsc";
+
+    private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+    /**
+     * Carrega os schemas do classpath e, se informado, do diretório
+     */
+    public static LocalSchemaStore load(String directory) {
+        LocalSchemaStore store = new LocalSchemaStore();
+        store.registerClasspath();
+        if (directory != null && !directory.isBlank()) {
+            store.registerDirectory(Path.of(directory));
+        }
+        return store;
+    }
+
+    public long register(Schema schema) {
+        long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+        schemas.putIfAbsent(fingerprint, schema);
+        return fingerprint;
+    }
+
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        return schemas.get(fingerprint);
+    }
+
+    public int size() {
+        return schemas.size();
+    }
+
+    private void registerClasspath() {
+        try {
+            for (Resource resource : new PathMatchingResourcePatternResolver().getResources(CLASSPATH_PATTERN)) {
+                try (InputStream in = resource.getInputStream()) {
+                    register(new Schema.Parser().parse(in));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar schemas Avro do classpath", e);
+        }
+    }
+
+    private void registerDirectory(Path directory) {
+        if (!Files.isDirectory(directory)) {
+            throw new IllegalArgumentException("Diretório de schemas inexistente: " + directory);
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.avsc")) {
+            for (Path file : files) {
+                register(new Schema.Parser().parse(file.toFile()));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar schemas Avro de " + directory, e);
+        }
+    }
+}
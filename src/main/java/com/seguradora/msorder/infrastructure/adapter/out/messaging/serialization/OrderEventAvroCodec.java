@@ -0,0 +1,296 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization;
+
+import com.seguradora.msorder.core.domain.valueobject.InsuranceType;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+import com.seguradora.msorder.core.domain.valueobject.PaymentMethod;
+import com.seguradora.msorder.core.domain.valueobject.SalesChannel;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Codificação binária Avro de OrderEvent (single-object encoding: marcador, fingerprint do
+ * schema do escritor e corpo). Na leitura, o schema do escritor é buscado no SchemaStore e
+ * resolvido contra o schema atual, o que permite evoluir o evento sem quebrar consumidores.
+ */
+public class OrderEventAvroCodec {
+
+    public static final String CONTENT_TYPE = "application/avro";
+
+    static final String SCHEMA_RESOURCE = "/avro/order-event-v3.avsc";
+    private static final String UNKNOWN_SYMBOL = "UNKNOWN";
+
+    private final Schema schema;
+    private final Schema uuidSchema;
+    private final Schema snapshotSchema;
+    private final Schema historyEntrySchema;
+    private final Schema transitionSchema;
+    private final int amountScale;
+    private final GenericData.EnumSymbol[] insuranceTypeSymbols;
+    private final GenericData.EnumSymbol[] statusSymbols;
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+    private final BinaryMessageDecoder<GenericRecord> decoder;
+
+    public OrderEventAvroCodec(LocalSchemaStore schemaStore) {
+        this.schema = currentSchema();
+        this.uuidSchema = schema.getField("orderId").schema();
+        this.snapshotSchema = schema.getField("order").schema().getTypes().get(1);
+        this.historyEntrySchema = snapshotSchema.getField("history").schema().getElementType();
+        this.transitionSchema = schema.getField("transitions").schema().getTypes().get(1).getElementType();
+        this.amountScale = ((LogicalTypes.Decimal) schema.getField("amount").schema().getLogicalType()).getScale();
+        this.insuranceTypeSymbols = symbols("insuranceType", InsuranceType.values());
+        this.statusSymbols = symbols("status", OrderStatus.values());
+        schemaStore.register(schema);
+
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        model.addLogicalTypeConversion(new TimeConversions.LocalTimestampMillisConversion());
+
+        this.encoder = new BinaryMessageEncoder<>(model, schema);
+        this.decoder = new BinaryMessageDecoder<>(model, schema, schemaStore);
+    }
+
+    public byte[] encode(OrderEvent event) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("orderId", uuid(event.orderId()));
+        record.put("customerId", event.customerId());
+        record.put("insuranceType", symbol(insuranceTypeSymbols, event.insuranceType()));
+        record.put("status", symbol(statusSymbols, event.status()));
+        record.put("amount", decimal(event.amount()));
+        record.put("description", event.description());
+        record.put("timestamp", event.timestamp());
+        record.put("eventType", event.eventType());
+        record.put("schemaVersion", event.schemaVersion());
+        record.put("fromStatus", nullableSymbol(statusSymbols, event.fromStatus()));
+        record.put("reason", event.reason());
+        record.put("order", event.order() != null ? snapshot(event.order()) : null);
+        record.put("transitions", event.transitions() != null ? transitions(event.transitions()) : null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(128);
+        try {
+            encoder.encode(record, out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao codificar OrderEvent em Avro", e);
+        }
+    }
+
+    public OrderEvent decode(byte[] data) {
+        GenericRecord record;
+        try {
+            record = decoder.decode(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao decodificar OrderEvent Avro", e);
+        }
+
+        return new OrderEvent(
+            uuid((GenericData.Fixed) record.get("orderId")),
+            string(record.get("customerId")),
+            enumValue(InsuranceType.class, record.get("insuranceType")),
+            enumValue(OrderStatus.class, record.get("status")),
+            (BigDecimal) record.get("amount"),
+            string(record.get("description")),
+            (LocalDateTime) record.get("timestamp"),
+            string(record.get("eventType")),
+            (Integer) record.get("schemaVersion"),
+            enumValue(OrderStatus.class, record.get("fromStatus")),
+            string(record.get("reason")),
+            snapshot((GenericRecord) record.get("order")),
+            transitions(record.get("transitions"))
+        );
+    }
+
+    private List<GenericRecord> transitions(List<OrderEvent.Transition> transitions) {
+        List<GenericRecord> records = new ArrayList<>(transitions.size());
+        for (OrderEvent.Transition transition : transitions) {
+            GenericRecord record = new GenericData.Record(transitionSchema);
+            record.put("eventType", transition.eventType());
+            record.put("fromStatus", nullableSymbol(statusSymbols, transition.fromStatus()));
+            record.put("toStatus", symbol(statusSymbols, transition.toStatus()));
+            record.put("reason", transition.reason());
+            record.put("timestamp", transition.timestamp());
+            records.add(record);
+        }
+        return records;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<OrderEvent.Transition> transitions(Object value) {
+        if (value == null) {
+            return null;
+        }
+        return ((List<GenericRecord>) value).stream()
+            .map(transition -> new OrderEvent.Transition(
+                string(transition.get("eventType")),
+                enumValue(OrderStatus.class, transition.get("fromStatus")),
+                enumValue(OrderStatus.class, transition.get("toStatus")),
+                string(transition.get("reason")),
+                (LocalDateTime) transition.get("timestamp")))
+            .toList();
+    }
+
+    private GenericRecord snapshot(OrderEvent.OrderSnapshot order) {
+        GenericRecord record = new GenericData.Record(snapshotSchema);
+        record.put("productId", order.productId());
+        record.put("salesChannel", name(order.salesChannel()));
+        record.put("paymentMethod", name(order.paymentMethod()));
+        record.put("totalMonthlyPremiumAmount", decimal(order.totalMonthlyPremiumAmount()));
+        record.put("insuredAmount", decimal(order.insuredAmount()));
+
+        Map<String, BigDecimal> coverages = new LinkedHashMap<>();
+        order.coverages().forEach((coverage, amount) -> coverages.put(coverage, decimal(amount)));
+        record.put("coverages", coverages);
+        record.put("assistances", order.assistances());
+
+        record.put("paymentStatus", order.paymentStatus());
+        record.put("subscriptionStatus", order.subscriptionStatus());
+        record.put("createdAt", order.createdAt());
+        record.put("updatedAt", order.updatedAt());
+        record.put("finishedAt", order.finishedAt());
+        record.put("version", order.version());
+
+        List<GenericRecord> history = new ArrayList<>(order.history().size());
+        for (OrderEvent.HistoryEntry entry : order.history()) {
+            GenericRecord historyRecord = new GenericData.Record(historyEntrySchema);
+            historyRecord.put("fromStatus", nullableSymbol(statusSymbols, entry.fromStatus()));
+            historyRecord.put("toStatus", symbol(statusSymbols, entry.toStatus()));
+            historyRecord.put("reason", entry.reason());
+            historyRecord.put("timestamp", entry.timestamp());
+            history.add(historyRecord);
+        }
+        record.put("history", history);
+        return record;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static OrderEvent.OrderSnapshot snapshot(GenericRecord record) {
+        if (record == null) {
+            return null;
+        }
+
+        Map<String, BigDecimal> coverages = new LinkedHashMap<>();
+        ((Map<Object, BigDecimal>) record.get("coverages")).forEach((coverage, amount) -> coverages.put(coverage.toString(), amount));
+
+        List<String> assistances = ((List<Object>) record.get("assistances")).stream().map(Object::toString).toList();
+
+        List<OrderEvent.HistoryEntry> history = ((List<GenericRecord>) record.get("history")).stream()
+            .map(entry -> new OrderEvent.HistoryEntry(
+                enumValue(OrderStatus.class, entry.get("fromStatus")),
+                enumValue(OrderStatus.class, entry.get("toStatus")),
+                string(entry.get("reason")),
+                (LocalDateTime) entry.get("timestamp")))
+            .toList();
+
+        return new OrderEvent.OrderSnapshot(
+            string(record.get("productId")),
+            enumValue(SalesChannel.class, record.get("salesChannel")),
+            enumValue(PaymentMethod.class, record.get("paymentMethod")),
+            (BigDecimal) record.get("totalMonthlyPremiumAmount"),
+            (BigDecimal) record.get("insuredAmount"),
+            coverages,
+            assistances,
+            string(record.get("paymentStatus")),
+            string(record.get("subscriptionStatus")),
+            (LocalDateTime) record.get("createdAt"),
+            (LocalDateTime) record.get("updatedAt"),
+            (LocalDateTime) record.get("finishedAt"),
+            (Long) record.get("version"),
+            history
+        );
+    }
+
+    static Schema currentSchema() {
+        try (InputStream in = OrderEventAvroCodec.class.getResourceAsStream(SCHEMA_RESOURCE)) {
+            if (in == null) {
+                throw new IllegalStateException("Schema Avro não encontrado: " + SCHEMA_RESOURCE);
+            }
+            return new Schema.Parser().parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler schema " + SCHEMA_RESOURCE, e);
+        }
+    }
+
+    /**
+     * Símbolos pré-construídos por ordinal, com UNKNOWN na última posição para valores nulos
+     */
+    private GenericData.EnumSymbol[] symbols(String field, Enum<?>[] values) {
+        Schema enumSchema = schema.getField(field).schema();
+        GenericData.EnumSymbol[] symbols = new GenericData.EnumSymbol[values.length + 1];
+        for (Enum<?> value : values) {
+            symbols[value.ordinal()] = new GenericData.EnumSymbol(enumSchema, value.name());
+        }
+        symbols[values.length] = new GenericData.EnumSymbol(enumSchema, UNKNOWN_SYMBOL);
+        return symbols;
+    }
+
+    private static GenericData.EnumSymbol symbol(GenericData.EnumSymbol[] symbols, Enum<?> value) {
+        return symbols[value != null ? value.ordinal() : symbols.length - 1];
+    }
+
+    private static GenericData.EnumSymbol nullableSymbol(GenericData.EnumSymbol[] symbols, Enum<?> value) {
+        return value != null ? symbols[value.ordinal()] : null;
+    }
+
+    private BigDecimal decimal(BigDecimal value) {
+        return value != null ? value.setScale(amountScale, RoundingMode.HALF_EVEN) : null;
+    }
+
+    private static String name(Enum<?> value) {
+        return value != null ? value.name() : null;
+    }
+
+    /**
+     * OrderId em 16 bytes (fixed) em vez dos 36 caracteres da forma textual
+     */
+    private GenericData.Fixed uuid(String value) {
+        UUID uuid = UUID.fromString(value);
+        return new GenericData.Fixed(uuidSchema, ByteBuffer.allocate(16)
+            .putLong(uuid.getMostSignificantBits())
+            .putLong(uuid.getLeastSignificantBits())
+            .array());
+    }
+
+    private static String uuid(GenericData.Fixed fixed) {
+        ByteBuffer buffer = ByteBuffer.wrap(fixed.bytes());
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    private static String string(Object value) {
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * Símbolos desconhecidos pelo leitor (UNKNOWN ou adicionados depois) viram null
+     */
+    private static <E extends Enum<E>> E enumValue(Class<E> type, Object symbol) {
+        String name = string(symbol);
+        if (name == null || UNKNOWN_SYMBOL.equals(name)) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization;
+
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.util.Map;
+
+/**
+ * Deserializer Kafka de OrderEvent em Avro binário, para consumidores de order-events
+ */
+public class OrderEventAvroDeserializer implements Deserializer<OrderEvent> {
+
+    private OrderEventAvroCodec codec;
+
+    public OrderEventAvroDeserializer() {
+    }
+
+    public OrderEventAvroDeserializer(OrderEventAvroCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (codec == null) {
+            codec = new OrderEventAvroCodec(
+                LocalSchemaStore.load((String) configs.get(OrderEventAvroSerializer.SCHEMA_DIRECTORY_CONFIG)));
+        }
+    }
+
+    @Override
+    public OrderEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (codec == null) {
+            codec = new OrderEventAvroCodec(LocalSchemaStore.load(null));
+        }
+        return codec.decode(data);
+    }
+}
@@ -0,0 +1,52 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization;
+
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Serializer Kafka de OrderEvent em Avro binário, habilitado com order.events.encoding=avro
+ */
+public class OrderEventAvroSerializer implements Serializer<OrderEvent> {
+
+    public static final String SCHEMA_DIRECTORY_CONFIG = "order.events.schema-store.directory";
+    public static final String CONTENT_TYPE_HEADER = "content-type";
+
+    private OrderEventAvroCodec codec;
+
+    public OrderEventAvroSerializer() {
+    }
+
+    public OrderEventAvroSerializer(OrderEventAvroCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (codec == null) {
+            codec = new OrderEventAvroCodec(LocalSchemaStore.load((String) configs.get(SCHEMA_DIRECTORY_CONFIG)));
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, OrderEvent data) {
+        return data != null ? codec().encode(data) : null;
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, OrderEvent data) {
+        headers.remove(CONTENT_TYPE_HEADER);
+        headers.add(CONTENT_TYPE_HEADER, OrderEventAvroCodec.CONTENT_TYPE.getBytes(StandardCharsets.UTF_8));
+        return serialize(topic, data);
+    }
+
+    private OrderEventAvroCodec codec() {
+        if (codec == null) {
+            codec = new OrderEventAvroCodec(LocalSchemaStore.load(null));
+        }
+        return codec;
+    }
+}
@@ -0,0 +1,85 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import com.seguradora.msorder.core.domain.valueobject.CustomerOrderStats;
+import com.seguradora.msorder.core.port.out.CustomerOrderStatsPort;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository.CustomerOrderStatsView;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Histórico agregado por cliente mantido em memória a partir da tabela orders.
+ *
+ * A primeira atualização agrega todos os clientes; as seguintes recalculam só os clientes com
+ * pedidos alterados desde a anterior (com uma margem de sobreposição, já que recalcular é
+ * idempotente). Até a primeira carga todos os clientes aparecem sem histórico.
+ */
+@Component
+public class CustomerOrderStatsAdapter implements CustomerOrderStatsPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomerOrderStatsAdapter.class);
+
+    private final OrderJpaRepository jpaRepository;
+    private final Duration overlap;
+    private final Map<String, CustomerOrderStats> statsByCustomer = new ConcurrentHashMap<>();
+    private LocalDateTime lastRefresh;
+
+    public CustomerOrderStatsAdapter(OrderJpaRepository jpaRepository,
+                                     @Value("${order.risk-fallback.refresh-overlap:PT1M}") Duration overlap,
+                                     MeterRegistry meterRegistry) {
+        this.jpaRepository = jpaRepository;
+        this.overlap = overlap;
+        Gauge.builder("order.risk-fallback.customers", statsByCustomer, Map::size)
+            .description("Clientes com histórico agregado em memória")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public CustomerOrderStats findByCustomer(CustomerId customerId) {
+        return statsByCustomer.getOrDefault(customerId.getValue(), CustomerOrderStats.EMPTY);
+    }
+
+    @Scheduled(fixedDelayString = "${order.risk-fallback.refresh-interval:PT1M}")
+    public synchronized void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<CustomerOrderStatsView> rows = lastRefresh == null
+                ? jpaRepository.aggregateStatsByCustomer()
+                : jpaRepository.aggregateStatsByCustomerChangedSince(lastRefresh.minus(overlap));
+            rows.forEach(row -> statsByCustomer.put(row.getCustomerId(), toStats(row)));
+
+            if (lastRefresh == null) {
+                logger.info("Histórico agregado carregado para {} clientes", rows.size());
+            }
+            lastRefresh = startedAt;
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao atualizar histórico agregado de clientes; mantendo {} clientes",
+                statsByCustomer.size(), e);
+        }
+    }
+
+    private static CustomerOrderStats toStats(CustomerOrderStatsView row) {
+        return new CustomerOrderStats(
+            valueOf(row.getApproved()),
+            valueOf(row.getRejected()),
+            valueOf(row.getCancelled()),
+            row.getApprovedAmount() != null ? row.getApprovedAmount() : BigDecimal.ZERO);
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,216 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.event.OrderTransition;
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import com.seguradora.msorder.core.domain.valueobject.OrderId;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderJpaEntity;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderTransitionJpaEntity;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.mapper.OrderPersistenceMapper;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderTransitionJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Adaptador de persistência em modo event sourcing.
+ *
+ * Cada transição do pedido é anexada (somente INSERT) em order_transitions e a linha de orders
+ * funciona como snapshot, atualizada a cada mudança de status ou a cada N transições acumuladas.
+ * O agregado é reconstruído a partir do snapshot mais as transições posteriores. Leituras feitas
+ * dentro de transações de escrita adquirem um advisory lock por pedido, serializando o ciclo
+ * leitura-decisão-escrita sem conflitos de lock otimista. A gravação sempre toma o lock e confere a
+ * versão lida: quem leu fora de transação (sem lock) e ficou para trás recebe conflito de lock
+ * otimista em vez de anexar transições sobre um estado que já mudou.
+ */
+@Component
+@ConditionalOnProperty(name = "order.event-sourcing.enabled", havingValue = "true")
+public class EventSourcedOrderPersistenceAdapter implements OrderRepositoryPort {
+
+    private final OrderJpaRepository orderRepository;
+    private final OrderTransitionJpaRepository transitionRepository;
+    private final OrderPersistenceMapper mapper;
+    private final OrderCacheInvalidationPublisher cacheInvalidation;
+    private final int snapshotInterval;
+
+    public EventSourcedOrderPersistenceAdapter(OrderJpaRepository orderRepository,
+                                               OrderTransitionJpaRepository transitionRepository,
+                                               OrderPersistenceMapper mapper,
+                                               OrderCacheInvalidationPublisher cacheInvalidation,
+                                               @Value("${order.event-sourcing.snapshot-interval:5}") int snapshotInterval) {
+        this.orderRepository = orderRepository;
+        this.transitionRepository = transitionRepository;
+        this.mapper = mapper;
+        this.cacheInvalidation = cacheInvalidation;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        List<OrderTransition> transitions = order.pullPendingTransitions();
+
+        if (order.getVersion() == null) {
+            // Pedido novo: a própria linha é o snapshot inicial
+            OrderJpaEntity savedEntity = orderRepository.save(mapper.toJpaEntity(order));
+            if (!transitions.isEmpty()) {
+                Long lastSequence = append(order.getId(), transitions);
+                orderRepository.advanceSnapshotSequence(savedEntity.getId(), lastSequence);
+            }
+            return mapper.restoreDomain(savedEntity);
+        }
+
+        if (transitions.isEmpty()) {
+            return order;
+        }
+
+        String id = order.getId().getValue().toString();
+        transitionRepository.lockOrderStream(id);
+        OrderJpaEntity snapshot = orderRepository.findById(id)
+            .orElseThrow(() -> new IllegalStateException("Snapshot not found for order: " + id));
+        // Toda gravação muda a versão da linha: versão igual garante que o fluxo não avançou desde a leitura
+        if (!Objects.equals(snapshot.getVersion(), order.getVersion())) {
+            throw new ObjectOptimisticLockingFailureException(OrderJpaEntity.class, id);
+        }
+        // O status da linha é o atual: toda mudança de status grava snapshot
+        if (transitions.get(0).fromStatus() != snapshot.getStatus()) {
+            throw new ObjectOptimisticLockingFailureException(OrderJpaEntity.class, id);
+        }
+        Long snapshotSequence = sequenceOf(snapshot);
+        Long lastSequence = append(order.getId(), transitions);
+
+        boolean statusChanged = transitions.stream().anyMatch(OrderTransition::changesStatus);
+        List<OrderTransitionJpaEntity> tail;
+        if (statusChanged || isSnapshotDue(snapshot)) {
+            mapper.applySnapshot(snapshot, order);
+            orderRepository.advanceSnapshotSequence(id, lastSequence);
+            tail = List.of();
+        } else {
+            // Sem snapshot a versão da linha também precisa mudar: é dela que sai o ETag do pedido
+            orderRepository.findForVersionIncrement(id);
+            tail = transitionRepository.findByOrderIdAndIdGreaterThanOrderByIdAsc(id, snapshotSequence);
+        }
+        orderRepository.flush();
+        cacheInvalidation.publish(order.getId(), order.getCustomerId(), order.getVersion());
+
+        // Devolve o pedido com a versão gravada, pronto para a próxima gravação
+        return rebuild(snapshot, tail);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Order> findById(OrderId orderId) {
+        String id = orderId.getValue().toString();
+        // Sem transação de escrita do chamador o lock não serve: save confere a versão nesse caso
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            transitionRepository.lockOrderStream(id);
+        }
+
+        return orderRepository.findById(id)
+            .map(entity -> rebuild(entity, transitionRepository.findByOrderIdAndIdGreaterThanOrderByIdAsc(
+                id, sequenceOf(entity))));
+    }
+
+    /**
+     * Snapshots em uma consulta e caudas de todos os pedidos em outra
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findAllById(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return rebuildAll(orderRepository.findAllByIdAny(OrderPersistenceAdapter.joinIds(orderIds)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersionById(OrderId orderId) {
+        return orderRepository.findVersionById(orderId.getValue().toString());
+    }
+
+    /**
+     * O status da linha reflete o último snapshot; como todo snapshot é gravado em mudanças de
+     * status, apenas flags de aprovação podem estar na cauda.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByCustomerId(CustomerId customerId) {
+        return rebuildAll(orderRepository.findByCustomerId(customerId.getValue()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findByStatus(OrderStatus status) {
+        return rebuildAll(orderRepository.findByStatus(status));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Order> findAll() {
+        return rebuildAll(orderRepository.findAll());
+    }
+
+    @Override
+    @Transactional
+    public void deleteById(OrderId orderId) {
+        String id = orderId.getValue().toString();
+        transitionRepository.deleteByOrderId(id);
+        orderRepository.deleteById(id);
+        cacheInvalidation.publish(orderId, null, null);
+    }
+
+    @Override
+    public boolean existsById(OrderId orderId) {
+        return orderRepository.existsById(orderId.getValue().toString());
+    }
+
+    private Long append(OrderId orderId, List<OrderTransition> transitions) {
+        List<OrderTransitionJpaEntity> appended = transitionRepository.saveAll(
+            transitions.stream().map(transition -> mapper.toTransitionEntity(orderId, transition)).toList());
+        return appended.get(appended.size() - 1).getId();
+    }
+
+    private boolean isSnapshotDue(OrderJpaEntity snapshot) {
+        return transitionRepository.countByOrderIdAndIdGreaterThan(snapshot.getId(), sequenceOf(snapshot)) >= snapshotInterval;
+    }
+
+    private List<Order> rebuildAll(List<OrderJpaEntity> entities) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, List<OrderTransitionJpaEntity>> tails = transitionRepository
+            .findTailsByOrderIds(entities.stream().map(OrderJpaEntity::getId).toList())
+            .stream()
+            .collect(Collectors.groupingBy(OrderTransitionJpaEntity::getOrderId));
+
+        return entities.stream()
+            .map(entity -> rebuild(entity, tails.getOrDefault(entity.getId(), Collections.emptyList())))
+            .toList();
+    }
+
+    private Order rebuild(OrderJpaEntity snapshot, List<OrderTransitionJpaEntity> tail) {
+        Order order = mapper.restoreDomain(snapshot);
+        order.replay(tail.stream().map(mapper::toTransition).toList());
+        return order;
+    }
+
+    private static Long sequenceOf(OrderJpaEntity entity) {
+        return entity.getSnapshotSequence() != null ? entity.getSnapshotSequence() : 0L;
+    }
+}
@@ -0,0 +1,57 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import com.seguradora.msorder.core.port.out.IdempotencyStorePort;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.IdempotencyKeyJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistência para chaves de idempotência.
+ * Cada operação roda em transação própria para que a reserva fique visível aos demais nós imediatamente.
+ */
+@Component
+public class IdempotencyPersistenceAdapter implements IdempotencyStorePort {
+
+    private final IdempotencyKeyJpaRepository repository;
+
+    public IdempotencyPersistenceAdapter(IdempotencyKeyJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean reserve(String key, String requestHash, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now();
+        return repository.reserve(key, requestHash, now, now.plus(ttl)) > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyRecord> find(String key) {
+        return repository.findByKeyAndExpiresAtAfter(key, LocalDateTime.now())
+            .map(entity -> new IdempotencyRecord(entity.getKey(), entity.getRequestHash(), entity.getResponseBody()));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(String key, String responseBody) {
+        repository.complete(key, responseBody);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String key) {
+        repository.deleteById(key);
+    }
+
+    @Override
+    @Transactional
+    public int purgeExpired() {
+        return repository.deleteExpired(LocalDateTime.now());
+    }
+}
@@ -0,0 +1,55 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import java.util.UUID;
+
+/**
+ * Mensagem de invalidação do cache "orders" trocada entre as instâncias:
+ * {@code id,versão,enviadoEm,origem,cliente}
+ *
+ * A versão é a que o pedido tinha ao ser gravado; cópias em cache com versão maior já refletem a
+ * escrita e podem ser mantidas. Versão ausente invalida qualquer cópia.
+ *
+ * @param sentAtMillis instante da escrita (relógio de quem publicou), para medir o atraso da invalidação
+ * @param origin instância que fez a escrita; null em avisos de versões anteriores (sem a origem)
+ * @param customerId cliente do pedido, para filtrar os streams por cliente sem reler o pedido; null em
+ *                   exclusões e em avisos de versões anteriores
+ */
+public record OrderCacheInvalidation(String orderId, Long version, long sentAtMillis, String origin,
+                                     String customerId) {
+
+    /**
+     * Identifica esta instância nos avisos que ela publica (novo a cada início do processo)
+     */
+    public static final String LOCAL_ORIGIN = UUID.randomUUID().toString();
+
+    public String toPayload() {
+        return orderId + "," + (version != null ? version : "") + "," + sentAtMillis + "," + origin + ","
+            + (customerId != null ? customerId : "");
+    }
+
+    /**
+     * Aviso de uma escrita feita por esta instância, que já notificou os próprios streams
+     */
+    public boolean isLocal() {
+        return LOCAL_ORIGIN.equals(origin);
+    }
+
+    /**
+     * Precisa invalidar uma cópia em cache com a versão informada
+     */
+    public boolean supersedes(Long cachedVersion) {
+        return version == null || cachedVersion == null || cachedVersion <= version;
+    }
+
+    public static OrderCacheInvalidation parse(String payload) {
+        // O cliente é o último campo e fica inteiro mesmo que tenha vírgula
+        String[] parts = payload.split(",", 5);
+        if (parts.length < 3 || parts[0].isBlank()) {
+            throw new IllegalArgumentException("Invalid cache invalidation payload: " + payload);
+        }
+        Long version = parts[1].isEmpty() ? null : Long.valueOf(parts[1]);
+        String origin = parts.length >= 4 && !parts[3].isEmpty() ? parts[3] : null;
+        String customerId = parts.length == 5 && !parts[4].isEmpty() ? parts[4] : null;
+        return new OrderCacheInvalidation(parts[0], version, Long.parseLong(parts[2]), origin, customerId);
+    }
+}
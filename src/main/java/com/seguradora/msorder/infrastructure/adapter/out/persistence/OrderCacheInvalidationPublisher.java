@@ -0,0 +1,46 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import com.seguradora.msorder.core.domain.valueobject.OrderId;
+import com.seguradora.msorder.core.usecase.order.OrderCacheKey;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Avisa as demais instâncias que um pedido mudou, via NOTIFY do Postgres na mesma transação da
+ * escrita: a mensagem só sai se a escrita for confirmada e nunca antes dela.
+ *
+ * Isso só vale quando quem chama já tem uma transação aberta (os casos de uso @Transactional). O
+ * OrderPersistenceAdapter não é transacional: chamado fora de transação, a escrita é confirmada sozinha
+ * e o notifyChannel abre outra transação; se o aviso falhar, a escrita fica sem invalidação.
+ */
+@Component
+public class OrderCacheInvalidationPublisher {
+
+    private final OrderJpaRepository jpaRepository;
+    private final boolean enabled;
+    private final String channel;
+
+    public OrderCacheInvalidationPublisher(OrderJpaRepository jpaRepository,
+                                           @Value("${order.cache.invalidation.enabled:true}") boolean enabled,
+                                           @Value("${order.cache.invalidation.channel:order_cache_invalidation}") String channel) {
+        this.jpaRepository = jpaRepository;
+        this.enabled = enabled;
+        this.channel = channel;
+    }
+
+    /**
+     * @param customerId cliente do pedido (null em exclusões)
+     * @param version versão do pedido antes da escrita (null para pedidos novos)
+     */
+    public void publish(OrderId orderId, CustomerId customerId, Long version) {
+        if (!enabled) {
+            return;
+        }
+        OrderCacheInvalidation invalidation = new OrderCacheInvalidation(OrderCacheKey.of(orderId), version,
+            System.currentTimeMillis(), OrderCacheInvalidation.LOCAL_ORIGIN,
+            customerId != null ? customerId.getValue() : null);
+        jpaRepository.notifyChannel(channel, invalidation.toPayload());
+    }
+}
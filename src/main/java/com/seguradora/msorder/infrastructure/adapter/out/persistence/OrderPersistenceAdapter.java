@@ -8,29 +8,39 @@ import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
 import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderJpaEntity;
 import com.seguradora.msorder.infrastructure.adapter.out.persistence.mapper.OrderPersistenceMapper;
 import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 /**
  * Adaptador de persistência que implementa a porta de saída do repositório
  */
 @Component
+@ConditionalOnProperty(name = "order.event-sourcing.enabled", havingValue = "false", matchIfMissing = true)
 public class OrderPersistenceAdapter implements OrderRepositoryPort {
 
     private final OrderJpaRepository jpaRepository;
     private final OrderPersistenceMapper mapper;
+    private final OrderCacheInvalidationPublisher cacheInvalidation;
 
-    public OrderPersistenceAdapter(OrderJpaRepository jpaRepository, OrderPersistenceMapper mapper) {
+    public OrderPersistenceAdapter(OrderJpaRepository jpaRepository, OrderPersistenceMapper mapper,
+                                   OrderCacheInvalidationPublisher cacheInvalidation) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.cacheInvalidation = cacheInvalidation;
     }
 
     @Override
     public Order save(Order order) {
+        // Neste modo a linha é a fonte da verdade; as transições registradas são descartadas
+        order.pullPendingTransitions();
         OrderJpaEntity jpaEntity = mapper.toJpaEntity(order);
         OrderJpaEntity savedEntity = jpaRepository.save(jpaEntity);
+        cacheInvalidation.publish(order.getId(), order.getCustomerId(), order.getVersion());
         return mapper.restoreDomain(savedEntity);
     }
 
@@ -40,6 +50,22 @@ public class OrderPersistenceAdapter implements OrderRepositoryPort {
             .map(mapper::restoreDomain);
     }
 
+    @Override
+    public List<Order> findAllById(Collection<OrderId> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findAllByIdAny(joinIds(orderIds))
+            .stream()
+            .map(mapper::restoreDomain)
+            .toList();
+    }
+
+    @Override
+    public Optional<Long> findVersionById(OrderId orderId) {
+        return jpaRepository.findVersionById(orderId.getValue().toString());
+    }
+
     @Override
     public List<Order> findByCustomerId(CustomerId customerId) {
         return jpaRepository.findByCustomerId(customerId.getValue())
@@ -67,10 +93,17 @@ public class OrderPersistenceAdapter implements OrderRepositoryPort {
     @Override
     public void deleteById(OrderId orderId) {
         jpaRepository.deleteById(orderId.getValue().toString());
+        cacheInvalidation.publish(orderId, null, null);
     }
 
     @Override
     public boolean existsById(OrderId orderId) {
         return jpaRepository.existsById(orderId.getValue().toString());
     }
+
+    static String joinIds(Collection<OrderId> orderIds) {
+        return orderIds.stream()
+            .map(orderId -> orderId.getValue().toString())
+            .collect(Collectors.joining(","));
+    }
 }
@@ -0,0 +1,34 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import com.seguradora.msorder.core.port.out.ProcessedEventStorePort;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.ProcessedEventJpaRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Adaptador de persistência para o registro de eventos processados
+ */
+@Component
+public class ProcessedEventPersistenceAdapter implements ProcessedEventStorePort {
+
+    private final ProcessedEventJpaRepository repository;
+
+    public ProcessedEventPersistenceAdapter(ProcessedEventJpaRepository repository) {
+        this.repository = repository;
+    }
+
+    @Override
+    @Transactional
+    public boolean markProcessed(String eventKey) {
+        return repository.insertIfAbsent(eventKey, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public int purgeOlderThan(Duration retention) {
+        return repository.deleteProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+}
@@ -88,6 +88,10 @@ public class OrderJpaEntity {
     @Column(name = "version")
     private Long version;
 
+    // Última transição do event store incorporada a esta linha (somente leitura via JPA)
+    @Column(name = "snapshot_sequence", insertable = false, updatable = false)
+    private Long snapshotSequence;
+
     // Construtor padrão
     public OrderJpaEntity() {}
 
@@ -178,4 +182,7 @@ public class OrderJpaEntity {
 
     public Long getVersion() { return version; }
     public void setVersion(Long version) { this.version = version; }
+
+    public Long getSnapshotSequence() { return snapshotSequence; }
+    public void setSnapshotSequence(Long snapshotSequence) { this.snapshotSequence = snapshotSequence; }
 }
@@ -0,0 +1,91 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence.entity;
+
+import com.seguradora.msorder.core.domain.event.OrderTransitionType;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+import com.seguradora.msorder.core.domain.valueobject.RiskSource;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para o event store de transições de pedidos
+ */
+@Entity
+@Table(name = "order_transitions")
+public class OrderTransitionJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "order_id", nullable = false)
+    private String orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transition_type", nullable = false)
+    private OrderTransitionType transitionType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", nullable = false)
+    private OrderStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private OrderStatus toStatus;
+
+    @Column(name = "reason", columnDefinition = "TEXT")
+    private String reason;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_source", length = 20)
+    private RiskSource riskSource;
+
+    // Construtor padrão
+    public OrderTransitionJpaEntity() {}
+
+    public OrderTransitionJpaEntity(String orderId, OrderTransitionType transitionType, OrderStatus fromStatus,
+                                    OrderStatus toStatus, String reason, LocalDateTime occurredAt) {
+        this(orderId, transitionType, fromStatus, toStatus, reason, occurredAt, null);
+    }
+
+    public OrderTransitionJpaEntity(String orderId, OrderTransitionType transitionType, OrderStatus fromStatus,
+                                    OrderStatus toStatus, String reason, LocalDateTime occurredAt,
+                                    RiskSource riskSource) {
+        this.orderId = orderId;
+        this.transitionType = transitionType;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.reason = reason;
+        this.occurredAt = occurredAt;
+        this.riskSource = riskSource;
+    }
+
+    // Getters e Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public String getOrderId() { return orderId; }
+    public void setOrderId(String orderId) { this.orderId = orderId; }
+
+    public OrderTransitionType getTransitionType() { return transitionType; }
+    public void setTransitionType(OrderTransitionType transitionType) { this.transitionType = transitionType; }
+
+    public OrderStatus getFromStatus() { return fromStatus; }
+    public void setFromStatus(OrderStatus fromStatus) { this.fromStatus = fromStatus; }
+
+    public OrderStatus getToStatus() { return toStatus; }
+    public void setToStatus(OrderStatus toStatus) { this.toStatus = toStatus; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+
+    public LocalDateTime getOccurredAt() { return occurredAt; }
+    public void setOccurredAt(LocalDateTime occurredAt) { this.occurredAt = occurredAt; }
+
+    public RiskSource getRiskSource() { return riskSource; }
+    public void setRiskSource(RiskSource riskSource) { this.riskSource = riskSource; }
+}
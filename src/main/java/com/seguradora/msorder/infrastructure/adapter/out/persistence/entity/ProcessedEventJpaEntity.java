@@ -0,0 +1,30 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entidade JPA para eventos de entrada já processados
+ */
+@Entity
+@Table(name = "processed_events")
+public class ProcessedEventJpaEntity {
+
+    @Id
+    @Column(name = "event_key")
+    private String eventKey;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    // Construtor padrão
+    public ProcessedEventJpaEntity() {}
+
+    // Getters e Setters
+    public String getEventKey() { return eventKey; }
+    public void setEventKey(String eventKey) { this.eventKey = eventKey; }
+
+    public LocalDateTime getProcessedAt() { return processedAt; }
+    public void setProcessedAt(LocalDateTime processedAt) { this.processedAt = processedAt; }
+}
@@ -1,8 +1,10 @@
 package com.seguradora.msorder.infrastructure.adapter.out.persistence.mapper;
 
 import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.event.OrderTransition;
 import com.seguradora.msorder.core.domain.valueobject.*;
 import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderJpaEntity;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderTransitionJpaEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -33,6 +35,7 @@ public interface OrderPersistenceMapper {
     @Mapping(target = "history", expression = "java(mapHistoryToJson(order.getHistory()))")
     @Mapping(target = "paymentApproved", source = "paymentApproved")
     @Mapping(target = "subscriptionApproved", source = "subscriptionApproved")
+    @Mapping(target = "snapshotSequence", ignore = true)
     OrderJpaEntity toJpaEntity(Order order);
 
     default Order restoreDomain(OrderJpaEntity entity) {
@@ -59,6 +62,41 @@ public interface OrderPersistenceMapper {
         );
     }
 
+    /**
+     * Copia para a entidade gerenciada apenas o estado que muda ao longo das transições
+     */
+    default void applySnapshot(OrderJpaEntity entity, Order order) {
+        entity.setStatus(order.getStatus());
+        entity.setUpdatedAt(order.getUpdatedAt());
+        entity.setFinishedAt(order.getFinishedAt());
+        entity.setHistory(mapHistoryToJson(order.getHistory()));
+        entity.setPaymentApproved(order.getPaymentApproved());
+        entity.setSubscriptionApproved(order.getSubscriptionApproved());
+    }
+
+    default OrderTransitionJpaEntity toTransitionEntity(OrderId orderId, OrderTransition transition) {
+        return new OrderTransitionJpaEntity(
+            orderId.getValue().toString(),
+            transition.type(),
+            transition.fromStatus(),
+            transition.toStatus(),
+            transition.reason(),
+            transition.occurredAt(),
+            transition.riskSource()
+        );
+    }
+
+    default OrderTransition toTransition(OrderTransitionJpaEntity entity) {
+        return new OrderTransition(
+            entity.getTransitionType(),
+            entity.getFromStatus(),
+            entity.getToStatus(),
+            entity.getReason(),
+            entity.getOccurredAt(),
+            entity.getRiskSource()
+        );
+    }
+
     default List<Map<String, Object>> mapHistoryToJson(OrderHistory history) {
         return history != null ? history.toJson() : null;
     }
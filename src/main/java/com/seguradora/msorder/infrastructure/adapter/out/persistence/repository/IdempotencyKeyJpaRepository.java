@@ -0,0 +1,41 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence.repository;
+
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.IdempotencyKeyJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Repositório JPA para chaves de idempotência
+ */
+@Repository
+public interface IdempotencyKeyJpaRepository extends JpaRepository<IdempotencyKeyJpaEntity, String> {
+
+    /**
+     * Insere a chave ou reaproveita um registro expirado; retorna 0 se houver registro válido
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (idempotency_key, request_hash, response_body, created_at, expires_at) " +
+                   "VALUES (:key, :requestHash, NULL, :now, :expiresAt) " +
+                   "ON CONFLICT (idempotency_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, " +
+                   "response_body = NULL, created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+                   "WHERE idempotency_keys.expires_at < EXCLUDED.created_at",
+           nativeQuery = true)
+    int reserve(@Param("key") String key, @Param("requestHash") String requestHash,
+                @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    Optional<IdempotencyKeyJpaEntity> findByKeyAndExpiresAtAfter(String key, LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE IdempotencyKeyJpaEntity k SET k.responseBody = :responseBody WHERE k.key = :key")
+    int complete(@Param("key") String key, @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKeyJpaEntity k WHERE k.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
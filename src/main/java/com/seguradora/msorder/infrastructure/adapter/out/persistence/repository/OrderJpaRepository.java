@@ -2,10 +2,19 @@ package com.seguradora.msorder.infrastructure.adapter.out.persistence.repository
 
 import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
 import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderJpaEntity;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repositório JPA para entidade Order
@@ -16,4 +25,70 @@ public interface OrderJpaRepository extends JpaRepository<OrderJpaEntity, String
     List<OrderJpaEntity> findByCustomerId(String customerId);
 
     List<OrderJpaEntity> findByStatus(OrderStatus status);
+
+    /**
+     * Só a versão do pedido, sem carregar a entidade (busca pela chave primária)
+     */
+    @Query("SELECT o.version FROM OrderJpaEntity o WHERE o.id = :id")
+    Optional<Long> findVersionById(@Param("id") String id);
+
+    /**
+     * Vários pedidos em uma consulta; os ids vão em um único parâmetro separado por vírgula, então o
+     * statement é o mesmo para qualquer quantidade de ids e aproveita o cache de prepared statements
+     */
+    @Query(value = "SELECT * FROM orders WHERE id = ANY(string_to_array(:ids, ','))", nativeQuery = true)
+    List<OrderJpaEntity> findAllByIdAny(@Param("ids") String ids);
+
+    /**
+     * NOTIFY no canal do Postgres; só é entregue aos ouvintes no commit da transação corrente.
+     * Não pode rodar em transação somente leitura (padrão das consultas do repositório)
+     */
+    @Transactional
+    @Query(value = "SELECT CAST(pg_notify(:channel, :payload) AS text)", nativeQuery = true)
+    String notifyChannel(@Param("channel") String channel, @Param("payload") String payload);
+
+    /**
+     * Carrega o pedido incrementando a versão na hora, mesmo sem alteração na linha
+     */
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    @Query("SELECT o FROM OrderJpaEntity o WHERE o.id = :id")
+    Optional<OrderJpaEntity> findForVersionIncrement(@Param("id") String id);
+
+    /**
+     * Avança a sequência do snapshot (nunca retrocede)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE orders SET snapshot_sequence = :sequence WHERE id = :id AND snapshot_sequence < :sequence",
+           nativeQuery = true)
+    int advanceSnapshotSequence(@Param("id") String id, @Param("sequence") Long sequence);
+
+    /**
+     * Histórico agregado (aprovados, rejeitados, cancelados, valor aprovado) de todos os clientes
+     */
+    @Query(value = CUSTOMER_STATS_SELECT + " GROUP BY customer_id", nativeQuery = true)
+    List<CustomerOrderStatsView> aggregateStatsByCustomer();
+
+    /**
+     * Histórico agregado apenas dos clientes com pedidos alterados desde o instante informado
+     */
+    @Query(value = CUSTOMER_STATS_SELECT
+           + " WHERE customer_id IN (SELECT customer_id FROM orders WHERE updated_at >= :since) GROUP BY customer_id",
+           nativeQuery = true)
+    List<CustomerOrderStatsView> aggregateStatsByCustomerChangedSince(@Param("since") LocalDateTime since);
+
+    // Aliases entre aspas: sem elas o Postgres devolve customerid/approvedamount e a projeção fica nula
+    String CUSTOMER_STATS_SELECT = "SELECT customer_id AS \"customerId\", "
+        + "SUM(CASE WHEN status = 'APPROVED' THEN 1 ELSE 0 END) AS approved, "
+        + "SUM(CASE WHEN status = 'REJECTED' THEN 1 ELSE 0 END) AS rejected, "
+        + "SUM(CASE WHEN status = 'CANCELLED' THEN 1 ELSE 0 END) AS cancelled, "
+        + "COALESCE(SUM(CASE WHEN status = 'APPROVED' THEN insured_amount ELSE 0 END), 0) AS \"approvedAmount\" "
+        + "FROM orders";
+
+    interface CustomerOrderStatsView {
+        String getCustomerId();
+        Long getApproved();
+        Long getRejected();
+        Long getCancelled();
+        BigDecimal getApprovedAmount();
+    }
 }
@@ -0,0 +1,42 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence.repository;
+
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderTransitionJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositório JPA do event store de transições
+ */
+@Repository
+public interface OrderTransitionJpaRepository extends JpaRepository<OrderTransitionJpaEntity, Long> {
+
+    /**
+     * Transições posteriores ao snapshot de um pedido, na ordem em que foram gravadas
+     */
+    List<OrderTransitionJpaEntity> findByOrderIdAndIdGreaterThanOrderByIdAsc(String orderId, Long sequence);
+
+    long countByOrderIdAndIdGreaterThan(String orderId, Long sequence);
+
+    /**
+     * Transições posteriores ao snapshot de cada pedido informado (uma única consulta para listagens)
+     */
+    @Query("SELECT t FROM OrderTransitionJpaEntity t, OrderJpaEntity o " +
+           "WHERE t.orderId = o.id AND t.id > o.snapshotSequence AND o.id IN :orderIds ORDER BY t.id")
+    List<OrderTransitionJpaEntity> findTailsByOrderIds(@Param("orderIds") Collection<String> orderIds);
+
+    /**
+     * Serializa leitura-decisão-escrita de um mesmo pedido até o fim da transação (PostgreSQL)
+     */
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock(hashtext(:orderId))", nativeQuery = true)
+    Integer lockOrderStream(@Param("orderId") String orderId);
+
+    @Modifying
+    @Query("DELETE FROM OrderTransitionJpaEntity t WHERE t.orderId = :orderId")
+    void deleteByOrderId(@Param("orderId") String orderId);
+}
@@ -0,0 +1,27 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence.repository;
+
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.ProcessedEventJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repositório JPA para eventos de entrada já processados
+ */
+@Repository
+public interface ProcessedEventJpaRepository extends JpaRepository<ProcessedEventJpaEntity, String> {
+
+    @Modifying
+    @Query(value = "INSERT INTO processed_events (event_key, processed_at) VALUES (:eventKey, :processedAt) " +
+                   "ON CONFLICT (event_key) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("eventKey") String eventKey, @Param("processedAt") LocalDateTime processedAt);
+
+    @Modifying
+    @Query("DELETE FROM ProcessedEventJpaEntity e WHERE e.processedAt < :threshold")
+    int deleteProcessedBefore(@Param("threshold") LocalDateTime threshold);
+}
@@ -0,0 +1,182 @@
+package com.seguradora.msorder.infrastructure.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Executor com limite de concorrência ajustado pela latência observada (AIMD).
+ *
+ * A cada janela: se a latência média das tarefas passou do alvo, o limite cai multiplicativamente;
+ * se ficou abaixo e houve fila na janela, o limite sobe uma thread. Com a fila cheia a tarefa é
+ * recusada (TaskRejectedException) em vez de rodar na thread chamadora.
+ */
+public class AdaptiveTaskExecutor implements AsyncTaskExecutor, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveTaskExecutor.class);
+
+    private static final double DECREASE_RATIO = 0.75;
+
+    private final ThreadPoolExecutor pool;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final long windowNanos;
+
+    private volatile int limit;
+
+    private final LongAdder windowLatencyNanos = new LongAdder();
+    private final LongAdder windowCompleted = new LongAdder();
+    private final AtomicBoolean windowQueued = new AtomicBoolean();
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicBoolean adjusting = new AtomicBoolean();
+
+    private final Timer waitTimer;
+    private final Timer executionTimer;
+    private final Counter rejectedCounter;
+
+    public AdaptiveTaskExecutor(String threadNamePrefix, int initialLimit, int minLimit, int maxLimit,
+                                int queueCapacity, long targetLatencyMs, long windowMs, MeterRegistry meterRegistry) {
+        if (minLimit < 1 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Invalid limits: min=" + minLimit + ", max=" + maxLimit);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMs);
+
+        this.pool = new ThreadPoolExecutor(limit, limit, 60, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), new CustomizableThreadFactory(threadNamePrefix),
+            new ThreadPoolExecutor.AbortPolicy());
+        this.pool.allowCoreThreadTimeOut(true);
+
+        this.waitTimer = Timer.builder("order.async.executor.wait")
+            .description("Tempo da tarefa na fila até começar a executar")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.executionTimer = Timer.builder("order.async.executor.execution")
+            .description("Tempo de execução da tarefa")
+            .publishPercentiles(0.5, 0.95, 0.99)
+            .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("order.async.executor.rejected")
+            .description("Tarefas recusadas com a fila cheia")
+            .register(meterRegistry);
+        Gauge.builder("order.async.executor.limit", this, AdaptiveTaskExecutor::getLimit)
+            .description("Limite de concorrência atual")
+            .register(meterRegistry);
+        Gauge.builder("order.async.executor.queue.depth", pool, p -> p.getQueue().size())
+            .description("Tarefas aguardando na fila")
+            .register(meterRegistry);
+        Gauge.builder("order.async.executor.active", pool, ThreadPoolExecutor::getActiveCount)
+            .description("Tarefas em execução")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long submittedAt = System.nanoTime();
+        try {
+            pool.execute(() -> run(task, submittedAt));
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new TaskRejectedException("Executor saturado (limite " + limit + ", fila cheia)", e);
+        }
+        if (!pool.getQueue().isEmpty()) {
+            windowQueued.set(true);
+        }
+    }
+
+    private void run(Runnable task, long submittedAt) {
+        long startedAt = System.nanoTime();
+        waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+        try {
+            task.run();
+        } finally {
+            long elapsed = System.nanoTime() - startedAt;
+            executionTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            onComplete(elapsed);
+        }
+    }
+
+    /**
+     * Registra a latência e, fechada a janela, ajusta o limite (uma thread por vez)
+     */
+    void onComplete(long latencyNanos) {
+        windowLatencyNanos.add(latencyNanos);
+        windowCompleted.increment();
+
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start < windowNanos || !adjusting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            long completed = windowCompleted.sumThenReset();
+            long averageLatency = completed == 0 ? 0 : windowLatencyNanos.sumThenReset() / completed;
+            boolean queued = windowQueued.getAndSet(false) || !pool.getQueue().isEmpty();
+            windowStart.set(now);
+            adjust(averageLatency, queued);
+        } finally {
+            adjusting.set(false);
+        }
+    }
+
+    void adjust(long averageLatencyNanos, boolean queued) {
+        int current = limit;
+        int next = current;
+        if (averageLatencyNanos > targetLatencyNanos) {
+            next = Math.max(minLimit, (int) (current * DECREASE_RATIO));
+        } else if (queued) {
+            next = Math.min(maxLimit, current + 1);
+        }
+        if (next != current) {
+            resize(next);
+            logger.debug("Limite do executor ajustado de {} para {} (latência média {} ms)",
+                current, next, TimeUnit.NANOSECONDS.toMillis(averageLatencyNanos));
+        }
+    }
+
+    private void resize(int newLimit) {
+        // core nunca pode ultrapassar max: a ordem depende do sentido do ajuste
+        if (newLimit > pool.getMaximumPoolSize()) {
+            pool.setMaximumPoolSize(newLimit);
+            pool.setCorePoolSize(newLimit);
+        } else {
+            pool.setCorePoolSize(newLimit);
+            pool.setMaximumPoolSize(newLimit);
+        }
+        limit = newLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public int getQueueDepth() {
+        return pool.getQueue().size();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        pool.shutdown();
+        if (!pool.awaitTermination(60, TimeUnit.SECONDS)) {
+            pool.shutdownNow();
+        }
+    }
+}
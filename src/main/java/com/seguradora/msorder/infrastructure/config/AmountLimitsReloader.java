@@ -0,0 +1,92 @@
+package com.seguradora.msorder.infrastructure.config;
+
+import com.seguradora.msorder.core.domain.service.AmountLimitMatrix;
+import com.seguradora.msorder.core.domain.service.InsuranceAmountValidator;
+import com.seguradora.msorder.core.domain.valueobject.InsuranceType;
+import com.seguradora.msorder.core.domain.valueobject.RiskLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.util.Properties;
+
+/**
+ * Carrega a tabela de limites de valor segurado de um arquivo .properties e a recarrega quando o
+ * arquivo muda, sem redeploy.
+ *
+ * Formato: {@code version=<n>} e uma linha {@code <RiskLevel>.<InsuranceType>=<valor>} por
+ * combinação aceita. Só versões maiores que a vigente são aplicadas; arquivos inválidos são
+ * ignorados e a tabela atual continua valendo.
+ */
+@Component
+public class AmountLimitsReloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(AmountLimitsReloader.class);
+
+    private final InsuranceAmountValidator validator;
+    private final Resource resource;
+    private long lastModified = Long.MIN_VALUE;
+
+    public AmountLimitsReloader(InsuranceAmountValidator validator,
+                                @Value("${order.limits.location:classpath:amount-limits.properties}") String location) {
+        this.validator = validator;
+        this.resource = new DefaultResourceLoader().getResource(location);
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${order.limits.reload-interval:PT30S}")
+    public synchronized void reload() {
+        try {
+            long modified = resource.lastModified();
+            if (modified == lastModified) {
+                return;
+            }
+            lastModified = modified;
+
+            AmountLimitMatrix limits = parse(resource);
+            if (validator.updateLimits(limits)) {
+                logger.info("Limites de valor segurado atualizados para a versão {} ({})",
+                    limits.version(), resource.getDescription());
+            } else {
+                logger.warn("Limites de {} ignorados: versão {} não é maior que a vigente ({})",
+                    resource.getDescription(), limits.version(), validator.currentLimits().version());
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            logger.error("Falha ao carregar limites de {}; mantendo a versão {}",
+                resource.getDescription(), validator.currentLimits().version(), e);
+        }
+    }
+
+    static AmountLimitMatrix parse(Resource resource) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream input = resource.getInputStream()) {
+            properties.load(input);
+        }
+
+        String version = properties.getProperty("version");
+        if (version == null) {
+            throw new IllegalArgumentException("Missing 'version' in " + resource.getDescription());
+        }
+
+        AmountLimitMatrix.Builder builder = AmountLimitMatrix.builder(Long.parseLong(version.trim()));
+        for (String key : properties.stringPropertyNames()) {
+            if (key.equals("version")) {
+                continue;
+            }
+            String[] parts = key.split("\\.");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid limit key: " + key);
+            }
+            builder.limit(RiskLevel.valueOf(parts[0].trim()), new BigDecimal(properties.getProperty(key).trim()),
+                InsuranceType.valueOf(parts[1].trim()));
+        }
+        return builder.build();
+    }
+}
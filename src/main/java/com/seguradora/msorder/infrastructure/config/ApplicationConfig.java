@@ -4,34 +4,92 @@ import com.seguradora.msorder.core.domain.service.InsuranceAmountValidator;
 import com.seguradora.msorder.core.port.in.CreateOrderUseCase;
 import com.seguradora.msorder.core.port.in.GetOrderUseCase;
 import com.seguradora.msorder.core.port.in.ListOrdersUseCase;
+import com.seguradora.msorder.core.port.out.BlockedCustomerPort;
+import com.seguradora.msorder.core.port.out.CustomerOrderStatsPort;
 import com.seguradora.msorder.core.port.out.FraudAnalysisPort;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.core.port.out.OrderStatusNotifierPort;
 import com.seguradora.msorder.core.usecase.order.CreateOrderService;
 import com.seguradora.msorder.core.usecase.order.GetOrderService;
 import com.seguradora.msorder.core.usecase.order.ListOrdersService;
+import com.seguradora.msorder.core.usecase.order.OrderCacheKey;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.concurrent.Executor;
 
 /**
  * Configuração da aplicação com beans dos casos de uso
  */
 @Configuration
 @EnableAsync
+@EnableScheduling
 public class ApplicationConfig {
 
     @Bean
     public CreateOrderUseCase createOrderUseCase(OrderRepositoryPort orderRepository,
                                                OrderEventPublisherPort eventPublisher,
                                                FraudAnalysisPort fraudAnalysisPort,
-                                               InsuranceAmountValidator amountValidator) {
-        return new CreateOrderService(orderRepository, eventPublisher, fraudAnalysisPort, amountValidator);
+                                               InsuranceAmountValidator amountValidator,
+                                               BlockedCustomerPort blockedCustomerPort,
+                                               CustomerOrderStatsPort customerOrderStatsPort,
+                                               OrderStatusNotifierPort statusNotifier,
+                                               OrderLaneExecutor laneExecutor,
+                                               PlatformTransactionManager transactionManager,
+                                               @Qualifier("taskExecutor") Executor taskExecutor,
+                                               @Value("${order.events.coalesce-transitions:false}") boolean coalesceTransitions) {
+        return new CreateOrderService(orderRepository, eventPublisher, fraudAnalysisPort, amountValidator,
+            blockedCustomerPort, customerOrderStatsPort, statusNotifier, laneExecutor, transactionManager, taskExecutor,
+            coalesceTransitions);
+    }
+
+    /**
+     * Pedidos decididos pela pré-validação (sem chamada à API de fraudes), chamadas efetivamente feitas
+     * pedidos recusados por cliente bloqueado, classificados pelo histórico local (API de fraudes indisponível)
+     * e validações recusadas pelo executor saturado
+     */
+    @Bean
+    public MeterBinder orderValidationMetrics(CreateOrderUseCase createOrderUseCase) {
+        return registry -> {
+            if (!(createOrderUseCase instanceof CreateOrderService service)) {
+                return;
+            }
+            FunctionCounter.builder("order.validation.fraud.skipped", service, CreateOrderService::getPreApprovedCount)
+                .description("Pedidos decididos pela tabela de limites sem consultar a API de fraudes")
+                .tag("outcome", "approved")
+                .register(registry);
+            FunctionCounter.builder("order.validation.fraud.skipped", service, CreateOrderService::getPreRejectedCount)
+                .description("Pedidos decididos pela tabela de limites sem consultar a API de fraudes")
+                .tag("outcome", "rejected")
+                .register(registry);
+            FunctionCounter.builder("order.validation.fraud.calls", service, CreateOrderService::getFraudAnalysisCount)
+                .description("Consultas feitas à API de fraudes")
+                .register(registry);
+            FunctionCounter.builder("order.validation.blocked", service, CreateOrderService::getBlockedCount)
+                .description("Pedidos recusados na entrada por cliente bloqueado")
+                .register(registry);
+            FunctionCounter.builder("order.validation.fraud.fallback", service, CreateOrderService::getHistoryFallbackCount)
+                .description("Pedidos classificados pelo histórico local por falha da API de fraudes")
+                .register(registry);
+            FunctionCounter.builder("order.validation.rejected", service, CreateOrderService::getValidationRejectedCount)
+                .description("Validações recusadas pelo executor saturado; o pedido fica em RECEIVED até ser retomado")
+                .register(registry);
+        };
     }
 
     @Bean
-    public GetOrderUseCase getOrderUseCase(OrderRepositoryPort orderRepository) {
-        return new GetOrderService(orderRepository);
+    public GetOrderUseCase getOrderUseCase(OrderRepositoryPort orderRepository, CacheManager cacheManager) {
+        return new GetOrderService(orderRepository, cacheManager.getCache(OrderCacheKey.CACHE_NAME));
     }
 
     @Bean
@@ -1,7 +1,15 @@
 package com.seguradora.msorder.infrastructure.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.system.JavaVersion;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -9,13 +17,57 @@ import java.util.concurrent.Executor;
 
 /**
  * Configuração otimizada de thread pools para operações assíncronas
+ *
+ * O taskExecutor roda a validação dos pedidos criados (ver CreateOrderService).
+ * Com spring.threads.virtual.enabled=true em um JDK 21+, ele (e também Tomcat e os listeners
+ * Kafka) passam a usar virtual threads; em JDKs anteriores a propriedade é ignorada com um aviso.
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(AsyncConfig.class);
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${order.async.adaptive.enabled:false}")
+    private boolean adaptive;
+
+    @Value("${order.async.adaptive.initial-limit:10}")
+    private int adaptiveInitialLimit = 10;
+
+    @Value("${order.async.adaptive.min-limit:4}")
+    private int adaptiveMinLimit = 4;
+
+    @Value("${order.async.adaptive.max-limit:50}")
+    private int adaptiveMaxLimit = 50;
+
+    @Value("${order.async.adaptive.queue-capacity:100}")
+    private int adaptiveQueueCapacity = 100;
+
+    @Value("${order.async.adaptive.target-latency-ms:500}")
+    private long adaptiveTargetLatencyMs = 500;
+
+    @Value("${order.async.adaptive.window-ms:1000}")
+    private long adaptiveWindowMs = 1000;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        if (virtualThreadsActive(virtualThreads)) {
+            return virtualThreadExecutor("OrderAsync-");
+        }
+
+        if (adaptive) {
+            // Limite de concorrência guiado pela latência; fila cheia recusa em vez de CallerRuns
+            return new AdaptiveTaskExecutor("OrderAsync-", adaptiveInitialLimit, adaptiveMinLimit, adaptiveMaxLimit,
+                adaptiveQueueCapacity, adaptiveTargetLatencyMs, adaptiveWindowMs,
+                meterRegistry != null ? meterRegistry : new SimpleMeterRegistry());
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
         // Pool otimizado para operações I/O intensivas (APIs externas)
@@ -35,4 +87,29 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Mesmo critério do Spring Boot (Threading.VIRTUAL): propriedade ligada e runtime com virtual threads
+     */
+    static boolean virtualThreadsActive(boolean enabled) {
+        if (!enabled) {
+            return false;
+        }
+        if (!JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            logger.warn("spring.threads.virtual.enabled ignorado: runtime Java {} não suporta virtual threads",
+                JavaVersion.getJavaVersion());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Uma virtual thread por tarefa, sem fila nem limite de pool
+     */
+    static SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
 }
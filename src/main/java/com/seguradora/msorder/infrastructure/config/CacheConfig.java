@@ -1,5 +1,6 @@
 package com.seguradora.msorder.infrastructure.config;
 
+import com.seguradora.msorder.core.usecase.order.OrderCacheKey;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
@@ -15,7 +16,7 @@ public class CacheConfig {
 
     @Bean
     public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("orders", "fraudAnalysis");
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(OrderCacheKey.CACHE_NAME, "fraudAnalysis");
         cacheManager.setAllowNullValues(false);
         return cacheManager;
     }
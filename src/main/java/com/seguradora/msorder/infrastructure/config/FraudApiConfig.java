@@ -0,0 +1,31 @@
+package com.seguradora.msorder.infrastructure.config;
+
+import com.seguradora.msorder.infrastructure.adapter.out.external.HedgedRequestExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração das chamadas à API de fraudes
+ */
+@Configuration
+public class FraudApiConfig {
+
+    /**
+     * Hedging da análise de fraudes: segunda chamada quando a primeira passa do percentil de latência
+     */
+    @Bean
+    @ConditionalOnProperty(name = "fraud.analysis.hedging.enabled", havingValue = "true")
+    public HedgedRequestExecutor fraudAnalysisHedgedExecutor(
+            @Value("${fraud.analysis.hedging.percentile:0.95}") double percentile,
+            @Value("${fraud.analysis.hedging.initial-delay-ms:200}") long initialDelayMs,
+            @Value("${fraud.analysis.hedging.min-delay-ms:20}") long minDelayMs,
+            @Value("${fraud.analysis.hedging.budget-percent:10}") int budgetPercent,
+            @Value("${fraud.analysis.hedging.max-concurrency:64}") int maxConcurrency,
+            MeterRegistry meterRegistry) {
+        return new HedgedRequestExecutor("FraudApi-", percentile, initialDelayMs, minDelayMs, budgetPercent,
+            maxConcurrency, "order.fraud.analysis", meterRegistry);
+    }
+}
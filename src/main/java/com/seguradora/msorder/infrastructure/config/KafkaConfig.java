@@ -1,10 +1,23 @@
 package com.seguradora.msorder.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seguradora.msorder.application.dto.PaymentEventData;
+import com.seguradora.msorder.application.dto.SubscriptionEventData;
 import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization.LocalSchemaStore;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization.OrderEventAvroCodec;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization.OrderEventAvroSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -12,12 +25,21 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultAfterRollbackProcessor;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+import org.springframework.kafka.support.serializer.DelegatingByTopicDeserializer;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 /**
  * Configuração do Kafka
@@ -26,15 +48,68 @@ import java.util.Map;
 @EnableKafka
 public class KafkaConfig {
 
+    static final String ORDER_EVENTS_TOPIC = "order-events";
+
+    // payment-events-dlt, subscription-events-dlt
+    private static final Pattern DEAD_LETTER_TOPIC = Pattern.compile(".*-dlt");
+
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
 
+    @Value("${order.events.encoding:json}")
+    private String eventEncoding;
+
+    @Value("${order.events.schema-store.directory:}")
+    private String schemaStoreDirectory;
+
+    @Value("${order.events.exactly-once.enabled:false}")
+    private boolean exactlyOnce;
+
+    @Value("${order.events.exactly-once.transaction-id-prefix:order-service-tx-}")
+    private String transactionIdPrefix;
+
+    @Value("${order.events.retry.attempts:4}")
+    private int retryAttempts;
+
+    @Value("${order.events.retry.initial-delay:1000}")
+    private long retryInitialDelay;
+
+    @Value("${order.events.retry.multiplier:2.0}")
+    private double retryMultiplier;
+
+    @Value("${order.events.retry.max-delay:30000}")
+    private long retryMaxDelay;
+
+    @Value("${order.kafka.producer.batch-size:16384}")
+    private int batchSize = 16384;
+
+    @Value("${order.kafka.producer.linger-ms:5}")
+    private int lingerMs = 5;
+
+    @Value("${order.kafka.producer.buffer-memory:33554432}")
+    private int bufferMemory = 33554432;
+
+    @Value("${order.kafka.producer.compression-type:snappy}")
+    private String compressionType = "snappy";
+
+    // Teto de bloqueio em send() quando o buffer enche (o limite de envios em voo deve recusar antes)
+    @Value("${order.kafka.producer.max-block-ms:5000}")
+    private int maxBlockMs = 5000;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Producer único da aplicação: todos os templates compartilham o mesmo KafkaProducer (threads de
+     * rede, buffer e producer id idempotente), com o serializer de valor escolhido pelo tópico
+     */
     @Bean
-    public ProducerFactory<String, OrderEvent> producerFactory() {
+    public ProducerFactory<String, Object> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
 
         // Configurações otimizadas para performance
         configProps.put(ProducerConfig.ACKS_CONFIG, "all"); // Obrigatório para idempotência
@@ -42,78 +117,227 @@ public class KafkaConfig {
         configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
 
         // Otimizações de throughput
-        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, 16384); // 16KB batches
-        configProps.put(ProducerConfig.LINGER_MS_CONFIG, 5); // Aguarda 5ms para batching
-        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432); // 32MB buffer
-        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy"); // Compressão eficiente
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BUFFER_MEMORY_CONFIG, bufferMemory);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
 
         // Configurações de conexão otimizadas
         configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
         configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+        if (exactlyOnce) {
+            configProps.put(ProducerConfig.RETRY_BACKOFF_MS_CONFIG, 10);
+        }
+
+        DefaultKafkaProducerFactory<String, Object> factory =
+            new DefaultKafkaProducerFactory<>(configProps, new StringSerializer(), valueSerializer());
+        if (exactlyOnce) {
+            // Producer transacional: o ORDER_* publicado pelo listener e o offset consumido vão no mesmo commit
+            factory.setTransactionIdPrefix(transactionIdPrefix);
+        }
+        if (meterRegistry != null) {
+            // kafka.producer.record.send.rate, batch.size.avg, buffer.available.bytes, ...
+            factory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        }
+        return factory;
     }
 
     @Bean
     public KafkaTemplate<String, OrderEvent> kafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+        return template();
     }
 
+    /**
+     * Template sem tipo fixo: envios manuais, replay do DLT e reenvio aos tópicos de retry/DLT
+     */
     @Bean
-    public ProducerFactory<String, Object> genericProducerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class); // Para strings simples
+    public KafkaTemplate<String, Object> genericKafkaTemplate() {
+        return template();
+    }
 
-        // Configurações otimizadas
-        configProps.put(ProducerConfig.ACKS_CONFIG, "all"); // Obrigatório para idempotência
-        configProps.put(ProducerConfig.RETRIES_CONFIG, 3);
-        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+    /**
+     * Template para registros já serializados (replay do DLT): os bytes vão ao tópico sem conversão
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> rawKafkaTemplate() {
+        return template();
+    }
 
-        return new DefaultKafkaProducerFactory<>(configProps);
+    @SuppressWarnings("unchecked")
+    private <V> KafkaTemplate<String, V> template() {
+        KafkaTemplate<String, V> template =
+            new KafkaTemplate<>((ProducerFactory<String, V>) (ProducerFactory<String, ?>) producerFactory());
+        // Fora de um listener (ex.: criação via API) não há transação: publica com producer não transacional
+        template.setAllowNonTransactional(exactlyOnce);
+        return template;
     }
 
-    @Bean
-    public KafkaTemplate<String, Object> genericKafkaTemplate() {
-        return new KafkaTemplate<>(genericProducerFactory());
+    /**
+     * order-events usa o formato de order.events.encoding; os demais tópicos recebem bytes e
+     * strings sem alteração (payloads inválidos reenviados ao DLT) e objetos como JSON
+     */
+    private Serializer<Object> valueSerializer() {
+        Map<Pattern, Serializer<?>> byTopic = new LinkedHashMap<>();
+        byTopic.put(Pattern.compile(ORDER_EVENTS_TOPIC), orderEventSerializer());
+
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+
+        Map<Class<?>, Serializer<?>> byType = new LinkedHashMap<>();
+        byType.put(byte[].class, new ByteArraySerializer());
+        byType.put(String.class, new StringSerializer());
+        byType.put(Object.class, jsonSerializer);
+
+        return new DelegatingByTopicSerializer(byTopic, new DelegatingByTypeSerializer(byType, true));
+    }
+
+    private Serializer<OrderEvent> orderEventSerializer() {
+        if ("avro".equalsIgnoreCase(eventEncoding)) {
+            // Avro binário com fingerprint do schema (ver OrderEventAvroCodec)
+            String directory = schemaStoreDirectory != null && !schemaStoreDirectory.isBlank() ? schemaStoreDirectory : null;
+            return new OrderEventAvroSerializer(new OrderEventAvroCodec(LocalSchemaStore.load(directory)));
+        }
+        return new JsonSerializer<>();
     }
 
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
-        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "order-service-group");
-        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        Map<String, Object> configProps = consumerProperties();
 
         // Configuração para deserializar strings simples
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
 
-        // Configurações de erro handling
-        configProps.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
-        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, StringDeserializer.class);
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * Consumer dos DLTs para replay: valor em bytes, exatamente como foi publicado na origem
+     */
+    @Bean
+    public ConsumerFactory<String, byte[]> deadLetterConsumerFactory() {
+        Map<String, Object> configProps = consumerProperties();
+        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+
+        return new DefaultKafkaConsumerFactory<>(configProps);
+    }
+
+    /**
+     * Consumer de payment-events: PaymentEventData é lido direto dos bytes do registro
+     */
+    @Bean
+    public ConsumerFactory<String, Object> paymentEventConsumerFactory(ObjectMapper objectMapper) {
+        return typedConsumerFactory(PaymentEventData.class, objectMapper);
+    }
+
+    /**
+     * Consumer de subscription-events: SubscriptionEventData é lido direto dos bytes do registro
+     */
+    @Bean
+    public ConsumerFactory<String, Object> subscriptionEventConsumerFactory(ObjectMapper objectMapper) {
+        return typedConsumerFactory(SubscriptionEventData.class, objectMapper);
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
+        return listenerContainerFactory(consumerFactory());
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> paymentEventListenerContainerFactory(ObjectMapper objectMapper) {
+        return listenerContainerFactory(paymentEventConsumerFactory(objectMapper));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> subscriptionEventListenerContainerFactory(ObjectMapper objectMapper) {
+        return listenerContainerFactory(subscriptionEventConsumerFactory(objectMapper));
+    }
+
+    private Map<String, Object> consumerProperties() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "order-service-group");
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
 
         // Configurações de performance
         configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, 1);
         configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, 500);
         configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 500);
-        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, true);
-        configProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, 1000);
+        // Commit feito pelo container após processar (ou encaminhar ao retry/DLT) cada registro
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        if (exactlyOnce) {
+            // Ignora registros de transações abortadas nos tópicos de retry/DLT
+            configProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        }
 
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        return configProps;
     }
 
-    @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+    /**
+     * O JsonDeserializer lê o DTO com o parser streaming do Jackson sobre o byte[] do registro, sem
+     * passar por String; o ErrorHandlingDeserializer converte payloads inválidos em
+     * DeserializationException, que o @RetryableTopic envia direto ao DLT com os bytes originais.
+     * O DLT usa o mesmo container e é lido como byte[]: um payload inválido não falha de novo ali.
+     */
+    private ConsumerFactory<String, Object> typedConsumerFactory(Class<?> type, ObjectMapper objectMapper) {
+        JsonDeserializer<?> eventDeserializer = new JsonDeserializer<>(type, objectMapper, false);
+        Deserializer<Object> valueDeserializer = new DelegatingByTopicDeserializer(
+            Map.of(DEAD_LETTER_TOPIC, new ByteArrayDeserializer()),
+            new ErrorHandlingDeserializer<>(eventDeserializer));
+
+        return new DefaultKafkaConsumerFactory<>(consumerProperties(),
+            new ErrorHandlingDeserializer<>(new StringDeserializer()),
+            valueDeserializer);
+    }
+
+    private <T> ConcurrentKafkaListenerContainerFactory<String, T> listenerContainerFactory(ConsumerFactory<String, T> consumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
 
         // Configurações do container
         factory.setConcurrency(1); // Um thread por partição
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
         factory.getContainerProperties().setSyncCommits(true);
 
+        if (AsyncConfig.virtualThreadsActive(virtualThreads)) {
+            factory.getContainerProperties().setListenerTaskExecutor(AsyncConfig.virtualThreadExecutor("kafka-listener-"));
+        }
+
+        if (exactlyOnce) {
+            factory.getContainerProperties().setTransactionManager(new KafkaTransactionManager<>(producerFactory()));
+            factory.setAfterRollbackProcessor(afterRollbackProcessor());
+        }
+
         return factory;
     }
+
+    /**
+     * No modo exactly-once uma falha aborta a transação (offset e eventos publicados) e o registro é
+     * reprocessado no próprio tópico com o backoff de order.events.retry; esgotadas as tentativas vai
+     * para o DLT, com o offset commitado na mesma transação do envio
+     */
+    private DefaultAfterRollbackProcessor<Object, Object> afterRollbackProcessor() {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(Math.max(0, retryAttempts - 1));
+        backOff.setInitialInterval(retryInitialDelay);
+        backOff.setMultiplier(retryMultiplier);
+        backOff.setMaxInterval(retryMaxDelay);
+
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(genericKafkaTemplate(),
+            (record, exception) -> new TopicPartition(deadLetterTopic(record.topic()), -1));
+
+        DefaultAfterRollbackProcessor<Object, Object> processor =
+            new DefaultAfterRollbackProcessor<>(recoverer, backOff, kafkaTemplate(), true);
+        processor.addNotRetryableExceptions(IllegalArgumentException.class, IllegalStateException.class);
+        return processor;
+    }
+
+    /**
+     * DLT do tópico principal, mesmo quando o registro veio de um tópico de retry (payment-events-retry-1000)
+     */
+    static String deadLetterTopic(String topic) {
+        return topic.replaceFirst("-retry(-\\d+)?$", "") + "-dlt";
+    }
 }
@@ -0,0 +1,18 @@
+-- Event store de transições de pedidos (modo event sourcing)
+-- Apenas INSERTs: a ordem global é dada pela sequência, sem conflito entre escritores concorrentes
+CREATE TABLE order_transitions (
+    id BIGSERIAL PRIMARY KEY,
+    order_id VARCHAR(36) NOT NULL,
+    transition_type VARCHAR(50) NOT NULL,
+    from_status VARCHAR(50) NOT NULL,
+    to_status VARCHAR(50) NOT NULL,
+    reason TEXT,
+    occurred_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_order_transitions_order_id ON order_transitions(order_id, id);
+
+-- Última transição incorporada na linha de orders (snapshot)
+ALTER TABLE orders ADD COLUMN snapshot_sequence BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN orders.snapshot_sequence IS 'Sequência da última transição de order_transitions incorporada ao snapshot';
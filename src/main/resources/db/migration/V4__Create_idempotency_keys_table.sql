@@ -0,0 +1,10 @@
+-- Chaves de idempotência para POST /api/v1/orders (TTL curto)
+CREATE TABLE idempotency_keys (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    response_body TEXT, -- NULL enquanto a requisição original está em processamento
+    created_at TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
@@ -0,0 +1,7 @@
+-- Eventos de entrada (payment-events / subscription-events) já processados, para descarte de reentregas
+CREATE TABLE processed_events (
+    event_key VARCHAR(200) PRIMARY KEY,
+    processed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events(processed_at);
@@ -0,0 +1,4 @@
+-- Origem da classificação de risco nas transições de validação/rejeição (NULL quando não se aplica)
+ALTER TABLE order_transitions ADD COLUMN risk_source VARCHAR(20);
+
+COMMENT ON COLUMN order_transitions.risk_source IS 'FRAUD_API ou LOCAL_HISTORY quando a transição foi decidida pela classificação de risco';
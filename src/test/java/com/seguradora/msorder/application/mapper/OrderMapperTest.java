@@ -92,7 +92,7 @@ class OrderMapperTest {
     @Test
     void shouldHandleNullOrder() {
         // When
-        OrderResponse response = mapper.toResponse(null);
+        OrderResponse response = mapper.toResponse((Order) null);
 
         // Then
         assertThat(response).isNull();
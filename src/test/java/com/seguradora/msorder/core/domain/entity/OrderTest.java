@@ -1,5 +1,7 @@
 package com.seguradora.msorder.core.domain.entity;
 
+import com.seguradora.msorder.core.domain.event.OrderTransition;
+import com.seguradora.msorder.core.domain.event.OrderTransitionType;
 import com.seguradora.msorder.core.domain.valueobject.*;
 import org.junit.jupiter.api.Test;
 
@@ -314,6 +316,20 @@ class OrderTest {
         assertEquals(OrderStatus.VALIDATED, order.getStatus());
     }
 
+    @Test
+    void shouldRecordReasonWhenValidatingWithReason() {
+        // Given
+        Order order = createValidOrder();
+
+        // When
+        order.validate("Risco pelo histórico local");
+
+        // Then
+        assertEquals(OrderStatus.VALIDATED, order.getStatus());
+        List<OrderHistory.HistoryEntry> entries = order.getHistory().getEntries();
+        assertEquals("Risco pelo histórico local", entries.get(entries.size() - 1).getReason());
+    }
+
     @Test
     void shouldThrowExceptionWhenValidatingOrderNotInReceivedState() {
         // Given
@@ -751,6 +767,74 @@ class OrderTest {
         assertThrows(IllegalStateException.class, () -> order.markAsPending());
     }
 
+    // Testes de transições registradas (event sourcing)
+    @Test
+    void shouldRecordPendingTransitionsInOrder() {
+        // Given
+        Order order = createValidOrder();
+
+        // When
+        order.validate();
+        order.markAsPending();
+        order.approvePayment();
+        List<OrderTransition> transitions = order.pullPendingTransitions();
+
+        // Then
+        assertEquals(List.of(OrderTransitionType.VALIDATED, OrderTransitionType.MARKED_PENDING,
+                             OrderTransitionType.PAYMENT_APPROVED),
+                     transitions.stream().map(OrderTransition::type).toList());
+        assertEquals(OrderStatus.PENDING, transitions.get(2).fromStatus());
+        assertEquals(OrderStatus.PENDING, transitions.get(2).toStatus());
+        assertTrue(order.pullPendingTransitions().isEmpty());
+    }
+
+    @Test
+    void shouldRebuildSameStateWhenReplayingTransitionsOverSnapshot() {
+        // Given
+        Order order = createValidOrder();
+        Order snapshot = Order.restore(order.getId(), order.getCustomerId(), order.getProductId(),
+                                      order.getCategory(), order.getSalesChannel(), order.getPaymentMethod(),
+                                      order.getTotalMonthlyPremiumAmount(), order.getInsuredAmount(),
+                                      order.getCoverages(), order.getAssistances(), order.getStatus(),
+                                      order.getDescription(), order.getCreatedAt(), order.getUpdatedAt(),
+                                      order.getFinishedAt(), order.getHistory(), order.getPaymentApproved(),
+                                      order.getSubscriptionApproved(), 0L);
+        order.validate();
+        order.markAsPending();
+        order.approvePayment();
+        order.approveSubscription();
+        order.finalizeApproval();
+
+        // When
+        snapshot.replay(order.pullPendingTransitions());
+
+        // Then
+        assertEquals(OrderStatus.APPROVED, snapshot.getStatus());
+        assertEquals("APPROVED", snapshot.getPaymentApproved());
+        assertEquals("APPROVED", snapshot.getSubscriptionApproved());
+        assertEquals(order.getFinishedAt(), snapshot.getFinishedAt());
+        assertEquals(order.getHistory(), snapshot.getHistory());
+        assertTrue(snapshot.pullPendingTransitions().isEmpty());
+    }
+
+    @Test
+    void shouldRecordSingleTransitionWhenPaymentIsRejected() {
+        // Given
+        Order order = createValidOrder();
+        order.validate();
+        order.markAsPending();
+        order.pullPendingTransitions();
+
+        // When
+        order.rejectPayment("Saldo insuficiente");
+
+        // Then
+        List<OrderTransition> transitions = order.pullPendingTransitions();
+        assertEquals(1, transitions.size());
+        assertEquals(OrderTransitionType.PAYMENT_REJECTED, transitions.get(0).type());
+        assertEquals(OrderStatus.REJECTED, transitions.get(0).toStatus());
+        assertEquals("REJECTED", order.getPaymentApproved());
+    }
 
     private Order createValidOrder() {
         return createValidOrderWithAmount(new BigDecimal("1500.00"));
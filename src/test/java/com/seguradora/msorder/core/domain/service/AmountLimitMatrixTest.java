@@ -0,0 +1,75 @@
+package com.seguradora.msorder.core.domain.service;
+
+import com.seguradora.msorder.core.domain.valueobject.InsuranceType;
+import com.seguradora.msorder.core.domain.valueobject.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AmountLimitMatrixTest {
+
+    @Test
+    void shouldStoreLimitsInCents() {
+        // Given
+        AmountLimitMatrix matrix = AmountLimitMatrix.builder(3)
+            .limit(RiskLevel.REGULAR, new BigDecimal("1234.5"), InsuranceType.AUTO, InsuranceType.HOME)
+            .build();
+
+        // Then
+        assertThat(matrix.version()).isEqualTo(3);
+        assertThat(matrix.limitInCents(RiskLevel.REGULAR, InsuranceType.AUTO)).isEqualTo(123450L);
+        assertThat(matrix.limitInCents(RiskLevel.REGULAR, InsuranceType.HOME)).isEqualTo(123450L);
+        assertThat(matrix.limitInCents(RiskLevel.REGULAR, InsuranceType.LIFE)).isEqualTo(AmountLimitMatrix.NOT_ALLOWED);
+    }
+
+    @Test
+    void shouldCompareAmountsAtTheBoundaryRegardlessOfScale() {
+        // Given
+        AmountLimitMatrix matrix = AmountLimitMatrix.builder(1)
+            .limit(RiskLevel.NO_INFO, new BigDecimal("75000.00"), InsuranceType.AUTO)
+            .build();
+
+        // Then
+        assertThat(matrix.isWithinLimit(RiskLevel.NO_INFO, InsuranceType.AUTO, new BigDecimal("75000"))).isTrue();
+        assertThat(matrix.isWithinLimit(RiskLevel.NO_INFO, InsuranceType.AUTO, new BigDecimal("75000.000"))).isTrue();
+        assertThat(matrix.isWithinLimit(RiskLevel.NO_INFO, InsuranceType.AUTO, new BigDecimal("75000.001"))).isFalse();
+    }
+
+    @Test
+    void shouldRejectCombinationsWithoutLimit() {
+        // Given
+        AmountLimitMatrix matrix = AmountLimitMatrix.defaults();
+
+        // Then
+        for (RiskLevel riskLevel : RiskLevel.values()) {
+            assertThat(matrix.isWithinLimit(riskLevel, InsuranceType.BUSINESS, BigDecimal.ONE)).isFalse();
+        }
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        AmountLimitMatrix.Builder builder = AmountLimitMatrix.builder(1);
+
+        assertThatThrownBy(() -> builder.limit(RiskLevel.REGULAR, new BigDecimal("10.005"), InsuranceType.AUTO))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> builder.limit(RiskLevel.REGULAR, new BigDecimal("-1"), InsuranceType.AUTO))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldNotBeAffectedByBuilderChangesAfterBuild() {
+        // Given
+        AmountLimitMatrix.Builder builder = AmountLimitMatrix.builder(1)
+            .limit(RiskLevel.REGULAR, new BigDecimal("100"), InsuranceType.AUTO);
+        AmountLimitMatrix matrix = builder.build();
+
+        // When
+        builder.limit(RiskLevel.REGULAR, new BigDecimal("200"), InsuranceType.AUTO);
+
+        // Then
+        assertThat(matrix.limitInCents(RiskLevel.REGULAR, InsuranceType.AUTO)).isEqualTo(10000L);
+    }
+}
@@ -0,0 +1,78 @@
+package com.seguradora.msorder.core.domain.service;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerOrderStats;
+import com.seguradora.msorder.core.domain.valueobject.RiskLevel;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HistoryRiskScorerTest {
+
+    @Test
+    void shouldReturnNoInfoWithoutFinishedOrders() {
+        assertThat(HistoryRiskScorer.score(CustomerOrderStats.EMPTY)).isEqualTo(RiskLevel.NO_INFO);
+        assertThat(HistoryRiskScorer.score(null)).isEqualTo(RiskLevel.NO_INFO);
+    }
+
+    @Test
+    void shouldReturnHighRiskWhenHalfOfOrdersWereRejectedOrCancelled() {
+        // Given
+        CustomerOrderStats stats = new CustomerOrderStats(2, 1, 1, new BigDecimal("10000.00"));
+
+        // When
+        RiskLevel riskLevel = HistoryRiskScorer.score(stats);
+
+        // Then
+        assertThat(riskLevel).isEqualTo(RiskLevel.HIGH_RISK);
+    }
+
+    @Test
+    void shouldNotReturnHighRiskForSingleRejection() {
+        // Given
+        CustomerOrderStats stats = new CustomerOrderStats(0, 1, 0, BigDecimal.ZERO);
+
+        // When
+        RiskLevel riskLevel = HistoryRiskScorer.score(stats);
+
+        // Then
+        assertThat(riskLevel).isEqualTo(RiskLevel.REGULAR);
+    }
+
+    @Test
+    void shouldReturnPreferentialForSeveralApprovedOrdersWithoutRejection() {
+        // Given
+        CustomerOrderStats stats = new CustomerOrderStats(3, 0, 1, new BigDecimal("90000.00"));
+
+        // When
+        RiskLevel riskLevel = HistoryRiskScorer.score(stats);
+
+        // Then
+        assertThat(riskLevel).isEqualTo(RiskLevel.PREFERENTIAL);
+    }
+
+    @Test
+    void shouldReturnPreferentialForHighApprovedVolume() {
+        // Given
+        CustomerOrderStats stats = new CustomerOrderStats(1, 0, 0, new BigDecimal("500000.00"));
+
+        // When
+        RiskLevel riskLevel = HistoryRiskScorer.score(stats);
+
+        // Then
+        assertThat(riskLevel).isEqualTo(RiskLevel.PREFERENTIAL);
+    }
+
+    @Test
+    void shouldReturnRegularForMixedHistory() {
+        // Given
+        CustomerOrderStats stats = new CustomerOrderStats(4, 1, 0, new BigDecimal("200000.00"));
+
+        // When
+        RiskLevel riskLevel = HistoryRiskScorer.score(stats);
+
+        // Then
+        assertThat(riskLevel).isEqualTo(RiskLevel.REGULAR);
+    }
+}
@@ -0,0 +1,104 @@
+package com.seguradora.msorder.core.domain.service;
+
+import com.seguradora.msorder.core.domain.valueobject.InsuranceType;
+import com.seguradora.msorder.core.domain.valueobject.RiskLevel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+
+/**
+ * Custo por chamada (ns e bytes alocados) da validação de limites: switches aninhados com
+ * BigDecimal criado a cada chamada versus a tabela pré-compilada.
+ *
+ * Só roda com -Dbenchmark=true:
+ * mvn test -Dtest=InsuranceAmountValidatorBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InsuranceAmountValidatorBenchmarkTest {
+
+    private static final int WARMUP = 2_000_000;
+    private static final int ITERATIONS = 10_000_000;
+
+    private static final RiskLevel[] RISKS = RiskLevel.values();
+    private static final InsuranceType[] TYPES = InsuranceType.values();
+    private static final BigDecimal[] AMOUNTS = {
+        new BigDecimal("50000.00"), new BigDecimal("130000.00"), new BigDecimal("300000.00"), new BigDecimal("900000.00")
+    };
+
+    private static volatile int sink;
+
+    @Test
+    void compareNestedSwitchesAndLimitMatrix() {
+        InsuranceAmountValidator validator = new InsuranceAmountValidator();
+
+        measure("switches", this::legacyIsAmountValid, WARMUP);
+        measure("matrix", validator::isAmountValid, WARMUP);
+
+        measure("switches", this::legacyIsAmountValid, ITERATIONS).print();
+        measure("matrix", validator::isAmountValid, ITERATIONS).print();
+    }
+
+    private static Result measure(String name, Validation validation, int iterations) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        int valid = 0;
+        for (int i = 0; i < iterations; i++) {
+            if (validation.isAmountValid(RISKS[i & 3], TYPES[i % TYPES.length], AMOUNTS[(i >>> 2) & 3])) {
+                valid++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+        sink = valid;
+
+        return new Result(name, (double) elapsed / iterations, (double) allocated / iterations);
+    }
+
+    /**
+     * Implementação anterior (switches por risco e tipo, BigDecimal a cada chamada)
+     */
+    private boolean legacyIsAmountValid(RiskLevel riskLevel, InsuranceType type, BigDecimal amount) {
+        return switch (riskLevel) {
+            case REGULAR -> switch (type) {
+                case LIFE, HOME -> amount.compareTo(new BigDecimal("500000.00")) <= 0;
+                case AUTO -> amount.compareTo(new BigDecimal("350000.00")) <= 0;
+                case HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("255000.00")) <= 0;
+                default -> false;
+            };
+            case HIGH_RISK -> switch (type) {
+                case AUTO -> amount.compareTo(new BigDecimal("250000.00")) <= 0;
+                case HOME -> amount.compareTo(new BigDecimal("150000.00")) <= 0;
+                case LIFE, HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("125000.00")) <= 0;
+                default -> false;
+            };
+            case PREFERENTIAL -> switch (type) {
+                case LIFE -> amount.compareTo(new BigDecimal("800000.00")) <= 0;
+                case AUTO, HOME -> amount.compareTo(new BigDecimal("450000.00")) <= 0;
+                case HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("375000.00")) <= 0;
+                default -> false;
+            };
+            case NO_INFO -> switch (type) {
+                case LIFE, HOME -> amount.compareTo(new BigDecimal("200000.00")) <= 0;
+                case AUTO -> amount.compareTo(new BigDecimal("75000.00")) <= 0;
+                case HEALTH, TRAVEL -> amount.compareTo(new BigDecimal("55000.00")) <= 0;
+                default -> false;
+            };
+        };
+    }
+
+    @FunctionalInterface
+    private interface Validation {
+        boolean isAmountValid(RiskLevel riskLevel, InsuranceType type, BigDecimal amount);
+    }
+
+    private record Result(String name, double nanosPerCall, double bytesPerCall) {
+        void print() {
+            System.out.printf("%s: %.1f ns/chamada, %.1f bytes/chamada%n", name, nanosPerCall, bytesPerCall);
+        }
+    }
+}
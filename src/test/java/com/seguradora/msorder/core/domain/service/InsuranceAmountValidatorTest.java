@@ -202,4 +202,73 @@ class InsuranceAmountValidatorTest {
         assertThat(validator.isAmountValid(RiskLevel.HIGH_RISK, InsuranceType.HOME, new BigDecimal("150000.00"))).isTrue();
         assertThat(validator.isAmountValid(RiskLevel.HIGH_RISK, InsuranceType.LIFE, new BigDecimal("125000.00"))).isTrue();
     }
+
+    // Testes de troca da tabela de limites
+    @Test
+    void shouldApplyNewerLimitVersion() {
+        // Given
+        AmountLimitMatrix raised = AmountLimitMatrix.builder(5)
+            .limit(RiskLevel.NO_INFO, new BigDecimal("100000.00"), InsuranceType.AUTO)
+            .build();
+
+        // When
+        boolean applied = validator.updateLimits(raised);
+
+        // Then
+        assertThat(applied).isTrue();
+        assertThat(validator.currentLimits().version()).isEqualTo(5);
+        assertThat(validator.isAmountValid(RiskLevel.NO_INFO, InsuranceType.AUTO, new BigDecimal("90000.00"))).isTrue();
+        assertThat(validator.isAmountValid(RiskLevel.REGULAR, InsuranceType.AUTO, new BigDecimal("1.00"))).isFalse();
+    }
+
+    @Test
+    void shouldIgnoreStaleLimitVersion() {
+        // Given
+        validator.updateLimits(AmountLimitMatrix.builder(5).build());
+        AmountLimitMatrix stale = AmountLimitMatrix.builder(4)
+            .limit(RiskLevel.REGULAR, new BigDecimal("1.00"), InsuranceType.AUTO)
+            .build();
+
+        // When
+        boolean applied = validator.updateLimits(stale);
+
+        // Then
+        assertThat(applied).isFalse();
+        assertThat(validator.currentLimits().version()).isEqualTo(5);
+    }
+
+    // Testes de pré-validação (independente do risco)
+    @Test
+    void shouldPreValidateOutcomesThatDoNotDependOnRisk() {
+        assertThat(validator.preValidate(InsuranceType.AUTO, new BigDecimal("450000.01")))
+            .isEqualTo(InsuranceAmountValidator.PreValidation.ABOVE_ALL_LIMITS);
+        assertThat(validator.preValidate(InsuranceType.AUTO, new BigDecimal("75000.00")))
+            .isEqualTo(InsuranceAmountValidator.PreValidation.WITHIN_ALL_LIMITS);
+        assertThat(validator.preValidate(InsuranceType.AUTO, new BigDecimal("75000.01")))
+            .isEqualTo(InsuranceAmountValidator.PreValidation.DEPENDS_ON_RISK);
+        assertThat(validator.preValidate(InsuranceType.AUTO, new BigDecimal("450000.00")))
+            .isEqualTo(InsuranceAmountValidator.PreValidation.DEPENDS_ON_RISK);
+        assertThat(validator.preValidate(InsuranceType.BUSINESS, BigDecimal.ONE))
+            .isEqualTo(InsuranceAmountValidator.PreValidation.ABOVE_ALL_LIMITS);
+    }
+
+    @Test
+    void shouldAgreeWithRiskBasedValidationWhenPreValidationDecides() {
+        BigDecimal[] amounts = {
+            new BigDecimal("1.00"), new BigDecimal("55000.00"), new BigDecimal("200000.00"),
+            new BigDecimal("450000.00"), new BigDecimal("800000.01")
+        };
+        for (InsuranceType type : InsuranceType.values()) {
+            for (BigDecimal amount : amounts) {
+                InsuranceAmountValidator.PreValidation decision = validator.preValidate(type, amount);
+                if (decision == InsuranceAmountValidator.PreValidation.DEPENDS_ON_RISK) {
+                    continue;
+                }
+                boolean expected = decision == InsuranceAmountValidator.PreValidation.WITHIN_ALL_LIMITS;
+                for (RiskLevel riskLevel : RiskLevel.values()) {
+                    assertThat(validator.isAmountValid(riskLevel, type, amount)).isEqualTo(expected);
+                }
+            }
+        }
+    }
 }
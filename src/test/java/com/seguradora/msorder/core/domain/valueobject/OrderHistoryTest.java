@@ -261,4 +261,21 @@ class OrderHistoryTest {
         assertThat(reconstructedHistory.getEntries().get(1).getToStatus()).isEqualTo(OrderStatus.VALIDATED);
         assertThat(reconstructedHistory.getEntries().get(2).getToStatus()).isEqualTo(OrderStatus.PENDING);
     }
+
+    @Test
+    void shouldRoundTripRiskSourceThroughJson() {
+        // Given
+        OrderHistory originalHistory = OrderHistory.empty()
+            .addEntry(null, OrderStatus.RECEIVED, "Created")
+            .addEntry(OrderStatus.RECEIVED, OrderStatus.VALIDATED, "Validated", LocalDateTime.now(),
+                RiskSource.LOCAL_HISTORY);
+
+        // When
+        OrderHistory reconstructedHistory = OrderHistory.fromJson(originalHistory.toJson());
+
+        // Then
+        assertThat(reconstructedHistory.getEntries().get(0).getRiskSource()).isNull();
+        assertThat(reconstructedHistory.getEntries().get(1).getRiskSource()).isEqualTo(RiskSource.LOCAL_HISTORY);
+        assertThat(reconstructedHistory).isEqualTo(originalHistory);
+    }
 }
@@ -217,7 +217,7 @@ class OrderEventPublisherPortTest {
         assertThat(port).isNotNull();
 
         java.lang.reflect.Method[] methods = OrderEventPublisherPort.class.getDeclaredMethods();
-        assertThat(methods).hasSize(8);
+        assertThat(methods).hasSize(9);
 
         // Verifica os nomes dos métodos
         String[] expectedMethods = {
@@ -244,6 +244,11 @@ class OrderEventPublisherPortTest {
             }
             assertThat(methodExists).as("Method %s should exist", methodName).isTrue();
         }
+
+        assertThat(methods).anySatisfy(method -> {
+            assertThat(method.getName()).isEqualTo("publishOrderTransitions");
+            assertThat(method.getParameterTypes()).containsExactly(Order.class, List.class);
+        });
     }
 
     @Test
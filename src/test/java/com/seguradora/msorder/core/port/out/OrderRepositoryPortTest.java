@@ -234,12 +234,12 @@ class OrderRepositoryPortTest {
         assertThat(repository).isNotNull();
 
         java.lang.reflect.Method[] methods = OrderRepositoryPort.class.getDeclaredMethods();
-        assertThat(methods).hasSize(7);
+        assertThat(methods).hasSize(9);
 
         // Verifica os nomes e assinaturas dos métodos
         String[] expectedMethods = {
             "save", "findById", "findByCustomerId", "findByStatus",
-            "findAll", "deleteById", "existsById"
+            "findAll", "deleteById", "existsById", "findVersionById", "findAllById"
         };
 
         for (String methodName : expectedMethods) {
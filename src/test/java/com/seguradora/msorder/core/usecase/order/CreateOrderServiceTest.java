@@ -4,19 +4,32 @@ import com.seguradora.msorder.core.domain.entity.Order;
 import com.seguradora.msorder.core.domain.service.InsuranceAmountValidator;
 import com.seguradora.msorder.core.domain.valueobject.*;
 import com.seguradora.msorder.core.port.in.CreateOrderUseCase.CreateOrderCommand;
+import com.seguradora.msorder.core.port.out.BlockedCustomerPort;
+import com.seguradora.msorder.core.port.out.CustomerOrderStatsPort;
 import com.seguradora.msorder.core.port.out.FraudAnalysisPort;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
 import com.seguradora.msorder.infrastructure.adapter.out.external.dto.FraudAnalysisRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,16 +51,18 @@ class CreateOrderServiceTest {
     @Mock
     private InsuranceAmountValidator amountValidator;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OrderLaneExecutor laneExecutor = new OrderLaneExecutor(4);
+
     private CreateOrderService createOrderService;
 
     @BeforeEach
     void setUp() {
-        createOrderService = new CreateOrderService(
-            orderRepository,
-            eventPublisher,
-            fraudAnalysisPort,
-            amountValidator
-        );
+        createOrderService = newService(amountValidator, false);
+        lenient().when(amountValidator.preValidate(any(InsuranceType.class), any(BigDecimal.class)))
+            .thenReturn(InsuranceAmountValidator.PreValidation.DEPENDS_ON_RISK);
     }
 
     @Test
@@ -71,7 +86,7 @@ class CreateOrderServiceTest {
                                      command.totalMonthlyPremiumAmount(), command.insuredAmount(),
                                      command.coverages(), command.assistances(), command.description());
 
-        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+        stubRepository(mockOrder);
         when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("PREFERENTIAL");
         when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
                 .thenReturn(true);
@@ -114,7 +129,7 @@ class CreateOrderServiceTest {
                                      command.totalMonthlyPremiumAmount(), command.insuredAmount(),
                                      command.coverages(), command.assistances(), command.description());
 
-        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+        stubRepository(mockOrder);
         when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("HIGH_RISK");
         when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
                 .thenReturn(true);
@@ -153,7 +168,7 @@ class CreateOrderServiceTest {
                                      command.totalMonthlyPremiumAmount(), command.insuredAmount(),
                                      command.coverages(), command.assistances(), command.description());
 
-        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+        stubRepository(mockOrder);
         when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("HIGH_RISK");
         when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
                 .thenReturn(false);
@@ -191,7 +206,7 @@ class CreateOrderServiceTest {
                                      command.totalMonthlyPremiumAmount(), command.insuredAmount(),
                                      command.coverages(), command.assistances(), command.description());
 
-        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+        stubRepository(mockOrder);
         when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class)))
                 .thenThrow(new RuntimeException("API failure"));
         when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
@@ -231,7 +246,7 @@ class CreateOrderServiceTest {
                                      command.totalMonthlyPremiumAmount(), command.insuredAmount(),
                                      command.coverages(), command.assistances(), command.description());
 
-        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+        stubRepository(mockOrder);
         when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("REGULAR");
         when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
                 .thenReturn(true);
@@ -273,7 +288,7 @@ class CreateOrderServiceTest {
                                      command.totalMonthlyPremiumAmount(), command.insuredAmount(),
                                      command.coverages(), command.assistances(), command.description());
 
-        when(orderRepository.save(any(Order.class))).thenReturn(mockOrder);
+        stubRepository(mockOrder);
         when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("NO_INFO");
         when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
                 .thenReturn(false);
@@ -289,4 +304,400 @@ class CreateOrderServiceTest {
         verify(eventPublisher, times(1)).publishOrderCreated(any(Order.class));
         verify(eventPublisher, times(1)).publishOrderRejected(any(Order.class));
     }
+
+    @Test
+    void shouldPublishSingleTransitionsEventWhenCoalescingValidatedOrder() {
+        // Given
+        CreateOrderService coalescingService = newService(amountValidator, true);
+        CreateOrderCommand command = coalescingCommand();
+
+        stubRepository();
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("REGULAR");
+        when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
+                .thenReturn(true);
+
+        // When
+        Order result = coalescingService.createOrder(command);
+
+        // Then
+        assertEquals(OrderStatus.PENDING, result.getStatus());
+        verify(eventPublisher).publishOrderTransitions(result,
+            List.of(OrderStatus.RECEIVED, OrderStatus.VALIDATED, OrderStatus.PENDING));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldPublishSingleTransitionsEventWhenCoalescingRejectedOrder() {
+        // Given
+        CreateOrderService coalescingService = newService(amountValidator, true);
+        CreateOrderCommand command = coalescingCommand();
+
+        stubRepository();
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("HIGH_RISK");
+        when(amountValidator.isAmountValid(any(RiskLevel.class), any(InsuranceType.class), any(BigDecimal.class)))
+                .thenReturn(false);
+
+        // When
+        Order result = coalescingService.createOrder(command);
+
+        // Then
+        assertEquals(OrderStatus.REJECTED, result.getStatus());
+        verify(eventPublisher).publishOrderTransitions(result, List.of(OrderStatus.RECEIVED, OrderStatus.REJECTED));
+        verifyNoMoreInteractions(eventPublisher);
+    }
+
+    @Test
+    void shouldRejectWithoutFraudCallWhenAmountExceedsLimitForEveryRisk() {
+        // Given
+        CreateOrderService service = newService(new InsuranceAmountValidator(), false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("450000.01"));
+
+        stubRepository();
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then
+        assertEquals(OrderStatus.REJECTED, result.getStatus());
+        verifyNoInteractions(fraudAnalysisPort);
+        verify(eventPublisher).publishOrderRejected(result);
+        assertThat(service.getPreRejectedCount()).isEqualTo(1);
+        assertThat(service.getFraudAnalysisCount()).isZero();
+    }
+
+    @Test
+    void shouldApproveWithoutFraudCallWhenAmountIsWithinLimitForEveryRisk() {
+        // Given
+        CreateOrderService service = newService(new InsuranceAmountValidator(), false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("75000.00"));
+
+        stubRepository();
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then
+        assertEquals(OrderStatus.PENDING, result.getStatus());
+        verifyNoInteractions(fraudAnalysisPort);
+        verify(eventPublisher).publishOrderValidated(result);
+        verify(eventPublisher).publishOrderPending(result);
+        assertThat(service.getPreApprovedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCallFraudAnalysisWhenOutcomeDependsOnRisk() {
+        // Given
+        CreateOrderService service = newService(new InsuranceAmountValidator(), false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("300000.00"));
+
+        stubRepository();
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("HIGH_RISK");
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then
+        assertEquals(OrderStatus.REJECTED, result.getStatus());
+        verify(fraudAnalysisPort).analyzeRisk(any(FraudAnalysisRequest.class));
+        assertThat(service.getFraudAnalysisCount()).isEqualTo(1);
+        assertThat(service.getPreApprovedCount() + service.getPreRejectedCount()).isZero();
+    }
+
+    @Test
+    void shouldRejectBlockedCustomerBeforeAnyWriteOrRemoteCall() {
+        // Given
+        BlockedCustomerPort blockedCustomerPort = customerId -> customerId.getValue().equals("1008");
+        CreateOrderService service = newService(amountValidator, blockedCustomerPort, customerId -> CustomerOrderStats.EMPTY, false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("300000.00"));
+
+        // When / Then
+        CreateOrderService.CustomerBlockedException exception = assertThrows(
+            CreateOrderService.CustomerBlockedException.class, () -> service.createOrder(command));
+        assertThat(exception.getMessage()).contains("1008");
+        verifyNoInteractions(orderRepository, eventPublisher, fraudAnalysisPort);
+        assertThat(service.getBlockedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldScoreFromLocalHistoryWhenFraudApiFails() {
+        // Given
+        CustomerOrderStatsPort statsPort = customerId -> new CustomerOrderStats(1, 2, 1, BigDecimal.ZERO);
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false, statsPort, false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("300000.00"));
+
+        stubRepository();
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class)))
+            .thenThrow(new RuntimeException("API failure"));
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then: histórico negativo vira HIGH_RISK (limite AUTO 250.000,00)
+        assertEquals(OrderStatus.REJECTED, result.getStatus());
+        assertThat(lastEntry(result).getRiskSource()).isEqualTo(RiskSource.LOCAL_HISTORY);
+        assertThat(service.getHistoryFallbackCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldTagOrderApprovedByLocalHistory() {
+        // Given
+        CustomerOrderStatsPort statsPort = customerId -> new CustomerOrderStats(5, 0, 0, new BigDecimal("90000.00"));
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false, statsPort, false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("400000.00"));
+
+        stubRepository();
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class)))
+            .thenThrow(new RuntimeException("API failure"));
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then: PREFERENTIAL aceita AUTO até 450.000,00
+        assertEquals(OrderStatus.PENDING, result.getStatus());
+        assertThat(result.getHistory().getEntries())
+            .anyMatch(entry -> entry.getToStatus() == OrderStatus.VALIDATED
+                && entry.getRiskSource() == RiskSource.LOCAL_HISTORY);
+    }
+
+    @Test
+    void shouldNotUseLocalHistoryWhenFraudApiAnswers() {
+        // Given
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false,
+            customerId -> { throw new AssertionError("histórico não deve ser consultado"); }, false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("300000.00"));
+
+        stubRepository();
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("REGULAR");
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then
+        assertEquals(OrderStatus.PENDING, result.getStatus());
+        assertThat(result.getHistory().getEntries())
+            .anyMatch(entry -> entry.getToStatus() == OrderStatus.VALIDATED
+                && entry.getRiskSource() == RiskSource.FRAUD_API);
+        assertThat(service.getHistoryFallbackCount()).isZero();
+    }
+
+    private static OrderHistory.HistoryEntry lastEntry(Order order) {
+        List<OrderHistory.HistoryEntry> entries = order.getHistory().getEntries();
+        return entries.get(entries.size() - 1);
+    }
+
+    private CreateOrderCommand autoCommand(BigDecimal insuredAmount) {
+        return new CreateOrderCommand(
+            new CustomerId("1008"),
+            ProductId.of("PROD008"),
+            InsuranceType.AUTO,
+            SalesChannel.MOBILE,
+            PaymentMethod.CREDIT_CARD,
+            new BigDecimal("90.00"),
+            insuredAmount,
+            Coverages.of(Map.of("collision", new BigDecimal("700.00"))),
+            Assistances.of(List.of("24h assistance")),
+            "Seguro auto"
+        );
+    }
+
+    private CreateOrderCommand coalescingCommand() {
+        return new CreateOrderCommand(
+            new CustomerId("1007"),
+            ProductId.of("PROD007"),
+            InsuranceType.AUTO,
+            SalesChannel.MOBILE,
+            PaymentMethod.CREDIT_CARD,
+            new BigDecimal("90.00"),
+            new BigDecimal("900.00"),
+            Coverages.of(Map.of("collision", new BigDecimal("700.00"))),
+            Assistances.of(List.of("24h assistance")),
+            "Seguro auto"
+        );
+    }
+
+    @Test
+    void shouldReturnReceivedOrderAndValidateOnExecutor() {
+        // Given
+        List<Runnable> submitted = new ArrayList<>();
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false,
+            customerId -> CustomerOrderStats.EMPTY, submitted::add, false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("300000.00"));
+        stubRepository();
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenReturn("REGULAR");
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then - nada da validação roda na thread da requisição
+        assertEquals(OrderStatus.RECEIVED, result.getStatus());
+        verifyNoInteractions(fraudAnalysisPort);
+        assertThat(submitted).hasSize(1);
+
+        submitted.get(0).run();
+        verify(fraudAnalysisPort).analyzeRisk(any(FraudAnalysisRequest.class));
+        verify(eventPublisher).publishOrderPending(any(Order.class));
+    }
+
+    @Test
+    void shouldLeaveOrderReceivedWhenExecutorIsSaturated() {
+        // Given
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false,
+            customerId -> CustomerOrderStats.EMPTY, task -> { throw new RejectedExecutionException("fila cheia"); }, false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("75000.00"));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        Order result = service.createOrder(command);
+
+        // Then - nada roda na thread da requisição; o pedido espera a retomada
+        assertEquals(OrderStatus.RECEIVED, result.getStatus());
+        assertThat(service.getValidationRejectedCount()).isEqualTo(1);
+        verify(orderRepository, times(1)).save(any(Order.class));
+        verifyNoInteractions(fraudAnalysisPort);
+    }
+
+    @Test
+    void shouldResumeOnlyStalledReceivedOrders() {
+        // Given
+        List<Runnable> submitted = new ArrayList<>();
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false,
+            customerId -> CustomerOrderStats.EMPTY, submitted::add, false);
+        Order stalled = receivedOrderCreatedAt(LocalDateTime.now().minusMinutes(10));
+        Order recent = receivedOrderCreatedAt(LocalDateTime.now());
+        when(orderRepository.findByStatus(OrderStatus.RECEIVED)).thenReturn(List.of(stalled, recent));
+        when(orderRepository.findById(stalled.getId())).thenReturn(Optional.of(stalled));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // When
+        int resumed = service.resumeStalledValidations(Duration.ofMinutes(2));
+
+        // Then
+        assertThat(resumed).isEqualTo(1);
+        assertThat(submitted).hasSize(1);
+        submitted.get(0).run();
+        assertEquals(OrderStatus.PENDING, stalled.getStatus());
+        assertEquals(OrderStatus.RECEIVED, recent.getStatus());
+    }
+
+    @Test
+    void shouldStopResumingWhileExecutorIsSaturated() {
+        // Given
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false,
+            customerId -> CustomerOrderStats.EMPTY, task -> { throw new RejectedExecutionException("fila cheia"); }, false);
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(10);
+        when(orderRepository.findByStatus(OrderStatus.RECEIVED))
+            .thenReturn(List.of(receivedOrderCreatedAt(createdAt), receivedOrderCreatedAt(createdAt)));
+
+        // When
+        int resumed = service.resumeStalledValidations(Duration.ofMinutes(2));
+
+        // Then
+        assertThat(resumed).isZero();
+        assertThat(service.getValidationRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipValidationOfOrderThatAlreadyLeftReceived() {
+        // Given
+        List<Runnable> submitted = new ArrayList<>();
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false,
+            customerId -> CustomerOrderStats.EMPTY, submitted::add, false);
+        CreateOrderCommand command = autoCommand(new BigDecimal("300000.00"));
+        stubRepository();
+        Order created = service.createOrder(command);
+        created.cancel();
+
+        // When
+        submitted.get(0).run();
+
+        // Then
+        assertEquals(OrderStatus.CANCELLED, created.getStatus());
+        verifyNoInteractions(fraudAnalysisPort);
+        verify(orderRepository, times(1)).save(any(Order.class));
+    }
+
+    @Test
+    void shouldDiscardValidationWhenCancelCommitsInOrderLaneDuringFraudCall() throws InterruptedException {
+        // Given - um cancelamento entra na raia do pedido enquanto a API de fraudes responde
+        List<Runnable> submitted = new ArrayList<>();
+        CreateOrderService service = newService(new InsuranceAmountValidator(), customerId -> false,
+            customerId -> CustomerOrderStats.EMPTY, submitted::add, false);
+        stubRepository();
+        Order created = service.createOrder(autoCommand(new BigDecimal("300000.00")));
+        String orderId = created.getId().getValue().toString();
+        CountDownLatch laneHeld = new CountDownLatch(1);
+        Thread cancel = new Thread(() -> laneExecutor.run(orderId, () -> {
+            laneHeld.countDown();
+            sleepQuietly(50);
+            created.cancel();
+            orderRepository.save(created);
+        }));
+        when(fraudAnalysisPort.analyzeRisk(any(FraudAnalysisRequest.class))).thenAnswer(invocation -> {
+            cancel.start();
+            laneHeld.await(5, TimeUnit.SECONDS);
+            return "REGULAR";
+        });
+
+        // When
+        submitted.get(0).run();
+        cancel.join(5_000);
+
+        // Then - a validação esperou o cancelamento, releu o pedido e descartou a decisão
+        assertEquals(OrderStatus.CANCELLED, created.getStatus());
+        verify(fraudAnalysisPort).analyzeRisk(any(FraudAnalysisRequest.class));
+        verify(eventPublisher, never()).publishOrderValidated(any(Order.class));
+        verify(eventPublisher, never()).publishOrderRejected(any(Order.class));
+        verify(transactionManager).commit(any());
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Order receivedOrderCreatedAt(LocalDateTime createdAt) {
+        Order order = Order.create(new CustomerId("1001"), ProductId.of("PROD001"), InsuranceType.AUTO,
+            SalesChannel.WEB_SITE, PaymentMethod.CREDIT_CARD, new BigDecimal("80.00"), new BigDecimal("50000.00"),
+            Coverages.of(Map.of("collision", new BigDecimal("40000.00"))), Assistances.of(List.of("24h assistance")),
+            "Seguro auto");
+        return Order.restore(order.getId(), order.getCustomerId(), order.getProductId(), order.getCategory(),
+            order.getSalesChannel(), order.getPaymentMethod(), order.getTotalMonthlyPremiumAmount(),
+            order.getInsuredAmount(), order.getCoverages(), order.getAssistances(), order.getStatus(),
+            order.getDescription(), createdAt, createdAt, null, order.getHistory(), null, null, null);
+    }
+
+    private CreateOrderService newService(InsuranceAmountValidator validator, boolean coalesceTransitions) {
+        return newService(validator, customerId -> false, customerId -> CustomerOrderStats.EMPTY, coalesceTransitions);
+    }
+
+    private CreateOrderService newService(InsuranceAmountValidator validator, BlockedCustomerPort blockedCustomerPort,
+                                          CustomerOrderStatsPort customerOrderStatsPort, boolean coalesceTransitions) {
+        return newService(validator, blockedCustomerPort, customerOrderStatsPort, Runnable::run, coalesceTransitions);
+    }
+
+    private CreateOrderService newService(InsuranceAmountValidator validator, BlockedCustomerPort blockedCustomerPort,
+                                          CustomerOrderStatsPort customerOrderStatsPort, Executor validationExecutor,
+                                          boolean coalesceTransitions) {
+        return new CreateOrderService(orderRepository, eventPublisher, fraudAnalysisPort, validator,
+            blockedCustomerPort, customerOrderStatsPort, order -> { }, laneExecutor, transactionManager,
+            validationExecutor, coalesceTransitions);
+    }
+
+    // A validação recarrega o pedido salvo na criação
+    private void stubRepository(Order saved) {
+        when(orderRepository.save(any(Order.class))).thenReturn(saved);
+        when(orderRepository.findById(saved.getId())).thenReturn(Optional.of(saved));
+    }
+
+    private void stubRepository() {
+        AtomicReference<Order> lastSaved = new AtomicReference<>();
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> {
+            lastSaved.set(invocation.getArgument(0));
+            return lastSaved.get();
+        });
+        when(orderRepository.findById(any(OrderId.class))).thenAnswer(invocation -> Optional.ofNullable(lastSaved.get()));
+    }
 }
@@ -0,0 +1,149 @@
+package com.seguradora.msorder.core.usecase.order;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import com.seguradora.msorder.core.port.in.GetOrderUseCase.GetOrderQuery;
+import com.seguradora.msorder.core.port.in.GetOrderUseCase.GetOrdersByIdsQuery;
+import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetOrderServiceTest {
+
+    private static final OrderId ORDER_ID = OrderId.of("123e4567-e89b-12d3-a456-426614174000");
+
+    @Mock
+    private OrderRepositoryPort orderRepository;
+
+    private Cache ordersCache;
+    private GetOrderService service;
+
+    @BeforeEach
+    void setUp() {
+        ordersCache = new ConcurrentMapCache("orders");
+        service = new GetOrderService(orderRepository, ordersCache);
+    }
+
+    @Test
+    void shouldAnswerVersionFromCacheWithoutRepository() {
+        // Given
+        ordersCache.put(OrderCacheKey.of(ORDER_ID), CachedOrder.of(orderWithVersion(7L)));
+
+        // When
+        long version = service.getOrderVersion(new GetOrderQuery(ORDER_ID));
+
+        // Then
+        assertThat(version).isEqualTo(7L);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void shouldLookUpOnlyVersionWhenNotCached() {
+        // Given
+        when(orderRepository.findVersionById(ORDER_ID)).thenReturn(Optional.of(3L));
+
+        // When
+        long version = service.getOrderVersion(new GetOrderQuery(ORDER_ID));
+
+        // Then
+        assertThat(version).isEqualTo(3L);
+        verify(orderRepository, never()).findById(any());
+    }
+
+    @Test
+    void shouldThrowNotFoundWhenVersionIsMissing() {
+        // Given
+        when(orderRepository.findVersionById(ORDER_ID)).thenReturn(Optional.empty());
+
+        // When / Then
+        assertThatThrownBy(() -> service.getOrderVersion(new GetOrderQuery(ORDER_ID)))
+            .isInstanceOf(GetOrderService.OrderNotFoundException.class);
+    }
+
+    @Test
+    void shouldServeCacheHitsAndLoadMissesInOneQuery() {
+        // Given
+        OrderId missingId = OrderId.of("223e4567-e89b-12d3-a456-426614174000");
+        OrderId unknownId = OrderId.of("323e4567-e89b-12d3-a456-426614174000");
+        CachedOrder cached = CachedOrder.of(orderWithVersion(ORDER_ID, 2L));
+        Order loaded = orderWithVersion(missingId, 1L);
+        ordersCache.put(OrderCacheKey.of(ORDER_ID), cached);
+        when(orderRepository.findAllById(List.of(missingId, unknownId))).thenReturn(List.of(loaded));
+
+        // When
+        List<CachedOrder> orders = service.getOrdersByIds(
+            new GetOrdersByIdsQuery(List.of(missingId, ORDER_ID, unknownId, missingId)));
+
+        // Then
+        assertThat(orders).extracting(CachedOrder::id).containsExactly(missingId, ORDER_ID);
+        assertThat(orders.get(1)).isSameAs(cached);
+        verify(orderRepository).findAllById(List.of(missingId, unknownId));
+        assertThat(ordersCache.get(OrderCacheKey.of(missingId), CachedOrder.class)).isSameAs(orders.get(0));
+    }
+
+    @Test
+    void shouldNotQueryRepositoryWhenAllOrdersAreCached() {
+        // Given
+        ordersCache.put(OrderCacheKey.of(ORDER_ID), CachedOrder.of(orderWithVersion(2L)));
+
+        // When
+        List<CachedOrder> orders = service.getOrdersByIds(new GetOrdersByIdsQuery(List.of(ORDER_ID)));
+
+        // Then
+        assertThat(orders).hasSize(1);
+        verifyNoInteractions(orderRepository);
+    }
+
+    @Test
+    void shouldReturnCopyUnaffectedByLaterChangesToTheOrder() {
+        // Given
+        Order order = orderWithVersion(4L);
+        when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(order));
+
+        // When
+        CachedOrder cached = service.getOrderById(new GetOrderQuery(ORDER_ID));
+        order.approvePayment();
+        order.approveSubscription();
+        order.finalizeApproval();
+
+        // Then
+        assertThat(cached.status()).isEqualTo(OrderStatus.PENDING);
+        assertThat(cached.paymentApproved()).isEqualTo("PENDING");
+        assertThat(cached.history()).isEmpty();
+        assertThat(cached.version()).isEqualTo(4L);
+        assertThatThrownBy(() -> cached.coverages().put("theft", BigDecimal.ONE))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private static Order orderWithVersion(long version) {
+        return orderWithVersion(ORDER_ID, version);
+    }
+
+    private static Order orderWithVersion(OrderId orderId, long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return Order.restore(orderId, new CustomerId("1001"), ProductId.of("PROD001"), InsuranceType.AUTO,
+            SalesChannel.MOBILE, PaymentMethod.PIX, new BigDecimal("100.00"), new BigDecimal("1000.00"),
+            Coverages.of(Map.of("collision", new BigDecimal("800.00"))), Assistances.of(List.of("24h")),
+            OrderStatus.PENDING, "Seguro auto", now, now, null, OrderHistory.empty(), "PENDING", "PENDING", version);
+    }
+}
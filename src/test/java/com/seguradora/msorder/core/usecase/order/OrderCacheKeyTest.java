@@ -0,0 +1,106 @@
+package com.seguradora.msorder.core.usecase.order;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import com.seguradora.msorder.core.port.in.GetOrderUseCase;
+import com.seguradora.msorder.core.port.in.UpdateOrderStatusUseCase;
+import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
+import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.core.port.out.OrderStatusNotifierPort;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig(OrderCacheKeyTest.CachingConfig.class)
+class OrderCacheKeyTest {
+
+    private static final OrderId ORDER_ID = OrderId.of("123e4567-e89b-12d3-a456-426614174000");
+
+    @Autowired
+    private GetOrderUseCase getOrderUseCase;
+
+    @Autowired
+    private UpdateOrderStatusUseCase updateOrderStatusUseCase;
+
+    @Autowired
+    private OrderRepositoryPort orderRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    void shouldNormalizeTextIdToSameKeyAsOrderId() {
+        // When
+        String key = OrderCacheKey.of("123E4567-E89B-12D3-A456-426614174000");
+
+        // Then
+        assertThat(key).isEqualTo(OrderCacheKey.of(ORDER_ID));
+    }
+
+    @Test
+    void shouldEvictOnStatusChangeTheEntryCachedByRead() {
+        // Given
+        Cache ordersCache = cacheManager.getCache(OrderCacheKey.CACHE_NAME);
+        when(orderRepository.findById(ORDER_ID)).thenAnswer(invocation -> Optional.of(pendingOrder()));
+        when(orderRepository.save(any(Order.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        getOrderUseCase.getOrderById(new GetOrderUseCase.GetOrderQuery(ORDER_ID));
+        assertThat(ordersCache.get(OrderCacheKey.of(ORDER_ID), CachedOrder.class)).isNotNull();
+
+        // When
+        updateOrderStatusUseCase.cancelOrder(new UpdateOrderStatusUseCase.CancelOrderCommand(ORDER_ID));
+
+        // Then
+        assertThat(ordersCache.get(OrderCacheKey.of(ORDER_ID))).isNull();
+    }
+
+    private static Order pendingOrder() {
+        LocalDateTime now = LocalDateTime.now();
+        return Order.restore(ORDER_ID, new CustomerId("1001"), ProductId.of("PROD001"), InsuranceType.AUTO,
+            SalesChannel.MOBILE, PaymentMethod.PIX, new BigDecimal("100.00"), new BigDecimal("1000.00"),
+            Coverages.of(Map.of("collision", new BigDecimal("800.00"))), Assistances.of(List.of("24h")),
+            OrderStatus.PENDING, "Seguro auto", now, now, null, OrderHistory.empty(), "PENDING", "PENDING", 1L);
+    }
+
+    @Configuration
+    @EnableCaching
+    static class CachingConfig {
+
+        @Bean
+        OrderRepositoryPort orderRepository() {
+            return mock(OrderRepositoryPort.class);
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(OrderCacheKey.CACHE_NAME);
+        }
+
+        @Bean
+        GetOrderService getOrderService(OrderRepositoryPort orderRepository, CacheManager cacheManager) {
+            return new GetOrderService(orderRepository, cacheManager.getCache(OrderCacheKey.CACHE_NAME));
+        }
+
+        @Bean
+        UpdateOrderStatusService updateOrderStatusService(OrderRepositoryPort orderRepository) {
+            return new UpdateOrderStatusService(orderRepository, mock(OrderEventPublisherPort.class),
+                mock(OrderStatusNotifierPort.class));
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.seguradora.msorder.core.domain.valueobject.*;
 import com.seguradora.msorder.core.port.in.UpdateOrderStatusUseCase;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.core.port.out.OrderStatusNotifierPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -29,13 +30,16 @@ class OrderStateServiceTest {
     @Mock
     private OrderEventPublisherPort orderEventPublisherPort;
 
+    @Mock
+    private OrderStatusNotifierPort statusNotifier;
+
     private UpdateOrderStatusService updateOrderStatusService;
 
     private Order testOrder;
 
     @BeforeEach
     void setUp() {
-        updateOrderStatusService = new UpdateOrderStatusService(orderRepositoryPort, orderEventPublisherPort);
+        updateOrderStatusService = new UpdateOrderStatusService(orderRepositoryPort, orderEventPublisherPort, statusNotifier);
 
         testOrder = Order.create(
                 new CustomerId("123"),
@@ -149,4 +153,20 @@ class OrderStateServiceTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessageContaining("Order not found");
     }
+
+    @Test
+    void shouldNotifyStatusStreamsAfterSavingTransition() {
+        // Given
+        testOrder.validate();
+        when(orderRepositoryPort.findById(any(OrderId.class))).thenReturn(java.util.Optional.of(testOrder));
+        when(orderRepositoryPort.save(any(Order.class))).thenReturn(testOrder);
+
+        // When
+        updateOrderStatusService.pendingOrder(new UpdateOrderStatusUseCase.PendingOrderCommand(testOrder.getId()));
+
+        // Then
+        var inOrder = inOrder(orderRepositoryPort, statusNotifier);
+        inOrder.verify(orderRepositoryPort).save(testOrder);
+        inOrder.verify(statusNotifier).statusChanged(testOrder);
+    }
 }
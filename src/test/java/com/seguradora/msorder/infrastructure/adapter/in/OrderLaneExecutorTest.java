@@ -0,0 +1,120 @@
+package com.seguradora.msorder.infrastructure.adapter.in;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderLaneExecutorTest {
+
+    @Test
+    void shouldAlwaysMapSameOrderToSameLane() {
+        // Given
+        OrderLaneExecutor executor = new OrderLaneExecutor(16);
+
+        // When
+        int first = executor.laneOf("order-123");
+        int second = executor.laneOf("order-123");
+
+        // Then
+        assertThat(first).isEqualTo(second).isBetween(0, 15);
+        assertThat(executor.laneOf(null)).isBetween(0, 15);
+    }
+
+    @Test
+    void shouldSerializeWorkForSameOrder() throws InterruptedException {
+        // Given
+        OrderLaneExecutor executor = new OrderLaneExecutor(8);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxConcurrent = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // When
+        for (int i = 0; i < 32; i++) {
+            pool.submit(() -> executor.run("order-1", () -> {
+                maxConcurrent.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+            }));
+        }
+        pool.shutdown();
+
+        // Then
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(maxConcurrent.get()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRunDifferentLanesInParallel() throws InterruptedException {
+        // Given
+        OrderLaneExecutor executor = new OrderLaneExecutor(64);
+        String orderA = "order-a";
+        String orderB = findOrderInOtherLane(executor, orderA);
+        CountDownLatch bothInside = new CountDownLatch(2);
+        List<Boolean> results = Collections.synchronizedList(new ArrayList<>());
+
+        // When
+        Thread first = new Thread(() -> executor.run(orderA, () -> results.add(awaitLatch(bothInside))));
+        Thread second = new Thread(() -> executor.run(orderB, () -> results.add(awaitLatch(bothInside))));
+        first.start();
+        second.start();
+        first.join(5_000);
+        second.join(5_000);
+
+        // Then
+        assertThat(results).containsExactly(true, true);
+    }
+
+    @Test
+    void shouldPropagateExceptionAndReleaseLane() {
+        // Given
+        OrderLaneExecutor executor = new OrderLaneExecutor(4);
+
+        // When & Then
+        assertThatThrownBy(() -> executor.run("order-1", () -> {
+            throw new IllegalStateException("conflict");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(executor.execute("order-1", () -> "ok")).isEqualTo("ok");
+    }
+
+    @Test
+    void shouldRejectNonPositiveLaneCount() {
+        assertThatThrownBy(() -> new OrderLaneExecutor(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String findOrderInOtherLane(OrderLaneExecutor executor, String orderId) {
+        for (int i = 0; ; i++) {
+            String candidate = "order-" + i;
+            if (executor.laneOf(candidate) != executor.laneOf(orderId)) {
+                return candidate;
+            }
+        }
+    }
+
+    private static boolean awaitLatch(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            return latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.seguradora.msorder.infrastructure.adapter.in;
+
+import com.seguradora.msorder.core.port.in.CreateOrderUseCase;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+class StalledValidationSweeperTest {
+
+    @Test
+    void shouldResumeValidationsOlderThanConfiguredMinAge() {
+        // Given
+        CreateOrderUseCase createOrderUseCase = mock(CreateOrderUseCase.class);
+        when(createOrderUseCase.resumeStalledValidations(Duration.ofMinutes(2))).thenReturn(3);
+        StalledValidationSweeper sweeper = new StalledValidationSweeper(createOrderUseCase, Duration.ofMinutes(2));
+
+        // When
+        sweeper.resumeStalledValidations();
+
+        // Then
+        verify(createOrderUseCase).resumeStalledValidations(Duration.ofMinutes(2));
+    }
+}
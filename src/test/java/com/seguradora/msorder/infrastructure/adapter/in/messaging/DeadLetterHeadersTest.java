@@ -0,0 +1,50 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DeadLetterHeadersTest {
+
+    @Test
+    void shouldDescribeOriginAndExceptionFromHeaders() {
+        // Given
+        ConsumerRecord<String, byte[]> deadLetter = new ConsumerRecord<>("payment-events-dlt", 0, 7L, "order-1",
+            "not json".getBytes(StandardCharsets.UTF_8));
+        deadLetter.headers()
+            .add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "payment-events".getBytes(StandardCharsets.UTF_8))
+            .add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(2).array())
+            .add(KafkaHeaders.DLT_ORIGINAL_OFFSET, ByteBuffer.allocate(Long.BYTES).putLong(42L).array())
+            .add(KafkaHeaders.DLT_EXCEPTION_FQCN, "org.springframework.kafka.listener.ListenerExecutionFailedException"
+                .getBytes(StandardCharsets.UTF_8))
+            .add(KafkaHeaders.DLT_EXCEPTION_CAUSE_FQCN, "org.springframework.kafka.support.serializer.DeserializationException"
+                .getBytes(StandardCharsets.UTF_8))
+            .add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "failed to deserialize".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        String description = DeadLetterHeaders.describe(deadLetter);
+
+        // Then
+        assertThat(description).isEqualTo("origem=payment-events, partição=2, offset=42, "
+            + "exceção=org.springframework.kafka.listener.ListenerExecutionFailedException, "
+            + "causa=org.springframework.kafka.support.serializer.DeserializationException, "
+            + "mensagem=failed to deserialize");
+    }
+
+    @Test
+    void shouldToleratePublisherWithoutExceptionHeaders() {
+        // Given
+        ConsumerRecord<String, byte[]> deadLetter = new ConsumerRecord<>("payment-events-dlt", 0, 7L, "order-1", null);
+
+        // When
+        String description = DeadLetterHeaders.describe(deadLetter);
+
+        // Then
+        assertThat(description).contains("origem=null", "offset=null", "mensagem=null");
+    }
+}
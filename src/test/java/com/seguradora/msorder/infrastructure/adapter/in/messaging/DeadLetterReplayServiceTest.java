@@ -0,0 +1,131 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    private static final TopicPartition DLT_PARTITION = new TopicPartition("payment-events-dlt", 0);
+
+    @Mock
+    private ConsumerFactory<String, byte[]> consumerFactory;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    private MockConsumer<String, byte[]> consumer;
+    private DeadLetterReplayService service;
+
+    @BeforeEach
+    void setUp() {
+        // Mantém o consumer aberto após o replay para inspecionar os offsets commitados
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST) {
+            @Override
+            public synchronized void close() {
+            }
+        };
+        service = new DeadLetterReplayService(consumerFactory, kafkaTemplate);
+    }
+
+    @Test
+    void shouldRepublishDeadLettersToOriginalTopic() {
+        // Given
+        when(consumerFactory.createConsumer(anyString(), any())).thenReturn(consumer);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        scheduleDeadLetters("first", "second", "third");
+
+        // When
+        int replayed = service.replay("payment-events", 2);
+
+        // Then
+        assertThat(replayed).isEqualTo(2);
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        assertThat(captor.getAllValues()).extracting(ProducerRecord::topic).containsOnly("payment-events");
+        assertThat(captor.getAllValues()).extracting(ProducerRecord::value)
+            .containsExactly(bytes("first"), bytes("second"));
+        assertThat(consumer.committed(Set.of(DLT_PARTITION)).get(DLT_PARTITION).offset()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepOriginalHeadersAndDropDeadLetterHeaders() {
+        // Given
+        when(consumerFactory.createConsumer(anyString(), any())).thenReturn(consumer);
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        byte[] payload = {0x7b, 0x00, (byte) 0xff, 0x7d};
+        RecordHeaders headers = new RecordHeaders();
+        headers.add("__TypeId__", bytes("PaymentEventData"));
+        headers.add("traceparent", bytes("00-abc-def-01"));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, bytes("boom"));
+        headers.add(KafkaHeaders.DLT_ORIGINAL_OFFSET, new byte[8]);
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(DLT_PARTITION));
+            consumer.updateBeginningOffsets(Map.of(DLT_PARTITION, 0L));
+            consumer.addRecord(new ConsumerRecord<>(DLT_PARTITION.topic(), 0, 0, 0L, TimestampType.CREATE_TIME,
+                0, 0, "order-0", payload, headers, Optional.empty()));
+        });
+
+        // When
+        service.replay("payment-events", 10);
+
+        // Then
+        ArgumentCaptor<ProducerRecord<String, byte[]>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate).send(captor.capture());
+        ProducerRecord<String, byte[]> replayed = captor.getValue();
+        assertThat(replayed.value()).isEqualTo(payload);
+        assertThat(replayed.key()).isEqualTo("order-0");
+        assertThat(replayed.headers()).extracting(Header::key).containsExactly("__TypeId__", "traceparent");
+    }
+
+    @Test
+    void shouldRejectTopicWithoutDeadLetterQueue() {
+        assertThatThrownBy(() -> service.replay("order-events", 10))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(consumerFactory, kafkaTemplate);
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private void scheduleDeadLetters(String... values) {
+        consumer.schedulePollTask(() -> {
+            consumer.rebalance(List.of(DLT_PARTITION));
+            consumer.updateBeginningOffsets(Map.of(DLT_PARTITION, 0L));
+            for (int i = 0; i < values.length; i++) {
+                consumer.addRecord(new ConsumerRecord<>(DLT_PARTITION.topic(), 0, i, "order-" + i, bytes(values[i])));
+            }
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import com.seguradora.msorder.core.port.out.ProcessedEventStorePort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InboundEventDeduplicatorTest {
+
+    @Mock
+    private ProcessedEventStorePort store;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InboundEventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new InboundEventDeduplicator(store, transactionManager, 2, Duration.ofDays(7));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldBuildKeyFromEventIdOrBusinessKey() {
+        assertThat(InboundEventDeduplicator.eventKey("payment", "evt-1", "order-1", "APPROVED"))
+            .isEqualTo("payment:evt-1");
+        assertThat(InboundEventDeduplicator.eventKey("payment", null, "order-1", "APPROVED"))
+            .isEqualTo("payment:order-1:APPROVED");
+    }
+
+    @Test
+    void shouldAnswerRecentDuplicatesFromMemoryWindow() {
+        // Given
+        when(store.markProcessed("payment:order-1:APPROVED")).thenReturn(true);
+        Runnable work = mock(Runnable.class);
+
+        // When
+        boolean first = deduplicator.processOnce("payment:order-1:APPROVED", work);
+        boolean second = deduplicator.processOnce("payment:order-1:APPROVED", work);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(work, times(1)).run();
+        verify(store, times(1)).markProcessed("payment:order-1:APPROVED");
+    }
+
+    @Test
+    void shouldFallBackToStoreWhenEvictedFromWindow() {
+        // Given
+        when(store.markProcessed(anyString())).thenReturn(true);
+        deduplicator.processOnce("a", () -> { });
+        deduplicator.processOnce("b", () -> { });
+        deduplicator.processOnce("c", () -> { });
+        doReturn(false).when(store).markProcessed("a");
+        Runnable work = mock(Runnable.class);
+
+        // When
+        boolean processed = deduplicator.processOnce("a", work);
+
+        // Then
+        assertThat(processed).isFalse();
+        verify(store, times(2)).markProcessed("a");
+        verifyNoInteractions(work);
+    }
+
+    @Test
+    void shouldRollBackClaimTogetherWithFailedProcessing() {
+        // Given
+        when(store.markProcessed("payment:order-1:APPROVED")).thenReturn(true);
+
+        // When
+        assertThatThrownBy(() -> deduplicator.processOnce("payment:order-1:APPROVED", () -> {
+            throw new IllegalStateException("falha ao atualizar o pedido");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // Then
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    void shouldProcessRedeliveryOfFailedEvent() {
+        // Given
+        when(store.markProcessed("payment:order-1:APPROVED")).thenReturn(true);
+        assertThatThrownBy(() -> deduplicator.processOnce("payment:order-1:APPROVED", () -> {
+            throw new IllegalStateException("falha ao atualizar o pedido");
+        }));
+        Runnable work = mock(Runnable.class);
+
+        // When
+        boolean processed = deduplicator.processOnce("payment:order-1:APPROVED", work);
+
+        // Then
+        assertThat(processed).isTrue();
+        verify(work).run();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void shouldCommitDatabaseBeforeOuterKafkaTransactionCommits() {
+        // Given - transação do Kafka aberta pelo container (modo exactly-once)
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(store.markProcessed("payment:order-1:APPROVED")).thenReturn(true);
+        TransactionSynchronizationManager.initSynchronization();
+        Runnable work = mock(Runnable.class);
+
+        // When
+        boolean processed = deduplicator.processOnce("payment:order-1:APPROVED", work);
+
+        // Then - o banco já confirmou quando o listener devolve o controle ao Kafka
+        assertThat(processed).isTrue();
+        verify(work).run();
+        verify(transactionManager).commit(status);
+    }
+
+    @Test
+    void shouldFailRecordWhenDatabaseCommitFails() {
+        // Given
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(transactionManager.getTransaction(any())).thenReturn(status);
+        when(store.markProcessed("payment:order-1:APPROVED")).thenReturn(true);
+        doThrow(new TransactionSystemException("falha no commit")).when(transactionManager).commit(status);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        assertThatThrownBy(() -> deduplicator.processOnce("payment:order-1:APPROVED", () -> { }))
+            .isInstanceOf(TransactionSystemException.class);
+
+        // Then - a reentrega não é tratada como duplicata
+        doNothing().when(transactionManager).commit(status);
+        Runnable redelivery = mock(Runnable.class);
+        assertThat(deduplicator.processOnce("payment:order-1:APPROVED", redelivery)).isTrue();
+        verify(redelivery).run();
+    }
+
+    @Test
+    void shouldPurgeWithConfiguredRetention() {
+        // When
+        deduplicator.purgeExpired();
+
+        // Then
+        verify(store).purgeOlderThan(Duration.ofDays(7));
+    }
+}
@@ -0,0 +1,61 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderCacheInvalidationHealthIndicatorTest {
+
+    private final OrderCacheInvalidationListener listener = mock(OrderCacheInvalidationListener.class);
+    private final OrderCacheInvalidationHealthIndicator indicator = new OrderCacheInvalidationHealthIndicator(listener);
+
+    @Test
+    void shouldBeUpWhenListeningAndConnected() {
+        // Given
+        when(listener.isListening()).thenReturn(true);
+        when(listener.isConnected()).thenReturn(true);
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).doesNotContainKey("lastFailure");
+    }
+
+    @Test
+    void shouldBeDownWhileReconnecting() {
+        // Given
+        when(listener.isListening()).thenReturn(true);
+        when(listener.isConnected()).thenReturn(false);
+        when(listener.reconnects()).thenReturn(3.0);
+        when(listener.lastFailure()).thenReturn("PSQLException: Connection refused");
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails())
+            .containsEntry("reconnects", 3L)
+            .containsEntry("lastFailure", "PSQLException: Connection refused");
+    }
+
+    @Test
+    void shouldBeDownWhenListenerThreadStopped() {
+        // Given
+        when(listener.isListening()).thenReturn(false);
+        when(listener.isConnected()).thenReturn(false);
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.DOWN);
+        assertThat(health.getDetails()).containsEntry("listening", false);
+    }
+}
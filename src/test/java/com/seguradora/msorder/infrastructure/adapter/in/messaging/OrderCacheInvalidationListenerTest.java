@@ -0,0 +1,193 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import com.seguradora.msorder.application.dto.OrderStatusUpdate;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import com.seguradora.msorder.core.port.in.GetOrderUseCase;
+import com.seguradora.msorder.infrastructure.adapter.in.web.OrderStatusStreamHub;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.OrderCacheInvalidation;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OrderCacheInvalidationListenerTest {
+
+    private static final String ORDER_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("orders");
+    private final OrderStatusStreamHub streamHub = mock(OrderStatusStreamHub.class);
+    private final GetOrderUseCase getOrderUseCase = mock(GetOrderUseCase.class);
+    private OrderCacheInvalidationListener listener;
+    private Cache ordersCache;
+
+    @BeforeEach
+    void setUp() {
+        listener = newListener("order_cache_invalidation");
+        ordersCache = cacheManager.getCache("orders");
+    }
+
+    @Test
+    void shouldEvictCachedOrderWrittenElsewhere() {
+        // Given
+        ordersCache.put(ORDER_ID, orderWithVersion(3L));
+
+        // When
+        listener.apply(ORDER_ID + ",3," + (System.currentTimeMillis() - 40));
+
+        // Then
+        assertThat(ordersCache.get(ORDER_ID)).isNull();
+        assertThat(received("evicted")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.cache.invalidation.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepCachedOrderNewerThanTheWrite() {
+        // Given
+        CachedOrder newer = orderWithVersion(5L);
+        ordersCache.put(ORDER_ID, newer);
+
+        // When
+        listener.apply(ORDER_ID + ",3," + System.currentTimeMillis());
+
+        // Then
+        assertThat(ordersCache.get(ORDER_ID, CachedOrder.class)).isSameAs(newer);
+        assertThat(received("newer")).isEqualTo(1.0);
+    }
+
+    @Test
+    void shouldEvictAnyVersionWhenOrderWasDeleted() {
+        // Given
+        ordersCache.put(ORDER_ID, orderWithVersion(9L));
+
+        // When
+        listener.apply(ORDER_ID + ",," + System.currentTimeMillis());
+
+        // Then
+        assertThat(ordersCache.get(ORDER_ID)).isNull();
+    }
+
+    @Test
+    void shouldIgnoreMalformedPayload() {
+        // When
+        listener.apply("garbage");
+
+        // Then
+        assertThat(meterRegistry.get("order.cache.invalidation.lag").timer().count()).isZero();
+        assertThat(received("not-cached")).isZero();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldForwardWriteFromOtherInstanceToStatusStreams() {
+        // Given
+        CachedOrder current = orderWithVersion(4L);
+        when(getOrderUseCase.getOrderById(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(current);
+
+        // When
+        listener.apply(ORDER_ID + ",3," + System.currentTimeMillis() + ",other-instance,1001");
+
+        // Then
+        ArgumentCaptor<Supplier<OrderStatusUpdate>> currentState = ArgumentCaptor.forClass(Supplier.class);
+        verify(streamHub).changedElsewhere(eq(ORDER_ID), eq("1001"), currentState.capture());
+        assertThat(currentState.getValue().get()).isEqualTo(OrderStatusUpdate.from(current));
+    }
+
+    @Test
+    void shouldNotForwardOwnWriteToStatusStreams() {
+        // When
+        listener.apply(ORDER_ID + ",3," + System.currentTimeMillis() + "," + OrderCacheInvalidation.LOCAL_ORIGIN);
+
+        // Then
+        verify(streamHub, never()).changedElsewhere(anyString(), any(), any());
+    }
+
+    @Test
+    void shouldRoundTripCustomerAndAcceptPayloadsWithoutIt() {
+        // Given
+        OrderCacheInvalidation sent = new OrderCacheInvalidation(ORDER_ID, 3L, 1000L, "origin", "cliente,com,virgula");
+
+        // When
+        OrderCacheInvalidation roundTrip = OrderCacheInvalidation.parse(sent.toPayload());
+        OrderCacheInvalidation previousFormat = OrderCacheInvalidation.parse(ORDER_ID + ",3,1000,origin");
+        OrderCacheInvalidation deleted = OrderCacheInvalidation.parse(
+            new OrderCacheInvalidation(ORDER_ID, null, 1000L, "origin", null).toPayload());
+
+        // Then
+        assertThat(roundTrip).isEqualTo(sent);
+        assertThat(previousFormat.customerId()).isNull();
+        assertThat(deleted.customerId()).isNull();
+        assertThat(deleted.version()).isNull();
+    }
+
+    @Test
+    void shouldKeepListeningAndClearCacheAfterUnexpectedFailure() {
+        // Given
+        DataSourceProperties dataSourceProperties = mock(DataSourceProperties.class);
+        when(dataSourceProperties.determineUrl()).thenThrow(new IllegalStateException("no url"));
+        OrderCacheInvalidationListener failing = new OrderCacheInvalidationListener(dataSourceProperties, cacheManager,
+            meterRegistry, streamHub, getOrderUseCase, "order_cache_invalidation", Duration.ofMillis(100),
+            Duration.ofMillis(50));
+        ordersCache.put(ORDER_ID, orderWithVersion(3L));
+
+        // When
+        failing.start();
+        try {
+            // Then
+            await().atMost(2, TimeUnit.SECONDS).until(() -> failing.reconnects() >= 2);
+            assertThat(failing.isListening()).isTrue();
+            assertThat(failing.isConnected()).isFalse();
+            assertThat(failing.lastFailure()).contains("no url");
+            assertThat(ordersCache.get(ORDER_ID)).isNull();
+        } finally {
+            failing.stop();
+        }
+        assertThat(failing.isListening()).isFalse();
+    }
+
+    @Test
+    void shouldRejectChannelNameThatIsNotAnIdentifier() {
+        // When / Then
+        assertThatThrownBy(() -> newListener("orders; DROP TABLE orders"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private OrderCacheInvalidationListener newListener(String channel) {
+        return new OrderCacheInvalidationListener(new DataSourceProperties(), cacheManager, meterRegistry,
+            streamHub, getOrderUseCase, channel, Duration.ofMillis(100), Duration.ofMillis(100));
+    }
+
+    private double received(String outcome) {
+        return meterRegistry.get("order.cache.invalidation.received").tag("outcome", outcome).counter().count();
+    }
+
+    private static CachedOrder orderWithVersion(Long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return new CachedOrder(OrderId.of(ORDER_ID), new CustomerId("1001"), ProductId.of("PROD001"),
+            InsuranceType.AUTO, SalesChannel.MOBILE, PaymentMethod.PIX, new BigDecimal("100.00"),
+            new BigDecimal("1000.00"), Map.of("collision", new BigDecimal("800.00")), List.of("24h"),
+            OrderStatus.PENDING, "Seguro auto", now, now, null, List.of(), "PENDING", "PENDING", version);
+    }
+}
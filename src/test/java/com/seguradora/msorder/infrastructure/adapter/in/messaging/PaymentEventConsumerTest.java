@@ -1,15 +1,16 @@
 package com.seguradora.msorder.infrastructure.adapter.in.messaging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seguradora.msorder.application.dto.PaymentEventData;
 import com.seguradora.msorder.core.usecase.coordination.EventCoordinationService;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -21,9 +22,8 @@ class PaymentEventConsumerTest {
     private EventCoordinationService coordinationService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private InboundEventDeduplicator deduplicator;
 
-    @InjectMocks
     private PaymentEventConsumer paymentEventConsumer;
 
     private PaymentEventData approvedPaymentEvent;
@@ -31,6 +31,13 @@ class PaymentEventConsumerTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(deduplicator.processOnce(anyString(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        paymentEventConsumer = new PaymentEventConsumer(coordinationService, deduplicator, new SampledPayloadLogger(1),
+            new OrderLaneExecutor(4));
+
         approvedPaymentEvent = new PaymentEventData();
         approvedPaymentEvent.setOrderId("123e4567-e89b-12d3-a456-426614174000");
         approvedPaymentEvent.setStatus("APPROVED");
@@ -43,125 +50,90 @@ class PaymentEventConsumerTest {
     }
 
     @Test
-    void shouldHandleApprovedPaymentEvent() throws Exception {
-        // Given
-        String messageJson = "{\"orderId\":\"123e4567-e89b-12d3-a456-426614174000\",\"status\":\"APPROVED\",\"reason\":\"Payment processed successfully\"}";
-        when(objectMapper.readValue(messageJson, PaymentEventData.class))
-            .thenReturn(approvedPaymentEvent);
-
+    void shouldHandleApprovedPaymentEvent() {
         // When
-        paymentEventConsumer.handlePaymentEvent(messageJson);
+        paymentEventConsumer.handlePaymentEvent(approvedPaymentEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, PaymentEventData.class);
         verify(coordinationService).processPaymentApproval("123e4567-e89b-12d3-a456-426614174000");
         verify(coordinationService, never()).processPaymentRejection(anyString(), anyString());
     }
 
     @Test
-    void shouldHandleRejectedPaymentEvent() throws Exception {
-        // Given
-        String messageJson = "{\"orderId\":\"456e7890-e89b-12d3-a456-426614174000\",\"status\":\"REJECTED\",\"reason\":\"Insufficient funds\"}";
-        when(objectMapper.readValue(messageJson, PaymentEventData.class))
-            .thenReturn(rejectedPaymentEvent);
-
+    void shouldHandleRejectedPaymentEvent() {
         // When
-        paymentEventConsumer.handlePaymentEvent(messageJson);
+        paymentEventConsumer.handlePaymentEvent(rejectedPaymentEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, PaymentEventData.class);
         verify(coordinationService).processPaymentRejection("456e7890-e89b-12d3-a456-426614174000", "Insufficient funds");
         verify(coordinationService, never()).processPaymentApproval(anyString());
     }
 
     @Test
-    void shouldIgnoreUnknownPaymentStatus() throws Exception {
+    void shouldIgnoreUnknownPaymentStatus() {
         // Given
         PaymentEventData unknownStatusEvent = new PaymentEventData();
         unknownStatusEvent.setOrderId("789e0123-e89b-12d3-a456-426614174000");
         unknownStatusEvent.setStatus("PENDING");
-        unknownStatusEvent.setReason("Payment in progress");
-
-        String messageJson = "{\"orderId\":\"789e0123-e89b-12d3-a456-426614174000\",\"status\":\"PENDING\",\"reason\":\"Payment in progress\"}";
-        when(objectMapper.readValue(messageJson, PaymentEventData.class))
-            .thenReturn(unknownStatusEvent);
 
         // When
-        paymentEventConsumer.handlePaymentEvent(messageJson);
+        paymentEventConsumer.handlePaymentEvent(unknownStatusEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, PaymentEventData.class);
-        verify(coordinationService, never()).processPaymentApproval(anyString());
-        verify(coordinationService, never()).processPaymentRejection(anyString(), anyString());
+        verifyNoInteractions(coordinationService, deduplicator);
     }
 
     @Test
-    void shouldHandleJsonParsingException() throws Exception {
+    void shouldHandleNullStatus() {
         // Given
-        String invalidJson = "invalid json";
-        when(objectMapper.readValue(invalidJson, PaymentEventData.class))
-            .thenThrow(new RuntimeException("JSON parsing error"));
+        PaymentEventData nullStatusEvent = new PaymentEventData();
+        nullStatusEvent.setOrderId("123e4567-e89b-12d3-a456-426614174000");
+        nullStatusEvent.setStatus(null);
 
         // When
-        paymentEventConsumer.handlePaymentEvent(invalidJson);
+        paymentEventConsumer.handlePaymentEvent(nullStatusEvent);
 
         // Then
-        verify(objectMapper).readValue(invalidJson, PaymentEventData.class);
-        verify(coordinationService, never()).processPaymentApproval(anyString());
-        verify(coordinationService, never()).processPaymentRejection(anyString(), anyString());
+        verifyNoInteractions(coordinationService, deduplicator);
     }
 
     @Test
-    void shouldHandleCoordinationServiceException() throws Exception {
+    void shouldPropagateCoordinationServiceException() {
         // Given
-        String messageJson = "{\"orderId\":\"123e4567-e89b-12d3-a456-426614174000\",\"status\":\"APPROVED\",\"reason\":\"Payment processed successfully\"}";
-        when(objectMapper.readValue(messageJson, PaymentEventData.class))
-            .thenReturn(approvedPaymentEvent);
         doThrow(new RuntimeException("Coordination service error"))
             .when(coordinationService).processPaymentApproval(anyString());
 
         // When
-        paymentEventConsumer.handlePaymentEvent(messageJson);
+        assertThatThrownBy(() -> paymentEventConsumer.handlePaymentEvent(approvedPaymentEvent))
+            .isInstanceOf(RuntimeException.class);
 
         // Then
-        verify(objectMapper).readValue(messageJson, PaymentEventData.class);
-        verify(coordinationService).processPaymentApproval("123e4567-e89b-12d3-a456-426614174000");
+        verify(deduplicator).processOnce(eq("payment:123e4567-e89b-12d3-a456-426614174000:APPROVED"), any());
     }
 
     @Test
-    void shouldHandleNullStatus() throws Exception {
+    void shouldDiscardDuplicateEvent() {
         // Given
-        PaymentEventData nullStatusEvent = new PaymentEventData();
-        nullStatusEvent.setOrderId("123e4567-e89b-12d3-a456-426614174000");
-        nullStatusEvent.setStatus(null);
-        nullStatusEvent.setReason("No status");
-
-        String messageJson = "{\"orderId\":\"123e4567-e89b-12d3-a456-426614174000\",\"status\":null,\"reason\":\"No status\"}";
-        when(objectMapper.readValue(messageJson, PaymentEventData.class))
-            .thenReturn(nullStatusEvent);
+        when(deduplicator.processOnce(eq("payment:123e4567-e89b-12d3-a456-426614174000:APPROVED"), any())).thenReturn(false);
 
         // When
-        paymentEventConsumer.handlePaymentEvent(messageJson);
+        paymentEventConsumer.handlePaymentEvent(approvedPaymentEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, PaymentEventData.class);
         verify(coordinationService, never()).processPaymentApproval(anyString());
         verify(coordinationService, never()).processPaymentRejection(anyString(), anyString());
     }
 
     @Test
-    void shouldHandleEmptyMessage() throws Exception {
+    void shouldDeduplicateByEventIdWhenPresent() {
         // Given
-        String emptyMessage = "";
-        when(objectMapper.readValue(emptyMessage, PaymentEventData.class))
-            .thenThrow(new RuntimeException("Empty message"));
+        approvedPaymentEvent.setEventId("evt-1");
 
         // When
-        paymentEventConsumer.handlePaymentEvent(emptyMessage);
+        paymentEventConsumer.handlePaymentEvent(approvedPaymentEvent);
 
         // Then
-        verify(objectMapper).readValue(emptyMessage, PaymentEventData.class);
-        verify(coordinationService, never()).processPaymentApproval(anyString());
-        verify(coordinationService, never()).processPaymentRejection(anyString(), anyString());
+        verify(deduplicator).processOnce(eq("payment:evt-1"), any());
+        verify(coordinationService).processPaymentApproval("123e4567-e89b-12d3-a456-426614174000");
     }
 }
@@ -0,0 +1,36 @@
+package com.seguradora.msorder.infrastructure.adapter.in.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SampledPayloadLoggerTest {
+
+    @Test
+    void shouldLogOneInEveryNEventsWhenDebugEnabled() {
+        // Given
+        Logger logger = mock(Logger.class);
+        when(logger.isDebugEnabled()).thenReturn(true);
+        SampledPayloadLogger sampler = new SampledPayloadLogger(10);
+
+        // When
+        long sampled = IntStream.range(0, 100).filter(i -> sampler.shouldLog(logger)).count();
+
+        // Then
+        assertThat(sampled).isEqualTo(10);
+    }
+
+    @Test
+    void shouldNotLogWhenDebugDisabled() {
+        // Given
+        Logger logger = mock(Logger.class);
+        SampledPayloadLogger sampler = new SampledPayloadLogger(1);
+
+        // When & Then
+        assertThat(sampler.shouldLog(logger)).isFalse();
+    }
+}
@@ -1,16 +1,18 @@
 package com.seguradora.msorder.infrastructure.adapter.in.messaging;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seguradora.msorder.application.dto.SubscriptionEventData;
 import com.seguradora.msorder.core.usecase.coordination.EventCoordinationService;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,9 +22,8 @@ class SubscriptionEventConsumerTest {
     private EventCoordinationService coordinationService;
 
     @Mock
-    private ObjectMapper objectMapper;
+    private InboundEventDeduplicator deduplicator;
 
-    @InjectMocks
     private SubscriptionEventConsumer subscriptionEventConsumer;
 
     private SubscriptionEventData approvedSubscriptionEvent;
@@ -30,6 +31,13 @@ class SubscriptionEventConsumerTest {
 
     @BeforeEach
     void setUp() {
+        lenient().when(deduplicator.processOnce(anyString(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        subscriptionEventConsumer = new SubscriptionEventConsumer(coordinationService, deduplicator, new SampledPayloadLogger(1),
+            new OrderLaneExecutor(4));
+
         approvedSubscriptionEvent = new SubscriptionEventData();
         approvedSubscriptionEvent.setOrderId("123e4567-e89b-12d3-a456-426614174000");
         approvedSubscriptionEvent.setStatus("APPROVED");
@@ -42,125 +50,90 @@ class SubscriptionEventConsumerTest {
     }
 
     @Test
-    void shouldHandleApprovedSubscriptionEvent() throws Exception {
-        // Given
-        String messageJson = "{\"orderId\":\"123e4567-e89b-12d3-a456-426614174000\",\"status\":\"APPROVED\",\"reason\":\"Subscription approved after analysis\"}";
-        when(objectMapper.readValue(messageJson, SubscriptionEventData.class))
-            .thenReturn(approvedSubscriptionEvent);
-
+    void shouldHandleApprovedSubscriptionEvent() {
         // When
-        subscriptionEventConsumer.handleSubscriptionEvent(messageJson);
+        subscriptionEventConsumer.handleSubscriptionEvent(approvedSubscriptionEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, SubscriptionEventData.class);
         verify(coordinationService).processSubscriptionApproval("123e4567-e89b-12d3-a456-426614174000");
         verify(coordinationService, never()).processSubscriptionRejection(anyString(), anyString());
     }
 
     @Test
-    void shouldHandleRejectedSubscriptionEvent() throws Exception {
-        // Given
-        String messageJson = "{\"orderId\":\"456e7890-e89b-12d3-a456-426614174000\",\"status\":\"REJECTED\",\"reason\":\"High risk customer\"}";
-        when(objectMapper.readValue(messageJson, SubscriptionEventData.class))
-            .thenReturn(rejectedSubscriptionEvent);
-
+    void shouldHandleRejectedSubscriptionEvent() {
         // When
-        subscriptionEventConsumer.handleSubscriptionEvent(messageJson);
+        subscriptionEventConsumer.handleSubscriptionEvent(rejectedSubscriptionEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, SubscriptionEventData.class);
         verify(coordinationService).processSubscriptionRejection("456e7890-e89b-12d3-a456-426614174000", "High risk customer");
         verify(coordinationService, never()).processSubscriptionApproval(anyString());
     }
 
     @Test
-    void shouldIgnoreUnknownSubscriptionStatus() throws Exception {
+    void shouldIgnoreUnknownSubscriptionStatus() {
         // Given
         SubscriptionEventData unknownStatusEvent = new SubscriptionEventData();
         unknownStatusEvent.setOrderId("789e0123-e89b-12d3-a456-426614174000");
         unknownStatusEvent.setStatus("PENDING");
-        unknownStatusEvent.setReason("Analysis in progress");
-
-        String messageJson = "{\"orderId\":\"789e0123-e89b-12d3-a456-426614174000\",\"status\":\"PENDING\",\"reason\":\"Analysis in progress\"}";
-        when(objectMapper.readValue(messageJson, SubscriptionEventData.class))
-            .thenReturn(unknownStatusEvent);
 
         // When
-        subscriptionEventConsumer.handleSubscriptionEvent(messageJson);
+        subscriptionEventConsumer.handleSubscriptionEvent(unknownStatusEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, SubscriptionEventData.class);
-        verify(coordinationService, never()).processSubscriptionApproval(anyString());
-        verify(coordinationService, never()).processSubscriptionRejection(anyString(), anyString());
+        verifyNoInteractions(coordinationService, deduplicator);
     }
 
     @Test
-    void shouldHandleJsonParsingException() throws Exception {
+    void shouldHandleNullStatus() {
         // Given
-        String invalidJson = "invalid json";
-        when(objectMapper.readValue(invalidJson, SubscriptionEventData.class))
-            .thenThrow(new RuntimeException("JSON parsing error"));
+        SubscriptionEventData nullStatusEvent = new SubscriptionEventData();
+        nullStatusEvent.setOrderId("123e4567-e89b-12d3-a456-426614174000");
+        nullStatusEvent.setStatus(null);
 
         // When
-        subscriptionEventConsumer.handleSubscriptionEvent(invalidJson);
+        subscriptionEventConsumer.handleSubscriptionEvent(nullStatusEvent);
 
         // Then
-        verify(objectMapper).readValue(invalidJson, SubscriptionEventData.class);
-        verify(coordinationService, never()).processSubscriptionApproval(anyString());
-        verify(coordinationService, never()).processSubscriptionRejection(anyString(), anyString());
+        verifyNoInteractions(coordinationService, deduplicator);
     }
 
     @Test
-    void shouldHandleCoordinationServiceException() throws Exception {
+    void shouldPropagateCoordinationServiceException() {
         // Given
-        String messageJson = "{\"orderId\":\"123e4567-e89b-12d3-a456-426614174000\",\"status\":\"APPROVED\",\"reason\":\"Subscription approved after analysis\"}";
-        when(objectMapper.readValue(messageJson, SubscriptionEventData.class))
-            .thenReturn(approvedSubscriptionEvent);
         doThrow(new RuntimeException("Coordination service error"))
             .when(coordinationService).processSubscriptionApproval(anyString());
 
         // When
-        subscriptionEventConsumer.handleSubscriptionEvent(messageJson);
+        assertThatThrownBy(() -> subscriptionEventConsumer.handleSubscriptionEvent(approvedSubscriptionEvent))
+            .isInstanceOf(RuntimeException.class);
 
         // Then
-        verify(objectMapper).readValue(messageJson, SubscriptionEventData.class);
-        verify(coordinationService).processSubscriptionApproval("123e4567-e89b-12d3-a456-426614174000");
+        verify(deduplicator).processOnce(eq("subscription:123e4567-e89b-12d3-a456-426614174000:APPROVED"), any());
     }
 
     @Test
-    void shouldHandleNullStatus() throws Exception {
+    void shouldDiscardDuplicateEvent() {
         // Given
-        SubscriptionEventData nullStatusEvent = new SubscriptionEventData();
-        nullStatusEvent.setOrderId("123e4567-e89b-12d3-a456-426614174000");
-        nullStatusEvent.setStatus(null);
-        nullStatusEvent.setReason("No status");
-
-        String messageJson = "{\"orderId\":\"123e4567-e89b-12d3-a456-426614174000\",\"status\":null,\"reason\":\"No status\"}";
-        when(objectMapper.readValue(messageJson, SubscriptionEventData.class))
-            .thenReturn(nullStatusEvent);
+        when(deduplicator.processOnce(eq("subscription:123e4567-e89b-12d3-a456-426614174000:APPROVED"), any())).thenReturn(false);
 
         // When
-        subscriptionEventConsumer.handleSubscriptionEvent(messageJson);
+        subscriptionEventConsumer.handleSubscriptionEvent(approvedSubscriptionEvent);
 
         // Then
-        verify(objectMapper).readValue(messageJson, SubscriptionEventData.class);
         verify(coordinationService, never()).processSubscriptionApproval(anyString());
         verify(coordinationService, never()).processSubscriptionRejection(anyString(), anyString());
     }
 
     @Test
-    void shouldHandleEmptyMessage() throws Exception {
+    void shouldDeduplicateByEventIdWhenPresent() {
         // Given
-        String emptyMessage = "";
-        when(objectMapper.readValue(emptyMessage, SubscriptionEventData.class))
-            .thenThrow(new RuntimeException("Empty message"));
+        approvedSubscriptionEvent.setEventId("evt-1");
 
         // When
-        subscriptionEventConsumer.handleSubscriptionEvent(emptyMessage);
+        subscriptionEventConsumer.handleSubscriptionEvent(approvedSubscriptionEvent);
 
         // Then
-        verify(objectMapper).readValue(emptyMessage, SubscriptionEventData.class);
-        verify(coordinationService, never()).processSubscriptionApproval(anyString());
-        verify(coordinationService, never()).processSubscriptionRejection(anyString(), anyString());
+        verify(deduplicator).processOnce(eq("subscription:evt-1"), any());
+        verify(coordinationService).processSubscriptionApproval("123e4567-e89b-12d3-a456-426614174000");
     }
 }
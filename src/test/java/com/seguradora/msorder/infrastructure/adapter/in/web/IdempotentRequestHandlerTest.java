@@ -0,0 +1,171 @@
+package com.seguradora.msorder.infrastructure.adapter.in.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seguradora.msorder.core.port.out.IdempotencyStorePort;
+import com.seguradora.msorder.core.port.out.IdempotencyStorePort.IdempotencyRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotentRequestHandlerTest {
+
+    @Mock
+    private IdempotencyStorePort store;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private IdempotentRequestHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new IdempotentRequestHandler(store, objectMapper, Duration.ofMinutes(10), Duration.ofMillis(500));
+    }
+
+    @Test
+    void shouldExecuteAndStoreResponseOnFirstRequest() {
+        // Given
+        when(store.find("key-1")).thenReturn(Optional.empty());
+        when(store.reserve(eq("key-1"), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When
+        var result = handler.execute("key-1", Map.of("amount", 10), String.class, () -> "created");
+
+        // Then
+        assertThat(result.response()).isEqualTo("created");
+        assertThat(result.replayed()).isFalse();
+        verify(store).complete("key-1", "\"created\"");
+    }
+
+    @Test
+    void shouldReplayStoredResponseWithoutExecuting() throws Exception {
+        // Given
+        Map<String, Integer> request = Map.of("amount", 10);
+        String hash = fingerprintOf(request);
+        when(store.find("key-1")).thenReturn(Optional.of(new IdempotencyRecord("key-1", hash, "\"created\"")));
+
+        // When
+        var result = handler.execute("key-1", request, String.class, () -> {
+            throw new AssertionError("Action must not run for a replay");
+        });
+
+        // Then
+        assertThat(result.response()).isEqualTo("created");
+        assertThat(result.replayed()).isTrue();
+        verify(store, never()).reserve(anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldRejectKeyReusedWithDifferentPayload() {
+        // Given
+        when(store.find("key-1")).thenReturn(Optional.of(new IdempotencyRecord("key-1", "other-hash", "\"created\"")));
+
+        // When & Then
+        assertThatThrownBy(() -> handler.execute("key-1", Map.of("amount", 10), String.class, () -> "created"))
+            .isInstanceOf(IdempotentRequestHandler.IdempotencyKeyReuseException.class);
+    }
+
+    @Test
+    void shouldRejectBlankOrOversizedKeyBeforeTouchingStore() {
+        // When & Then
+        assertThatThrownBy(() -> handler.execute(" ", Map.of("amount", 10), String.class, () -> "created"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> handler.execute("k".repeat(IdempotentRequestHandler.MAX_KEY_LENGTH + 1),
+                Map.of("amount", 10), String.class, () -> "created"))
+            .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void shouldReleaseKeyWhenActionFails() {
+        // Given
+        when(store.find("key-1")).thenReturn(Optional.empty());
+        when(store.reserve(eq("key-1"), anyString(), any(Duration.class))).thenReturn(true);
+
+        // When & Then
+        assertThatThrownBy(() -> handler.execute("key-1", Map.of("amount", 10), String.class, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(store).release("key-1");
+        verify(store, never()).complete(anyString(), anyString());
+    }
+
+    @Test
+    void shouldCoalesceConcurrentDuplicatesOnSameNode() throws Exception {
+        // Given
+        when(store.find("key-1")).thenReturn(Optional.empty());
+        when(store.reserve(eq("key-1"), anyString(), any(Duration.class))).thenReturn(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            Future<IdempotentRequestHandler.IdempotentResult<String>> first = executor.submit(() ->
+                handler.execute("key-1", Map.of("amount", 10), String.class, () -> {
+                    executions.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return "created";
+                }));
+            started.await(1, TimeUnit.SECONDS);
+            Future<IdempotentRequestHandler.IdempotentResult<String>> duplicate = executor.submit(() ->
+                handler.execute("key-1", Map.of("amount", 10), String.class, () -> {
+                    executions.incrementAndGet();
+                    return "duplicate";
+                }));
+            Thread.sleep(50);
+            release.countDown();
+
+            // Then
+            assertThat(first.get(1, TimeUnit.SECONDS).response()).isEqualTo("created");
+            assertThat(duplicate.get(1, TimeUnit.SECONDS).response()).isEqualTo("created");
+            assertThat(duplicate.get().replayed()).isTrue();
+            assertThat(executions.get()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldFailWithInProgressWhenOtherNodeDoesNotFinishInTime() {
+        // Given
+        when(store.find("key-1")).thenReturn(Optional.empty());
+        when(store.reserve(eq("key-1"), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> handler.execute("key-1", Map.of("amount", 10), String.class, () -> "created"))
+            .isInstanceOf(IdempotentRequestHandler.IdempotencyRequestInProgressException.class);
+    }
+
+    private String fingerprintOf(Object request) throws Exception {
+        var digest = java.security.MessageDigest.getInstance("SHA-256");
+        return java.util.HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
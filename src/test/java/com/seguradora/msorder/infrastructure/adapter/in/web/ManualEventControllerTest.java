@@ -3,6 +3,7 @@ package com.seguradora.msorder.infrastructure.adapter.in.web;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.seguradora.msorder.application.dto.ManualPaymentEventRequest;
 import com.seguradora.msorder.application.dto.ManualSubscriptionEventRequest;
+import com.seguradora.msorder.infrastructure.adapter.in.messaging.DeadLetterReplayService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
@@ -33,6 +34,9 @@ class ManualEventControllerTest {
     @MockBean
     private KafkaTemplate<String, Object> kafkaTemplate;
 
+    @MockBean
+    private DeadLetterReplayService deadLetterReplayService;
+
     @Test
     void shouldPublishPaymentEventSuccessfully() throws Exception {
         // Given
@@ -324,4 +328,27 @@ class ManualEventControllerTest {
 
         verify(kafkaTemplate).send(eq("subscription-events"), eq(orderId), contains("REJECTED"));
     }
+
+    @Test
+    void shouldReplayDeadLetters() throws Exception {
+        // Given
+        when(deadLetterReplayService.replay("payment-events", 50)).thenReturn(3);
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/manual-events/dlt/payment-events/replay").param("maxRecords", "50"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.topic").value("payment-events"))
+                .andExpect(jsonPath("$.replayed").value(3));
+    }
+
+    @Test
+    void shouldRejectReplayForUnknownTopic() throws Exception {
+        // Given
+        when(deadLetterReplayService.replay("order-events", 100))
+            .thenThrow(new IllegalArgumentException("Tópico sem DLT para replay: order-events"));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/manual-events/dlt/order-events/replay"))
+                .andExpect(status().isBadRequest());
+    }
 }
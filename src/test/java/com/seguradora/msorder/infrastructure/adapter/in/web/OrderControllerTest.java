@@ -10,11 +10,13 @@ import com.seguradora.msorder.core.port.in.CreateOrderUseCase;
 import com.seguradora.msorder.core.port.in.GetOrderUseCase;
 import com.seguradora.msorder.core.port.in.ListOrdersUseCase;
 import com.seguradora.msorder.core.port.in.UpdateOrderStatusUseCase;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -26,12 +28,15 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.mock;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderController.class)
+@Import(OrderLaneExecutor.class)
 class OrderControllerTest {
 
     @Autowired
@@ -55,6 +60,9 @@ class OrderControllerTest {
     @MockBean
     private OrderMapper orderMapper;
 
+    @MockBean
+    private IdempotentRequestHandler idempotentRequestHandler;
+
     private Order mockOrder;
     private OrderResponse mockOrderResponse;
     private CreateOrderRequest mockCreateRequest;
@@ -85,13 +93,32 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.customerId").value(mockOrderResponse.customerId()));
     }
 
+    @Test
+    void shouldReplayStoredResponseWhenIdempotencyKeyIsRepeated() throws Exception {
+        // Given
+        when(idempotentRequestHandler.execute(eq("key-123"), any(CreateOrderRequest.class), eq(OrderResponse.class), any()))
+            .thenReturn(new IdempotentRequestHandler.IdempotentResult<>(mockOrderResponse, true));
+
+        // When & Then
+        mockMvc.perform(post("/api/v1/orders")
+                .header("Idempotency-Key", "key-123")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(mockCreateRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Idempotent-Replayed", "true"))
+                .andExpect(jsonPath("$.id").value(mockOrderResponse.id()));
+
+        verify(createOrderUseCase, never()).createOrder(any());
+    }
+
     @Test
     void shouldGetOrderByIdSuccessfully() throws Exception {
         // Given
         String orderId = "123e4567-e89b-12d3-a456-426614174000";
+        CachedOrder cached = CachedOrder.of(mockOrder);
         when(getOrderUseCase.getOrderById(any(GetOrderUseCase.GetOrderQuery.class)))
-            .thenReturn(mockOrder);
-        when(orderMapper.toResponse(mockOrder)).thenReturn(mockOrderResponse);
+            .thenReturn(cached);
+        when(orderMapper.toResponse(cached)).thenReturn(mockOrderResponse);
 
         // When & Then
         mockMvc.perform(get("/api/v1/orders/{orderId}", orderId))
@@ -100,6 +127,80 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$.customerId").value(mockOrderResponse.customerId()));
     }
 
+    @Test
+    void shouldReturnETagFromOrderVersion() throws Exception {
+        // Given
+        String orderId = "123e4567-e89b-12d3-a456-426614174000";
+        CachedOrder versionedOrder = snapshotWithVersion(5L);
+        when(getOrderUseCase.getOrderById(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(versionedOrder);
+        when(orderMapper.toResponse(versionedOrder)).thenReturn(mockOrderResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"5\""));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWithoutLoadingOrderWhenETagMatches() throws Exception {
+        // Given
+        String orderId = "123e4567-e89b-12d3-a456-426614174000";
+        when(getOrderUseCase.getOrderVersion(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(5L);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).header("If-None-Match", "\"4\", W/\"5\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"5\""));
+
+        verify(getOrderUseCase, never()).getOrderById(any());
+    }
+
+    @Test
+    void shouldReturnOrderWhenETagIsStale() throws Exception {
+        // Given
+        String orderId = "123e4567-e89b-12d3-a456-426614174000";
+        CachedOrder versionedOrder = snapshotWithVersion(6L);
+        when(getOrderUseCase.getOrderVersion(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(6L);
+        when(getOrderUseCase.getOrderById(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(versionedOrder);
+        when(orderMapper.toResponse(versionedOrder)).thenReturn(mockOrderResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders/{orderId}", orderId).header("If-None-Match", "\"5\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"6\""))
+                .andExpect(jsonPath("$.id").value(mockOrderResponse.id()));
+    }
+
+    @Test
+    void shouldGetManyOrdersByIdsInOneCall() throws Exception {
+        // Given
+        String firstId = "123e4567-e89b-12d3-a456-426614174000";
+        String secondId = "223e4567-e89b-12d3-a456-426614174000";
+        when(getOrderUseCase.getOrdersByIds(new GetOrderUseCase.GetOrdersByIdsQuery(
+            List.of(OrderId.of(firstId), OrderId.of(secondId))))).thenReturn(List.of(CachedOrder.of(mockOrder)));
+        when(orderMapper.toResponse(any(CachedOrder.class))).thenReturn(mockOrderResponse);
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders").param("ids", firstId + "," + secondId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(mockOrderResponse.id()));
+
+        verify(listOrdersUseCase, never()).getAllOrders();
+    }
+
+    @Test
+    void shouldRejectMultiGetAboveIdLimit() throws Exception {
+        // Given
+        String ids = String.join(",", Collections.nCopies(101, "123e4567-e89b-12d3-a456-426614174000"));
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/orders").param("ids", ids))
+                .andExpect(status().isBadRequest());
+
+        verify(getOrderUseCase, never()).getOrdersByIds(any());
+    }
+
     @Test
     void shouldGetAllOrdersSuccessfully() throws Exception {
         // Given
@@ -245,6 +346,16 @@ class OrderControllerTest {
                 .andExpect(jsonPath("$").isEmpty());
     }
 
+    private CachedOrder snapshotWithVersion(long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return CachedOrder.of(Order.restore(OrderId.of("123e4567-e89b-12d3-a456-426614174000"),
+            new CustomerId("customer-123"), ProductId.of("product-456"), InsuranceType.AUTO, SalesChannel.MOBILE,
+            PaymentMethod.CREDIT_CARD, new BigDecimal("500.00"), new BigDecimal("100000.00"),
+            Coverages.of(Map.of("Collision", new BigDecimal("50000"))), Assistances.of(List.of("24h Roadside Assistance")),
+            OrderStatus.PENDING, "Test order description", now, now, null, OrderHistory.empty(), "PENDING", "PENDING",
+            version));
+    }
+
     private Order createMockOrder() {
         return Order.create(
             new CustomerId("customer-123"),
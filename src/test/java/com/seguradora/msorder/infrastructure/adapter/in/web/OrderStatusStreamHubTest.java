@@ -0,0 +1,241 @@
+package com.seguradora.msorder.infrastructure.adapter.in.web;
+
+import com.seguradora.msorder.application.dto.OrderStatusUpdate;
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class OrderStatusStreamHubTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OrderStatusStreamHub hub;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (hub != null) {
+            hub.destroy();
+        }
+    }
+
+    @Test
+    void shouldDeliverUpdatesToOrderAndCustomerTopics() {
+        // Given
+        hub = newHub(16, 10);
+        List<OrderStatusUpdate> orderUpdates = new CopyOnWriteArrayList<>();
+        List<OrderStatusUpdate> customerUpdates = new CopyOnWriteArrayList<>();
+        List<OrderStatusUpdate> otherUpdates = new CopyOnWriteArrayList<>();
+        hub.subscribe(OrderStatusStreamHub.orderTopic("order-1"), OrderStatusStreamHub.Channel.SSE, orderUpdates::add);
+        hub.subscribe(OrderStatusStreamHub.customerTopic("1001"), OrderStatusStreamHub.Channel.SSE, customerUpdates::add);
+        hub.subscribe(OrderStatusStreamHub.orderTopic("order-2"), OrderStatusStreamHub.Channel.SSE, otherUpdates::add);
+
+        // When
+        hub.dispatch(update("order-1", "1001", OrderStatus.PENDING));
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> orderUpdates.size() == 1 && customerUpdates.size() == 1);
+        assertThat(orderUpdates.get(0).status()).isEqualTo(OrderStatus.PENDING);
+        assertThat(otherUpdates).isEmpty();
+    }
+
+    @Test
+    void shouldDropOldestUpdatesWhenSlowConnectionBufferIsFull() throws Exception {
+        // Given
+        hub = newHub(2, 10);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<OrderStatusUpdate> received = new CopyOnWriteArrayList<>();
+        hub.subscribe(OrderStatusStreamHub.orderTopic("order-1"), OrderStatusStreamHub.Channel.SSE, update -> {
+            sending.countDown();
+            try {
+                release.await(2, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(update);
+        });
+
+        // When - o primeiro envio fica preso no cliente lento enquanto chegam mais 4
+        hub.dispatch(update("order-1", "1001", OrderStatus.VALIDATED));
+        assertThat(sending.await(2, TimeUnit.SECONDS)).isTrue();
+        hub.dispatch(update("order-1", "1001", OrderStatus.PENDING));
+        hub.dispatch(update("order-1", "1001", OrderStatus.PENDING));
+        hub.dispatch(update("order-1", "1001", OrderStatus.PENDING));
+        hub.dispatch(update("order-1", "1001", OrderStatus.APPROVED));
+        release.countDown();
+
+        // Then - só as 2 últimas ficaram no buffer além da que estava em envio
+        await().atMost(2, TimeUnit.SECONDS).until(() -> received.size() == 3);
+        assertThat(received).extracting(OrderStatusUpdate::status)
+            .containsExactly(OrderStatus.VALIDATED, OrderStatus.PENDING, OrderStatus.APPROVED);
+        assertThat(meterRegistry.get("order.stream.dropped").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void shouldRejectConnectionsAboveLimitAndReleaseSlotOnClose() {
+        // Given
+        hub = newHub(16, 2);
+        var first = hub.subscribe(OrderStatusStreamHub.orderTopic("order-1"), OrderStatusStreamHub.Channel.SSE, update -> { });
+        hub.awaitNext(OrderStatusStreamHub.orderTopic("order-2"), () -> { });
+
+        // When
+        var rejected = hub.subscribe(OrderStatusStreamHub.orderTopic("order-3"), OrderStatusStreamHub.Channel.SSE, update -> { });
+
+        // Then
+        assertThat(rejected).isEmpty();
+        assertThat(meterRegistry.get("order.stream.rejected").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.stream.connections").tag("channel", "sse").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("order.stream.connections").tag("channel", "long-poll").gauge().value()).isEqualTo(1.0);
+
+        // When
+        first.get().close();
+        first.get().close();
+
+        // Then
+        assertThat(hub.getConnectionCount()).isEqualTo(1);
+        assertThat(hub.subscribe(OrderStatusStreamHub.orderTopic("order-3"), OrderStatusStreamHub.Channel.SSE, update -> { }))
+            .isPresent();
+    }
+
+    @Test
+    void shouldNotifyLongPollOnlyOnce() {
+        // Given
+        hub = newHub(16, 10);
+        CountDownLatch calls = new CountDownLatch(2);
+        hub.awaitNext(OrderStatusStreamHub.orderTopic("order-1"), calls::countDown);
+
+        // When
+        hub.dispatch(update("order-1", "1001", OrderStatus.PENDING));
+        hub.dispatch(update("order-1", "1001", OrderStatus.APPROVED));
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> calls.getCount() == 1);
+        await().during(Duration.ofMillis(200)).atMost(1, TimeUnit.SECONDS).until(() -> calls.getCount() == 1);
+    }
+
+    @Test
+    void shouldDispatchOnlyAfterCommit() {
+        // Given
+        hub = newHub(16, 10);
+        List<OrderStatusUpdate> received = new CopyOnWriteArrayList<>();
+        hub.subscribe(OrderStatusStreamHub.customerTopic("1001"), OrderStatusStreamHub.Channel.SSE, received::add);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            hub.statusChanged(order("1001"));
+
+            // Then
+            assertThat(received).isEmpty();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertThat(synchronizations).hasSize(1);
+
+            // When
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        assertThat(received.get(0).status()).isEqualTo(OrderStatus.RECEIVED);
+    }
+
+    @Test
+    void shouldRereadAndDeliverOrderChangedElsewhere() {
+        // Given
+        hub = newHub(16, 10);
+        List<OrderStatusUpdate> received = new CopyOnWriteArrayList<>();
+        hub.subscribe(OrderStatusStreamHub.customerTopic("1001"), OrderStatusStreamHub.Channel.SSE, received::add);
+
+        // When
+        hub.changedElsewhere("order-1", "1001", () -> update("order-1", "1001", OrderStatus.APPROVED));
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        assertThat(received.get(0).status()).isEqualTo(OrderStatus.APPROVED);
+    }
+
+    @Test
+    void shouldNotRereadOrderChangedElsewhereWithoutConnections() {
+        // Given
+        hub = newHub(16, 10);
+
+        // When
+        hub.changedElsewhere("order-1", "1001", () -> {
+            throw new AssertionError("pedido não deve ser relido sem conexões");
+        });
+
+        // Then
+        assertThat(hub.getConnectionCount()).isZero();
+    }
+
+    @Test
+    void shouldNotRereadOrderChangedElsewhereWithoutSubscribersForItsOrderOrCustomer() {
+        // Given - conexões só de outro pedido e de outro cliente; uma thread de envio mantém a ordem
+        hub = new OrderStatusStreamHub(16, 10, Duration.ofMinutes(1), 1, meterRegistry);
+        List<OrderStatusUpdate> received = new CopyOnWriteArrayList<>();
+        hub.subscribe(OrderStatusStreamHub.orderTopic("order-2"), OrderStatusStreamHub.Channel.SSE, received::add);
+        hub.subscribe(OrderStatusStreamHub.customerTopic("2002"), OrderStatusStreamHub.Channel.SSE, update -> { });
+        AtomicInteger rereads = new AtomicInteger();
+
+        // When
+        hub.changedElsewhere("order-1", "1001", () -> {
+            rereads.incrementAndGet();
+            return null;
+        });
+        hub.changedElsewhere("order-1", null, () -> {
+            rereads.incrementAndGet();
+            return null;
+        });
+        hub.changedElsewhere("order-2", "2002", () -> update("order-2", "2002", OrderStatus.APPROVED));
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        assertThat(rereads).hasValue(0);
+    }
+
+    @Test
+    void shouldRereadOrderChangedElsewhereForItsOrderSubscriber() {
+        // Given - aviso sem cliente (exclusão ou versão anterior) ainda alcança o tópico do pedido
+        hub = newHub(16, 10);
+        List<OrderStatusUpdate> received = new CopyOnWriteArrayList<>();
+        hub.subscribe(OrderStatusStreamHub.orderTopic("order-1"), OrderStatusStreamHub.Channel.SSE, received::add);
+
+        // When
+        hub.changedElsewhere("order-1", null, () -> update("order-1", "1001", OrderStatus.CANCELLED));
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        assertThat(received.get(0).status()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    private OrderStatusStreamHub newHub(int bufferSize, int maxConnections) {
+        return new OrderStatusStreamHub(bufferSize, maxConnections, Duration.ofMinutes(1), 2, meterRegistry);
+    }
+
+    private static OrderStatusUpdate update(String orderId, String customerId, OrderStatus status) {
+        return new OrderStatusUpdate(orderId, customerId, status, "PENDING", "PENDING", LocalDateTime.now());
+    }
+
+    private static Order order(String customerId) {
+        return Order.create(new CustomerId(customerId), ProductId.of("PROD001"), InsuranceType.AUTO,
+            SalesChannel.MOBILE, PaymentMethod.PIX, new BigDecimal("100.00"), new BigDecimal("1000.00"),
+            Coverages.of(Map.of("collision", new BigDecimal("800.00"))), Assistances.of(List.of("24h")), "Seguro auto");
+    }
+}
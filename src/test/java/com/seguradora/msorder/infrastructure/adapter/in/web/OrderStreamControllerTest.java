@@ -0,0 +1,190 @@
+package com.seguradora.msorder.infrastructure.adapter.in.web;
+
+import com.seguradora.msorder.application.dto.OrderResponse;
+import com.seguradora.msorder.application.dto.OrderStatusUpdate;
+import com.seguradora.msorder.application.mapper.OrderMapper;
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import com.seguradora.msorder.core.port.in.GetOrderUseCase;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OrderStreamController.class)
+@Import({OrderStatusStreamHub.class, OrderStreamControllerTest.MetricsConfig.class})
+class OrderStreamControllerTest {
+
+    private static final String ORDER_ID = "123e4567-e89b-12d3-a456-426614174000";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderStatusStreamHub streamHub;
+
+    @MockBean
+    private GetOrderUseCase getOrderUseCase;
+
+    @MockBean
+    private OrderMapper orderMapper;
+
+    private CachedOrder order;
+    private OrderResponse orderResponse;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        order = CachedOrder.of(Order.restore(OrderId.of(ORDER_ID), new CustomerId("1001"), ProductId.of("PROD001"),
+            InsuranceType.AUTO, SalesChannel.MOBILE, PaymentMethod.PIX, new BigDecimal("100.00"),
+            new BigDecimal("1000.00"), Coverages.of(Map.of("collision", new BigDecimal("800.00"))),
+            Assistances.of(List.of("24h")), OrderStatus.PENDING, "Seguro auto", now, now, null, OrderHistory.empty(),
+            "PENDING", "PENDING", 6L));
+        orderResponse = new OrderResponse(ORDER_ID, "1001", "PROD001", InsuranceType.AUTO, SalesChannel.MOBILE,
+            PaymentMethod.PIX, new BigDecimal("100.00"), new BigDecimal("1000.00"),
+            Map.of("collision", new BigDecimal("800.00")), List.of("24h"), OrderStatus.PENDING, "Seguro auto",
+            LocalDateTime.now(), LocalDateTime.now(), null, List.of());
+        when(getOrderUseCase.getOrderById(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(order);
+        when(orderMapper.toResponse(order)).thenReturn(orderResponse);
+    }
+
+    @Test
+    void shouldAnswerLongPollImmediatelyWhenETagIsStale() throws Exception {
+        // Given
+        when(getOrderUseCase.getOrderVersion(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(6L);
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/{orderId}/changes", ORDER_ID)
+                .header("If-None-Match", "\"5\""))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"6\""))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void shouldWakeLongPollOnTransition() throws Exception {
+        // Given
+        when(getOrderUseCase.getOrderVersion(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(5L);
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/{orderId}/changes", ORDER_ID)
+                .header("If-None-Match", "\"5\""))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        verify(getOrderUseCase, never()).getOrderById(any());
+
+        // When
+        streamHub.dispatch(new OrderStatusUpdate(ORDER_ID, "1001", OrderStatus.APPROVED, "APPROVED", "APPROVED",
+            LocalDateTime.now()));
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"6\""));
+    }
+
+    @Test
+    void shouldAnswerNotModifiedWhenLongPollTimesOut() throws Exception {
+        // Given
+        when(getOrderUseCase.getOrderVersion(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(5L);
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/{orderId}/changes", ORDER_ID)
+                .header("If-None-Match", "\"5\""))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        int connections = streamHub.getConnectionCount();
+
+        // When
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"5\""));
+        verify(getOrderUseCase, never()).getOrderById(any());
+        await().atMost(2, TimeUnit.SECONDS).until(() -> streamHub.getConnectionCount() == connections - 1);
+    }
+
+    @Test
+    void shouldAnswerCurrentOrderWhenVersionChangedUnnoticedBeforeTimeout() throws Exception {
+        // Given: a mudança não chegou ao hub (ex.: aviso de outra instância perdido)
+        when(getOrderUseCase.getOrderVersion(any(GetOrderUseCase.GetOrderQuery.class))).thenReturn(5L, 6L);
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/{orderId}/changes", ORDER_ID)
+                .header("If-None-Match", "\"5\""))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // When
+        MockAsyncContext asyncContext = (MockAsyncContext) result.getRequest().getAsyncContext();
+        for (AsyncListener listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"6\""))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    void shouldStreamCurrentStatusThenTransitions() throws Exception {
+        // Given
+        MvcResult result = mockMvc.perform(get("/api/v1/orders/{orderId}/stream", ORDER_ID))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        // When
+        streamHub.dispatch(new OrderStatusUpdate(ORDER_ID, "1001", OrderStatus.APPROVED, "APPROVED", "APPROVED",
+            LocalDateTime.now()));
+
+        // Then
+        await().atMost(2, TimeUnit.SECONDS).until(() -> {
+            String body = result.getResponse().getContentAsString();
+            return body.contains("\"status\":\"PENDING\"") && body.contains("\"status\":\"APPROVED\"");
+        });
+        String body = result.getResponse().getContentAsString();
+        assertThat(body.indexOf("PENDING")).isLessThan(body.indexOf("APPROVED"));
+        assertThat(body).contains("event:status");
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.seguradora.msorder.infrastructure.adapter.in.web.exception;
 
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import com.seguradora.msorder.core.usecase.order.CreateOrderService;
 import com.seguradora.msorder.core.usecase.order.GetOrderService;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.OrderEventPublishTracker;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -59,6 +62,23 @@ class GlobalExceptionHandlerTest {
         assertThat(response.getBody().timestamp()).isNotNull();
     }
 
+    @Test
+    void shouldHandleCustomerBlockedException() {
+        // Given
+        CreateOrderService.CustomerBlockedException exception =
+            new CreateOrderService.CustomerBlockedException(new CustomerId("9001"));
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+            globalExceptionHandler.handleCustomerBlocked(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().code()).isEqualTo("CUSTOMER_BLOCKED");
+        assertThat(response.getBody().message()).isEqualTo("Customer is blocked: 9001");
+    }
+
     @Test
     void shouldHandleIllegalStateException() {
         // Given
@@ -187,4 +207,21 @@ class GlobalExceptionHandlerTest {
         assertThat(validationErrorResponse.errors()).containsEntry("field1", "error1");
         assertThat(validationErrorResponse.errors()).containsEntry("field2", "error2");
     }
+
+    @Test
+    void shouldReturnServiceUnavailableWhenEventPublisherIsSaturated() {
+        // Given
+        Exception exception = new CreateOrderService.OrderCreationException("Falha na criação do pedido",
+            new OrderEventPublishTracker.PublisherSaturatedException(1000));
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+            globalExceptionHandler.handleGeneral(exception);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst("Retry-After")).isEqualTo("1");
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().code()).isEqualTo("EVENT_PUBLISHER_SATURATED");
+    }
 }
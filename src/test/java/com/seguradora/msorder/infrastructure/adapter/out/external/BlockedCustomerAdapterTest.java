@@ -0,0 +1,167 @@
+package com.seguradora.msorder.infrastructure.adapter.out.external;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.queryParam;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+class BlockedCustomerAdapterTest {
+
+    private static final String BASE_URL = "http://fraud-api";
+    private static final String FULL_LIST = """
+        [
+          {"customerId": "9001", "isBlocked": true, "reason": "Fraude confirmada"},
+          {"customerId": "9002", "isBlocked": true, "reason": "Documentação falsa"},
+          {"customerId": "9003", "isBlocked": false, "reason": null}
+        ]
+        """;
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldLoadFullListOnFirstRefresh() {
+        // Given
+        BlockedCustomerAdapter adapter = adapter(true, Duration.ofHours(1));
+        server.expect(requestTo(BASE_URL + "/api/v1/fraud/blocked-customers"))
+            .andExpect(method(HttpMethod.GET))
+            .andRespond(withSuccess(FULL_LIST, MediaType.APPLICATION_JSON));
+
+        // When
+        adapter.refresh();
+
+        // Then
+        server.verify();
+        assertThat(adapter.isBlocked(new CustomerId("9001"))).isTrue();
+        assertThat(adapter.isBlocked(new CustomerId("9002"))).isTrue();
+        assertThat(adapter.isBlocked(new CustomerId("9003"))).isFalse();
+        assertThat(adapter.isBlocked(new CustomerId("1001"))).isFalse();
+        assertThat(meterRegistry.get("order.blocked-customers.size").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldApplyIncrementalChangesBetweenFullLoads() {
+        // Given
+        BlockedCustomerAdapter adapter = adapter(true, Duration.ofHours(1));
+        server.expect(requestTo(BASE_URL + "/api/v1/fraud/blocked-customers"))
+            .andRespond(withSuccess(FULL_LIST, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(startsWith(BASE_URL + "/api/v1/fraud/blocked-customers?updatedSince=")))
+            .andExpect(queryParam("updatedSince", notNullValue()))
+            .andRespond(withSuccess("""
+                [
+                  {"customerId": "9001", "isBlocked": false, "reason": null},
+                  {"customerId": "9004", "isBlocked": true, "reason": "Chargeback recorrente"}
+                ]
+                """, MediaType.APPLICATION_JSON));
+        adapter.refresh();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        server.verify();
+        assertThat(adapter.isBlocked(new CustomerId("9001"))).isFalse();
+        assertThat(adapter.isBlocked(new CustomerId("9004"))).isTrue();
+        assertThat(adapter.size()).isEqualTo(2);
+        // 9001 continua no bloom filter até a próxima carga completa
+        assertThat(meterRegistry.get("order.blocked-customers.filter.false-positives").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReloadFullListWhenIntervalElapsed() {
+        // Given
+        BlockedCustomerAdapter adapter = adapter(true, Duration.ZERO);
+        server.expect(requestTo(BASE_URL + "/api/v1/fraud/blocked-customers"))
+            .andRespond(withSuccess(FULL_LIST, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/v1/fraud/blocked-customers"))
+            .andRespond(withSuccess("[]", MediaType.APPLICATION_JSON));
+        adapter.refresh();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        server.verify();
+        assertThat(adapter.isBlocked(new CustomerId("9001"))).isFalse();
+        assertThat(adapter.size()).isZero();
+    }
+
+    @Test
+    void shouldKeepLastListWhenRefreshFails() {
+        // Given
+        BlockedCustomerAdapter adapter = adapter(true, Duration.ZERO);
+        server.expect(requestTo(BASE_URL + "/api/v1/fraud/blocked-customers"))
+            .andRespond(withSuccess(FULL_LIST, MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/v1/fraud/blocked-customers"))
+            .andRespond(withServerError());
+        adapter.refresh();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.isBlocked(new CustomerId("9001"))).isTrue();
+        assertThat(meterRegistry.get("order.blocked-customers.refresh.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotCallFraudApiWhenDisabled() {
+        // Given
+        BlockedCustomerAdapter adapter = adapter(false, Duration.ofHours(1));
+
+        // When
+        adapter.refresh();
+
+        // Then
+        server.verify();
+        assertThat(adapter.isBlocked(new CustomerId("9001"))).isFalse();
+    }
+
+    @Test
+    void shouldGiveUpOnUnresponsiveFraudApiWithinReadTimeout() throws IOException {
+        // Given - aceita a conexão e nunca responde
+        try (ServerSocket silentServer = new ServerSocket(0)) {
+            BlockedCustomerAdapter adapter = new BlockedCustomerAdapter(
+                BlockedCustomerAdapter.restTemplate(Duration.ofSeconds(1), Duration.ofMillis(200)),
+                "http://localhost:" + silentServer.getLocalPort(), true, 1_000, 0.01, Duration.ofHours(1), meterRegistry);
+
+            // When
+            long startedAt = System.nanoTime();
+            adapter.refresh();
+
+            // Then
+            assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+            assertThat(meterRegistry.get("order.blocked-customers.refresh.failures").counter().count()).isEqualTo(1.0);
+        }
+    }
+
+    private BlockedCustomerAdapter adapter(boolean enabled, Duration fullReloadInterval) {
+        return new BlockedCustomerAdapter(restTemplate, BASE_URL, enabled, 1_000, 0.01, fullReloadInterval,
+            meterRegistry);
+    }
+}
@@ -0,0 +1,62 @@
+package com.seguradora.msorder.infrastructure.adapter.out.external;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CustomerBloomFilterTest {
+
+    @Test
+    void shouldNeverReturnFalseNegatives() {
+        // Given
+        CustomerBloomFilter filter = new CustomerBloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("customer-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("customer-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    void shouldKeepFalsePositiveRateNearConfiguredValue() {
+        // Given
+        CustomerBloomFilter filter = new CustomerBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("blocked-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("other-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    }
+
+    @Test
+    void shouldSizeBitsAndHashFunctionsFromExpectedInsertions() {
+        // When
+        CustomerBloomFilter filter = new CustomerBloomFilter(1_000, 0.01);
+
+        // Then
+        assertThat(filter.bitCount()).isEqualTo(9586);
+        assertThat(filter.hashFunctions()).isEqualTo(7);
+        assertThat(filter.mightContain("1001")).isFalse();
+    }
+
+    @Test
+    void shouldRejectInvalidFalsePositiveRate() {
+        assertThatThrownBy(() -> new CustomerBloomFilter(1_000, 1.0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
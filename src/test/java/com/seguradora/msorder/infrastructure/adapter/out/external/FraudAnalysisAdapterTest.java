@@ -1,13 +1,23 @@
 package com.seguradora.msorder.infrastructure.adapter.out.external;
 
 import com.seguradora.msorder.infrastructure.adapter.out.external.dto.FraudAnalysisRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
 
 import java.math.BigDecimal;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
 
 @ExtendWith(MockitoExtension.class)
 class FraudAnalysisAdapterTest {
@@ -17,16 +27,18 @@ class FraudAnalysisAdapterTest {
         // Given
         String baseUrl = "http://localhost:8081";
         // When
-        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(baseUrl);
+        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(new RestTemplate(), baseUrl, null);
         // Then
         assertThat(adapter).isNotNull();
     }
 
     @Test
-    void shouldReturnRegularWhenWebClientThrowsException() {
+    void shouldThrowUnavailableWhenFraudApiFails() {
         // Given
-        String baseUrl = "http://localhost:8081";
-        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(baseUrl);
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(restTemplate, "http://fraud-api", null);
+        server.expect(requestTo("http://fraud-api/api/v1/fraud/analyze")).andRespond(withServerError());
         FraudAnalysisRequest request = new FraudAnalysisRequest(
             "order-123",
             "customer-123",
@@ -34,10 +46,24 @@ class FraudAnalysisAdapterTest {
             "AUTO",
             "Test insurance"
         );
-        // When
-        String result = adapter.analyzeRisk(request);
-        // Then
-        assertThat(result).isEqualTo("REGULAR");
+        // When / Then
+        assertThatThrownBy(() -> adapter.analyzeRisk(request))
+            .isInstanceOf(FraudAnalysisAdapter.FraudAnalysisUnavailableException.class)
+            .hasMessageContaining("order-123");
+    }
+
+    @Test
+    void shouldThrowUnavailableWhenFraudApiReturnsNoBody() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(restTemplate, "http://fraud-api", null);
+        server.expect(requestTo("http://fraud-api/api/v1/fraud/analyze")).andRespond(withSuccess());
+        FraudAnalysisRequest request = new FraudAnalysisRequest(
+            "order-123", "customer-123", new BigDecimal("100000"), "AUTO", "Test insurance");
+        // When / Then
+        assertThatThrownBy(() -> adapter.analyzeRisk(request))
+            .isInstanceOf(FraudAnalysisAdapter.FraudAnalysisUnavailableException.class);
     }
 
     @Test
@@ -62,8 +88,33 @@ class FraudAnalysisAdapterTest {
     @Test
     void shouldHandleNullBaseUrl() {
         // When
-        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(null);
+        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(new RestTemplate(), null, null);
         // Then
         assertThat(adapter).isNotNull();
     }
+
+    @Test
+    void shouldAnalyzeRiskThroughHedgedExecutor() {
+        // Given
+        RestTemplate restTemplate = new RestTemplate();
+        MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgedRequestExecutor hedgedExecutor = new HedgedRequestExecutor("test-fraud-", 0.95, 500, 20, 10, 4,
+            "order.fraud.analysis", meterRegistry);
+        FraudAnalysisAdapter adapter = new FraudAnalysisAdapter(restTemplate, "http://fraud-api", hedgedExecutor);
+        server.expect(requestTo("http://fraud-api/api/v1/fraud/analyze"))
+            .andExpect(method(HttpMethod.POST))
+            .andRespond(withSuccess("{\"classification\": \"HIGH_RISK\"}", MediaType.APPLICATION_JSON));
+        FraudAnalysisRequest request = new FraudAnalysisRequest(
+            "order-123", "1002", new BigDecimal("1000"), "AUTO", "Seguro auto");
+
+        // When
+        String result = adapter.analyzeRisk(request);
+
+        // Then
+        server.verify();
+        assertThat(result).isEqualTo("HIGH_RISK");
+        assertThat(meterRegistry.get("order.fraud.analysis.requests").counter().count()).isEqualTo(1);
+        hedgedExecutor.destroy();
+    }
 }
@@ -0,0 +1,67 @@
+package com.seguradora.msorder.infrastructure.adapter.out.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Latência da análise de fraudes com e sem hedging, contra uma API simulada com cauda longa
+ * (95% das chamadas em ~10 ms, 5% em ~300 ms). O hedge usa o p90: com 5% de cauda, o p95 cairia
+ * na própria cauda e quase nenhuma chamada seria repetida.
+ *
+ * Só roda com -Dbenchmark=true:
+ * mvn test -Dtest=HedgedRequestExecutorBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class HedgedRequestExecutorBenchmarkTest {
+
+    private static final int CALLS = 1_000;
+
+    @Test
+    void compareLatencyWithAndWithoutHedging() {
+        Supplier<String> api = () -> {
+            long latency = ThreadLocalRandom.current().nextDouble() < 0.05 ? 300 : 10;
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "REGULAR";
+        };
+
+        long[] direct = measure(api);
+        print("direto", direct);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HedgedRequestExecutor executor = new HedgedRequestExecutor("bench-hedge-", 0.90, 200, 5, 10, 16,
+            "order.fraud.analysis", meterRegistry);
+        long[] hedged = measure(() -> executor.execute(api));
+        print("hedging", hedged);
+        System.out.printf("hedges=%.0f (%.1f%%), vitórias=%.0f, espera final=%d ms%n",
+            meterRegistry.get("order.fraud.analysis.hedges").counter().count(),
+            100 * meterRegistry.get("order.fraud.analysis.hedges").counter().count() / CALLS,
+            meterRegistry.get("order.fraud.analysis.hedge.wins").counter().count(),
+            executor.getDelayMillis());
+        executor.destroy();
+    }
+
+    private static long[] measure(Supplier<String> call) {
+        long[] latencies = new long[CALLS];
+        for (int i = 0; i < CALLS; i++) {
+            long start = System.nanoTime();
+            call.get();
+            latencies[i] = (System.nanoTime() - start) / 1_000_000;
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private static void print(String label, long[] sorted) {
+        System.out.printf("%s: p50=%d ms, p95=%d ms, p99=%d ms, max=%d ms%n", label,
+            sorted[CALLS / 2], sorted[(int) (CALLS * 0.95)], sorted[(int) (CALLS * 0.99)], sorted[CALLS - 1]);
+    }
+}
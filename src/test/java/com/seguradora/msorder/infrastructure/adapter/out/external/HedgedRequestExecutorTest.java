@@ -0,0 +1,207 @@
+package com.seguradora.msorder.infrastructure.adapter.out.external;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HedgedRequestExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HedgedRequestExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void shouldNotHedgeWhenPrimaryAnswersWithinDelay() {
+        // Given
+        executor = executor(500, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = executor.execute(() -> {
+            calls.incrementAndGet();
+            return "REGULAR";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("REGULAR");
+        assertThat(calls).hasValue(1);
+        assertThat(count("order.fraud.analysis.requests")).isEqualTo(1);
+        assertThat(count("order.fraud.analysis.hedges")).isZero();
+    }
+
+    @Test
+    void shouldReturnHedgeAnswerWhenPrimaryIsSlow() {
+        // Given
+        executor = executor(20, 10);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        // When
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                await(release);
+                return "slow";
+            }
+            return "fast";
+        });
+        release.countDown();
+
+        // Then
+        assertThat(result).isEqualTo("fast");
+        assertThat(calls).hasValue(2);
+        assertThat(count("order.fraud.analysis.hedges")).isEqualTo(1);
+        assertThat(count("order.fraud.analysis.hedge.wins")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWaitForPrimaryWhenHedgeFails() {
+        // Given
+        executor = executor(20, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        String result = executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(150);
+                return "primary";
+            }
+            throw new IllegalStateException("hedge failed");
+        });
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("order.fraud.analysis.hedges")).isEqualTo(1);
+        assertThat(count("order.fraud.analysis.hedge.wins")).isZero();
+    }
+
+    @Test
+    void shouldPropagateFailureWhenBothCallsFail() {
+        // Given
+        executor = executor(20, 10);
+        AtomicInteger calls = new AtomicInteger();
+
+        // When / Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(100);
+            }
+            throw new IllegalStateException("fraud api down");
+        }))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("fraud api down");
+    }
+
+    @Test
+    void shouldPropagatePrimaryFailureWithoutHedging() {
+        // Given
+        executor = executor(500, 10);
+
+        // When / Then
+        assertThatThrownBy(() -> executor.execute(() -> {
+            throw new IllegalStateException("bad request");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(count("order.fraud.analysis.hedges")).isZero();
+    }
+
+    @Test
+    void shouldSkipHedgeWhenBudgetIsExhausted() {
+        // Given
+        executor = executor(20, 0);
+        while (executor.tryAcquireBudget()) {
+            // esvazia o orçamento inicial
+        }
+
+        // When
+        String result = executor.execute(() -> {
+            sleep(60);
+            return "primary";
+        });
+
+        // Then
+        assertThat(result).isEqualTo("primary");
+        assertThat(count("order.fraud.analysis.hedges")).isZero();
+        assertThat(count("order.fraud.analysis.hedge.budget-exhausted")).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRefillBudgetFromPrimaryRequests() {
+        // Given
+        executor = executor(500, 50);
+        while (executor.tryAcquireBudget()) {
+            // esvazia o orçamento inicial
+        }
+
+        // When
+        executor.execute(() -> "a");
+        executor.execute(() -> "b");
+
+        // Then
+        assertThat(executor.tryAcquireBudget()).isTrue();
+        assertThat(executor.tryAcquireBudget()).isFalse();
+    }
+
+    @Test
+    void shouldDeriveDelayFromLatencyPercentile() {
+        // Given
+        executor = executor(200, 10);
+
+        // When
+        for (int latency = 1; latency <= 64; latency++) {
+            executor.record(latency);
+        }
+
+        // Then
+        assertThat(executor.getDelayMillis()).isEqualTo(61);
+        assertThat(meterRegistry.get("order.fraud.analysis.hedge.delay").gauge().value()).isEqualTo(61);
+    }
+
+    @Test
+    void shouldNotGoBelowMinimumDelay() {
+        // Given
+        executor = executor(200, 10);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            executor.record(1);
+        }
+
+        // Then
+        assertThat(executor.getDelayMillis()).isEqualTo(5);
+    }
+
+    private HedgedRequestExecutor executor(long initialDelayMs, int budgetPercent) {
+        return new HedgedRequestExecutor("test-hedge-", 0.95, initialDelayMs, 5, budgetPercent, 8,
+            "order.fraud.analysis", meterRegistry);
+    }
+
+    private double count(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -7,18 +7,21 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -28,7 +31,8 @@ class OrderEventPublisherAdapterTest {
     @Mock
     private KafkaTemplate<String, OrderEvent> kafkaTemplate;
 
-    @InjectMocks
+    private OrderEventPublishTracker publishTracker;
+
     private OrderEventPublisherAdapter orderEventPublisherAdapter;
 
     private Order mockOrder;
@@ -37,6 +41,10 @@ class OrderEventPublisherAdapterTest {
     @BeforeEach
     void setUp() {
         customerId = new CustomerId("customer-123");
+        publishTracker = new OrderEventPublishTracker(2, 10, new SimpleMeterRegistry());
+        orderEventPublisherAdapter = new OrderEventPublisherAdapter(kafkaTemplate, publishTracker);
+        lenient().when(kafkaTemplate.send(anyString(), anyString(), any(OrderEvent.class)))
+            .thenReturn(CompletableFuture.completedFuture(null));
 
         // Criar um Order que será usado em todos os testes
         mockOrder = Order.create(
@@ -225,4 +233,128 @@ class OrderEventPublisherAdapterTest {
         // Verifica se o KafkaTemplate foi chamado para todos os eventos
         verify(kafkaTemplate, times(7)).send(eq("order-events"), eq(mockOrder.getId().getValue().toString()), any(OrderEvent.class));
     }
+
+    @Test
+    void shouldPublishSelfContainedEventWithTransitionAndSnapshot() {
+        // Given
+        mockOrder.updateStatus(OrderStatus.VALIDATED, "Análise de fraude aprovada");
+        mockOrder.updateStatus(OrderStatus.PENDING, "Aguardando pagamento e subscrição");
+        mockOrder.updateStatus(OrderStatus.REJECTED, "Pagamento recusado");
+
+        // When
+        orderEventPublisherAdapter.publishOrderRejected(mockOrder);
+
+        // Then
+        ArgumentCaptor<OrderEvent> eventCaptor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(kafkaTemplate).send(eq("order-events"), eq(mockOrder.getId().getValue().toString()), eventCaptor.capture());
+
+        OrderEvent capturedEvent = eventCaptor.getValue();
+        assertThat(capturedEvent.schemaVersion()).isEqualTo(OrderEvent.SCHEMA_VERSION);
+        assertThat(capturedEvent.fromStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(capturedEvent.reason()).isEqualTo("Pagamento recusado");
+        assertThat(capturedEvent.order().productId()).isEqualTo("product-456");
+        assertThat(capturedEvent.order().salesChannel()).isEqualTo(SalesChannel.MOBILE);
+        assertThat(capturedEvent.order().paymentMethod()).isEqualTo(PaymentMethod.CREDIT_CARD);
+        assertThat(capturedEvent.order().totalMonthlyPremiumAmount()).isEqualByComparingTo("500.00");
+        assertThat(capturedEvent.order().coverages()).containsKey("Collision");
+        assertThat(capturedEvent.order().assistances()).containsExactly("24h Roadside Assistance");
+        assertThat(capturedEvent.order().history()).extracting(OrderEvent.HistoryEntry::toStatus)
+            .containsSubsequence(OrderStatus.VALIDATED, OrderStatus.PENDING, OrderStatus.REJECTED);
+    }
+
+    @Test
+    void shouldNotReportTransitionForApprovalFlagEvents() {
+        // When
+        orderEventPublisherAdapter.publishPaymentApproved(mockOrder);
+
+        // Then
+        ArgumentCaptor<OrderEvent> eventCaptor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(kafkaTemplate).send(eq("order-events"), anyString(), eventCaptor.capture());
+        assertThat(eventCaptor.getValue().fromStatus()).isNull();
+        assertThat(eventCaptor.getValue().reason()).isNull();
+        assertThat(eventCaptor.getValue().order()).isNotNull();
+    }
+
+    @Test
+    void shouldPublishOrderedTransitionsInSingleRecord() {
+        // Given
+        mockOrder.updateStatus(OrderStatus.VALIDATED, "Análise de fraude aprovada");
+        mockOrder.updateStatus(OrderStatus.PENDING, "Aguardando pagamento e subscrição");
+
+        // When
+        orderEventPublisherAdapter.publishOrderTransitions(mockOrder,
+            List.of(OrderStatus.RECEIVED, OrderStatus.VALIDATED, OrderStatus.PENDING));
+
+        // Then
+        ArgumentCaptor<OrderEvent> eventCaptor = ArgumentCaptor.forClass(OrderEvent.class);
+        verify(kafkaTemplate, times(1)).send(eq("order-events"), eq(mockOrder.getId().getValue().toString()), eventCaptor.capture());
+
+        OrderEvent capturedEvent = eventCaptor.getValue();
+        assertThat(capturedEvent.eventType()).isEqualTo(OrderEvent.TRANSITIONS_EVENT_TYPE);
+        assertThat(capturedEvent.status()).isEqualTo(OrderStatus.PENDING);
+        assertThat(capturedEvent.transitions()).extracting(OrderEvent.Transition::eventType)
+            .containsExactly("ORDER_RECEIVED", "ORDER_VALIDATED", "ORDER_PENDING");
+        assertThat(capturedEvent.transitions().get(2).fromStatus()).isEqualTo(OrderStatus.VALIDATED);
+        assertThat(capturedEvent.expand()).extracting(OrderEvent::status)
+            .containsExactly(OrderStatus.RECEIVED, OrderStatus.VALIDATED, OrderStatus.PENDING);
+    }
+
+    @Test
+    void shouldReleaseInFlightSlotWhenBrokerAcknowledges() {
+        // Given
+        CompletableFuture<SendResult<String, OrderEvent>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderEvent.class))).thenReturn(ack);
+
+        // When
+        orderEventPublisherAdapter.publishOrderCreated(mockOrder);
+
+        // Then
+        assertThat(publishTracker.inFlight()).isEqualTo(1);
+        ack.complete(null);
+        assertThat(publishTracker.inFlight()).isZero();
+        assertThat(publishTracker.failures()).isZero();
+    }
+
+    @Test
+    void shouldCountFailureReportedAfterSendReturns() {
+        // Given
+        CompletableFuture<SendResult<String, OrderEvent>> ack = new CompletableFuture<>();
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderEvent.class))).thenReturn(ack);
+        orderEventPublisherAdapter.publishOrderCreated(mockOrder);
+
+        // When
+        ack.completeExceptionally(new RuntimeException("Broker timeout"));
+
+        // Then
+        assertThat(publishTracker.inFlight()).isZero();
+        assertThat(publishTracker.failures()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRejectFastWhenTooManyEventsAreInFlight() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderEvent.class))).thenReturn(new CompletableFuture<>());
+        orderEventPublisherAdapter.publishOrderCreated(mockOrder);
+        orderEventPublisherAdapter.publishOrderValidated(mockOrder);
+
+        // When & Then
+        assertThatThrownBy(() -> orderEventPublisherAdapter.publishOrderPending(mockOrder))
+            .isInstanceOf(OrderEventPublishTracker.PublisherSaturatedException.class);
+        verify(kafkaTemplate, times(2)).send(anyString(), anyString(), any(OrderEvent.class));
+    }
+
+    @Test
+    void shouldReleaseInFlightSlotWhenSendThrows() {
+        // Given
+        when(kafkaTemplate.send(anyString(), anyString(), any(OrderEvent.class)))
+            .thenThrow(new RuntimeException("Kafka connection failed"));
+
+        // When
+        assertThatThrownBy(() -> orderEventPublisherAdapter.publishOrderCreated(mockOrder))
+            .isInstanceOf(RuntimeException.class);
+
+        // Then
+        assertThat(publishTracker.inFlight()).isZero();
+        assertThat(publishTracker.failures()).isEqualTo(1);
+    }
 }
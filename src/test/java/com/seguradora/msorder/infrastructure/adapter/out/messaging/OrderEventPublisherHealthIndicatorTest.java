@@ -0,0 +1,58 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderEventPublisherHealthIndicatorTest {
+
+    @Test
+    void shouldBeUpWhenNothingIsPending() {
+        // Given
+        OrderEventPublishTracker tracker = new OrderEventPublishTracker(10, 10, new SimpleMeterRegistry());
+        OrderEventPublisherHealthIndicator indicator = new OrderEventPublisherHealthIndicator(tracker, 10_000);
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.UP);
+        assertThat(health.getDetails()).containsEntry("inFlight", 0).containsEntry("maxInFlight", 10);
+    }
+
+    @Test
+    void shouldBeOutOfServiceWhenInFlightBudgetIsExhausted() {
+        // Given
+        OrderEventPublishTracker tracker = new OrderEventPublishTracker(1, 10, new SimpleMeterRegistry());
+        OrderEventPublisherHealthIndicator indicator = new OrderEventPublisherHealthIndicator(tracker, 10_000);
+        tracker.begin();
+
+        // When
+        Health health = indicator.health();
+
+        // Then
+        assertThat(health.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+    }
+
+    @Test
+    void shouldBeOutOfServiceWhenOldestAcknowledgementIsLagging() throws InterruptedException {
+        // Given
+        OrderEventPublishTracker tracker = new OrderEventPublishTracker(10, 10, new SimpleMeterRegistry());
+        OrderEventPublisherHealthIndicator indicator = new OrderEventPublisherHealthIndicator(tracker, 5);
+        long ticket = tracker.begin();
+        Thread.sleep(20);
+
+        // When
+        Health lagging = indicator.health();
+        tracker.complete(ticket, null);
+        Health recovered = indicator.health();
+
+        // Then
+        assertThat(lagging.getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat((Long) lagging.getDetails().get("oldestPendingMs")).isGreaterThanOrEqualTo(5L);
+        assertThat(recovered.getStatus()).isEqualTo(Status.UP);
+    }
+}
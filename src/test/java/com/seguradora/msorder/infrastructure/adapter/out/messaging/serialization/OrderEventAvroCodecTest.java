@@ -0,0 +1,177 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderEventAvroCodecTest {
+
+    private LocalSchemaStore schemaStore;
+    private OrderEventAvroCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        schemaStore = LocalSchemaStore.load(null);
+        codec = new OrderEventAvroCodec(schemaStore);
+    }
+
+    @Test
+    void shouldRoundTripOrderEvent() {
+        // Given
+        OrderEvent event = new OrderEvent(UUID.randomUUID().toString(), "customer-123",
+            InsuranceType.AUTO, OrderStatus.PENDING, new BigDecimal("150000.00"), "Seguro auto",
+            LocalDateTime.of(2024, 1, 15, 10, 30, 0, 123_000_000), "ORDER_PENDING");
+
+        // When
+        OrderEvent decoded = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(decoded).isEqualTo(event);
+    }
+
+    @Test
+    void shouldKeepNullDescriptionAndNormalizeAmountScale() {
+        // Given
+        OrderEvent event = new OrderEvent(UUID.randomUUID().toString(), UUID.randomUUID().toString(),
+            InsuranceType.LIFE, OrderStatus.RECEIVED, new BigDecimal("1000"), null,
+            LocalDateTime.of(2024, 1, 15, 10, 30), "ORDER_RECEIVED");
+
+        // When
+        OrderEvent decoded = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(decoded.description()).isNull();
+        assertThat(decoded.amount()).isEqualTo(new BigDecimal("1000.00"));
+    }
+
+    @Test
+    void shouldResolveMessagesWrittenWithSchemaV1() throws Exception {
+        // Given - mensagem publicada com o schema v1, sem transição nem snapshot
+        Schema v1;
+        try (InputStream in = getClass().getResourceAsStream("/avro/order-event-v1.avsc")) {
+            v1 = new Schema.Parser().parse(in);
+        }
+
+        GenericRecord record = new GenericData.Record(v1);
+        record.put("orderId", new GenericData.Fixed(v1.getField("orderId").schema(), uuidBytes("123e4567-e89b-12d3-a456-426614174000")));
+        record.put("customerId", "customer-123");
+        record.put("insuranceType", new GenericData.EnumSymbol(v1.getField("insuranceType").schema(), "HOME"));
+        record.put("status", new GenericData.EnumSymbol(v1.getField("status").schema(), "APPROVED"));
+        record.put("amount", ByteBuffer.wrap(new BigDecimal("10.00").unscaledValue().toByteArray()));
+        record.put("timestamp", 0L);
+        record.put("eventType", "ORDER_APPROVED");
+        byte[] data = new BinaryMessageEncoder<GenericRecord>(GenericData.get(), v1).encode(record).array();
+
+        // When
+        OrderEvent decoded = codec.decode(data);
+
+        // Then
+        assertThat(decoded.orderId()).isEqualTo("123e4567-e89b-12d3-a456-426614174000");
+        assertThat(decoded.insuranceType()).isEqualTo(InsuranceType.HOME);
+        assertThat(decoded.status()).isEqualTo(OrderStatus.APPROVED);
+        assertThat(decoded.amount()).isEqualTo(new BigDecimal("10.00"));
+        assertThat(decoded.description()).isNull();
+        assertThat(decoded.schemaVersion()).isEqualTo(1);
+        assertThat(decoded.fromStatus()).isNull();
+        assertThat(decoded.order()).isNull();
+    }
+
+    @Test
+    void shouldRoundTripTransitionAndOrderSnapshot() {
+        // Given
+        Order order = Order.create(new CustomerId("customer-123"), ProductId.of("product-456"), InsuranceType.AUTO,
+            SalesChannel.MOBILE, PaymentMethod.CREDIT_CARD, new BigDecimal("500.00"), new BigDecimal("100000.00"),
+            Coverages.of(Map.of("Collision", new BigDecimal("50000.00"))),
+            Assistances.of(List.of("24h Roadside Assistance")), "Seguro auto");
+        order.updateStatus(OrderStatus.VALIDATED, "Análise de fraude aprovada");
+        OrderEvent event = OrderEvent.orderValidated(order);
+
+        // When
+        OrderEvent decoded = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(decoded.schemaVersion()).isEqualTo(OrderEvent.SCHEMA_VERSION);
+        assertThat(decoded.fromStatus()).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(decoded.reason()).isEqualTo("Análise de fraude aprovada");
+        assertThat(decoded.order().salesChannel()).isEqualTo(SalesChannel.MOBILE);
+        assertThat(decoded.order().totalMonthlyPremiumAmount()).isEqualTo(new BigDecimal("500.00"));
+        assertThat(decoded.order().coverages()).containsEntry("Collision", new BigDecimal("50000.00"));
+        assertThat(decoded.order().assistances()).containsExactly("24h Roadside Assistance");
+        assertThat(decoded.order().history()).extracting(OrderEvent.HistoryEntry::toStatus)
+            .containsExactlyElementsOf(event.order().history().stream().map(OrderEvent.HistoryEntry::toStatus).toList());
+    }
+
+    @Test
+    void shouldRoundTripTransitionsBatch() {
+        // Given
+        Order order = Order.create(new CustomerId("customer-123"), ProductId.of("product-456"), InsuranceType.AUTO,
+            SalesChannel.MOBILE, PaymentMethod.CREDIT_CARD, new BigDecimal("500.00"), new BigDecimal("100000.00"),
+            Coverages.of(Map.of("Collision", new BigDecimal("50000.00"))),
+            Assistances.of(List.of("24h Roadside Assistance")), "Seguro auto");
+        order.updateStatus(OrderStatus.REJECTED, "Valor acima do limite");
+        OrderEvent event = OrderEvent.transitions(order, List.of(OrderStatus.RECEIVED, OrderStatus.REJECTED));
+
+        // When
+        OrderEvent decoded = codec.decode(codec.encode(event));
+
+        // Then
+        assertThat(decoded.eventType()).isEqualTo(OrderEvent.TRANSITIONS_EVENT_TYPE);
+        assertThat(decoded.transitions()).extracting(OrderEvent.Transition::eventType)
+            .containsExactly("ORDER_RECEIVED", "ORDER_REJECTED");
+        assertThat(decoded.transitions().get(1).fromStatus()).isEqualTo(OrderStatus.RECEIVED);
+        assertThat(decoded.transitions().get(1).reason()).isEqualTo("Valor acima do limite");
+    }
+
+    @Test
+    void shouldRejectMessageWithUnregisteredSchema() {
+        // Given
+        OrderEventAvroCodec writer = new OrderEventAvroCodec(LocalSchemaStore.load(null));
+        byte[] data = writer.encode(new OrderEvent(UUID.randomUUID().toString(), UUID.randomUUID().toString(), InsuranceType.AUTO, OrderStatus.RECEIVED,
+            BigDecimal.ONE, null, LocalDateTime.now(), "ORDER_RECEIVED"));
+        data[5] ^= 0x7F; // corrompe o fingerprint
+
+        // When & Then
+        assertThatThrownBy(() -> codec.decode(data)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void shouldTagSerializedRecordsWithAvroContentType() {
+        // Given
+        OrderEventAvroSerializer serializer = new OrderEventAvroSerializer(codec);
+        RecordHeaders headers = new RecordHeaders();
+        OrderEvent event = new OrderEvent(UUID.randomUUID().toString(), UUID.randomUUID().toString(), InsuranceType.AUTO, OrderStatus.RECEIVED,
+            BigDecimal.ONE, null, LocalDateTime.now().withNano(0), "ORDER_RECEIVED");
+
+        // When
+        byte[] data = serializer.serialize("order-events", headers, event);
+
+        // Then
+        assertThat(new String(headers.lastHeader(OrderEventAvroSerializer.CONTENT_TYPE_HEADER).value()))
+            .isEqualTo(OrderEventAvroCodec.CONTENT_TYPE);
+        assertThat(new OrderEventAvroDeserializer(codec).deserialize("order-events", data).eventType())
+            .isEqualTo("ORDER_RECEIVED");
+    }
+
+    private static byte[] uuidBytes(String value) {
+        UUID uuid = UUID.fromString(value);
+        return ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+    }
+}
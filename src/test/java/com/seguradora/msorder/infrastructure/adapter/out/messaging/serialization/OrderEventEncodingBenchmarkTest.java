@@ -0,0 +1,92 @@
+package com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compara tamanho e custo de serialização de OrderEvent em JSON (formato atual) e Avro.
+ *
+ * O teste de tamanho roda sempre; o de custo só com -Dbenchmark=true:
+ * mvn test -Dtest=OrderEventEncodingBenchmarkTest -Dbenchmark=true
+ */
+class OrderEventEncodingBenchmarkTest {
+
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    private final JsonSerializer<OrderEvent> jsonSerializer = new JsonSerializer<>();
+    private final OrderEventAvroSerializer avroSerializer =
+        new OrderEventAvroSerializer(new OrderEventAvroCodec(LocalSchemaStore.load(null)));
+
+    @Test
+    void avroRecordShouldBeSmallerThanJsonRecord() {
+        // Given
+        OrderEvent event = sampleEvent();
+
+        // When
+        int jsonSize = recordSize(headers -> jsonSerializer.serialize("order-events", headers, event));
+        int avroSize = recordSize(headers -> avroSerializer.serialize("order-events", headers, event));
+
+        // Then
+        System.out.printf("OrderEvent por registro (payload + headers): json=%d bytes, avro=%d bytes (%.0f%%)%n",
+            jsonSize, avroSize, 100.0 * avroSize / jsonSize);
+        assertThat(avroSize).isLessThan(jsonSize / 2);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void compareSerializationCost() {
+        OrderEvent event = sampleEvent();
+
+        double jsonNanos = nanosPerOp(() -> jsonSerializer.serialize("order-events", new RecordHeaders(), event));
+        double avroNanos = nanosPerOp(() -> avroSerializer.serialize("order-events", new RecordHeaders(), event));
+
+        System.out.printf("Serialização de OrderEvent: json=%.0f ns/op, avro=%.0f ns/op%n", jsonNanos, avroNanos);
+    }
+
+    private static int recordSize(Function<RecordHeaders, byte[]> serialize) {
+        RecordHeaders headers = new RecordHeaders();
+        int size = serialize.apply(headers).length;
+        for (Header header : headers) {
+            size += header.key().length() + header.value().length;
+        }
+        return size;
+    }
+
+    private static double nanosPerOp(Runnable operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            operation.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            operation.run();
+        }
+        return (System.nanoTime() - start) / (double) ITERATIONS;
+    }
+
+    private static OrderEvent sampleEvent() {
+        Order order = Order.create(new CustomerId(UUID.randomUUID().toString()), ProductId.of("product-456"),
+            InsuranceType.AUTO, SalesChannel.MOBILE, PaymentMethod.CREDIT_CARD, new BigDecimal("500.00"),
+            new BigDecimal("150000.00"),
+            Coverages.of(Map.of("Collision", new BigDecimal("50000.00"), "Theft", new BigDecimal("100000.00"))),
+            Assistances.of(List.of("24h Roadside Assistance", "Glass Replacement")),
+            "Seguro automóvel para veículo de passeio");
+        order.updateStatus(OrderStatus.VALIDATED, "Análise de fraude aprovada");
+        order.updateStatus(OrderStatus.PENDING, "Aguardando pagamento e subscrição");
+        return OrderEvent.orderPending(order);
+    }
+}
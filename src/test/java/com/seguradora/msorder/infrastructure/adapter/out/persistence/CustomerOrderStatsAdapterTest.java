@@ -0,0 +1,144 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import com.seguradora.msorder.core.domain.valueobject.CustomerId;
+import com.seguradora.msorder.core.domain.valueobject.CustomerOrderStats;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository.CustomerOrderStatsView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerOrderStatsAdapterTest {
+
+    @Mock
+    private OrderJpaRepository jpaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CustomerOrderStatsAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new CustomerOrderStatsAdapter(jpaRepository, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    void shouldReturnEmptyStatsBeforeFirstLoad() {
+        assertThat(adapter.findByCustomer(new CustomerId("1001"))).isEqualTo(CustomerOrderStats.EMPTY);
+    }
+
+    @Test
+    void shouldLoadAllCustomersOnFirstRefresh() {
+        // Given
+        when(jpaRepository.aggregateStatsByCustomer()).thenReturn(List.of(
+            view("1001", 3, 0, 1, "150000.00"),
+            view("1002", 0, 2, 0, null)));
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.findByCustomer(new CustomerId("1001")))
+            .isEqualTo(new CustomerOrderStats(3, 0, 1, new BigDecimal("150000.00")));
+        assertThat(adapter.findByCustomer(new CustomerId("1002")))
+            .isEqualTo(new CustomerOrderStats(0, 2, 0, BigDecimal.ZERO));
+        assertThat(meterRegistry.get("order.risk-fallback.customers").gauge().value()).isEqualTo(2);
+        verify(jpaRepository, never()).aggregateStatsByCustomerChangedSince(any());
+    }
+
+    @Test
+    void shouldRecomputeOnlyChangedCustomersAfterFirstLoad() {
+        // Given
+        when(jpaRepository.aggregateStatsByCustomer()).thenReturn(List.of(view("1001", 1, 0, 0, "1000.00")));
+        when(jpaRepository.aggregateStatsByCustomerChangedSince(any(LocalDateTime.class)))
+            .thenReturn(List.of(view("1001", 1, 1, 0, "1000.00")));
+        LocalDateTime beforeFirstLoad = LocalDateTime.now();
+        adapter.refresh();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jpaRepository).aggregateStatsByCustomerChangedSince(since.capture());
+        assertThat(since.getValue()).isBefore(beforeFirstLoad);
+        assertThat(adapter.findByCustomer(new CustomerId("1001")).rejected()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepCurrentStatsWhenRefreshFails() {
+        // Given
+        when(jpaRepository.aggregateStatsByCustomer()).thenReturn(List.of(view("1001", 2, 0, 0, "1000.00")));
+        when(jpaRepository.aggregateStatsByCustomerChangedSince(any(LocalDateTime.class)))
+            .thenThrow(new QueryTimeoutException("timeout"));
+        adapter.refresh();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.findByCustomer(new CustomerId("1001")).approved()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepCurrentStatsWhenRowMappingFails() {
+        // Given
+        when(jpaRepository.aggregateStatsByCustomer()).thenReturn(List.of(view("1001", 2, 0, 0, "1000.00")));
+        when(jpaRepository.aggregateStatsByCustomerChangedSince(any(LocalDateTime.class)))
+            .thenThrow(new IllegalArgumentException("projection mismatch"));
+        adapter.refresh();
+
+        // When
+        adapter.refresh();
+
+        // Then
+        assertThat(adapter.findByCustomer(new CustomerId("1001")).approved()).isEqualTo(2);
+    }
+
+    private static CustomerOrderStatsView view(String customerId, long approved, long rejected, long cancelled,
+                                               String approvedAmount) {
+        return new CustomerOrderStatsView() {
+            @Override
+            public String getCustomerId() {
+                return customerId;
+            }
+
+            @Override
+            public Long getApproved() {
+                return approved;
+            }
+
+            @Override
+            public Long getRejected() {
+                return rejected;
+            }
+
+            @Override
+            public Long getCancelled() {
+                return cancelled;
+            }
+
+            @Override
+            public BigDecimal getApprovedAmount() {
+                return approvedAmount != null ? new BigDecimal(approvedAmount) : null;
+            }
+        };
+    }
+}
@@ -0,0 +1,277 @@
+package com.seguradora.msorder.infrastructure.adapter.out.persistence;
+
+import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.event.OrderTransitionType;
+import com.seguradora.msorder.core.domain.valueobject.*;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderJpaEntity;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.entity.OrderTransitionJpaEntity;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.mapper.OrderPersistenceMapper;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.mapper.OrderPersistenceMapperImpl;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderTransitionJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventSourcedOrderPersistenceAdapterTest {
+
+    @Mock
+    private OrderJpaRepository orderRepository;
+
+    @Mock
+    private OrderTransitionJpaRepository transitionRepository;
+
+    @Mock
+    private OrderCacheInvalidationPublisher cacheInvalidation;
+
+    private final OrderPersistenceMapper mapper = new OrderPersistenceMapperImpl();
+
+    private EventSourcedOrderPersistenceAdapter adapter;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        adapter = new EventSourcedOrderPersistenceAdapter(orderRepository, transitionRepository, mapper, cacheInvalidation, 5);
+    }
+
+    @Test
+    void shouldAppendTransitionsAndRefreshSnapshotWhenStatusChanges() {
+        // Given
+        Order order = persistedPendingOrder();
+        OrderJpaEntity snapshot = mapper.toJpaEntity(order);
+        String id = order.getId().getValue().toString();
+        when(transitionRepository.saveAll(anyList())).thenAnswer(invocation -> assignSequences(invocation.getArgument(0)));
+        when(orderRepository.findById(id)).thenReturn(Optional.of(snapshot));
+
+        order.approvePayment();
+        order.approveSubscription();
+        order.finalizeApproval();
+
+        // When
+        Order saved = adapter.save(order);
+
+        // Then
+        verify(transitionRepository).lockOrderStream(id);
+        verify(transitionRepository).saveAll(argThat(entities -> ((List<?>) entities).size() == 3));
+        verify(orderRepository).advanceSnapshotSequence(id, 3L);
+        verify(orderRepository, never()).save(any());
+        assertThat(snapshot.getStatus()).isEqualTo(OrderStatus.APPROVED);
+        assertThat(snapshot.getPaymentApproved()).isEqualTo("APPROVED");
+        assertThat(saved.getStatus()).isEqualTo(OrderStatus.APPROVED);
+    }
+
+    @Test
+    void shouldReturnOrderWithVersionWrittenBySave() {
+        // Given
+        Order order = persistedPendingOrder();
+        OrderJpaEntity snapshot = mapper.toJpaEntity(order);
+        String id = order.getId().getValue().toString();
+        when(transitionRepository.saveAll(anyList())).thenAnswer(invocation -> assignSequences(invocation.getArgument(0)));
+        when(orderRepository.findById(id)).thenReturn(Optional.of(snapshot));
+        // Simula o incremento da versão no flush
+        doAnswer(invocation -> {
+            snapshot.setVersion(2L);
+            return null;
+        }).when(orderRepository).flush();
+
+        order.cancel();
+
+        // When
+        Order saved = adapter.save(order);
+
+        // Then
+        assertThat(saved.getVersion()).isEqualTo(2L);
+        assertThat(saved.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+        assertThat(saved.pullPendingTransitions()).isEmpty();
+    }
+
+    @Test
+    void shouldRejectStaleWriterWithoutAppending() {
+        // Given: outra gravação avançou a linha para a versão 2 depois da leitura
+        Order stale = persistedPendingOrder();
+        OrderJpaEntity snapshot = mapper.toJpaEntity(stale);
+        snapshot.setVersion(2L);
+        snapshot.setStatus(OrderStatus.CANCELLED);
+        String id = stale.getId().getValue().toString();
+        when(orderRepository.findById(id)).thenReturn(Optional.of(snapshot));
+
+        stale.approvePayment();
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(stale))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(transitionRepository).lockOrderStream(id);
+        verify(transitionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldRejectTransitionNotStartingFromStoredStatus() {
+        // Given: mesma versão, mas a linha está em outro status
+        Order order = persistedPendingOrder();
+        OrderJpaEntity snapshot = mapper.toJpaEntity(order);
+        snapshot.setStatus(OrderStatus.CANCELLED);
+        String id = order.getId().getValue().toString();
+        when(orderRepository.findById(id)).thenReturn(Optional.of(snapshot));
+
+        order.approvePayment();
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.save(order))
+            .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+        verify(transitionRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void shouldRefuseToReplayTransitionFromAnotherStatus() {
+        // Given: cauda com CANCELLED -> PENDING sobre um pedido cancelado não pode ressuscitá-lo
+        Order order = persistedPendingOrder();
+        OrderJpaEntity snapshot = mapper.toJpaEntity(order);
+        snapshot.setStatus(OrderStatus.CANCELLED);
+        String id = order.getId().getValue().toString();
+        OrderTransitionJpaEntity resurrect = new OrderTransitionJpaEntity(id, OrderTransitionType.PAYMENT_APPROVED,
+            OrderStatus.PENDING, OrderStatus.PENDING, "Pagamento aprovado", LocalDateTime.now());
+        when(orderRepository.findById(id)).thenReturn(Optional.of(snapshot));
+        when(transitionRepository.findByOrderIdAndIdGreaterThanOrderByIdAsc(id, 0L)).thenReturn(List.of(resurrect));
+
+        // When / Then
+        assertThatThrownBy(() -> adapter.findById(order.getId()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("CANCELLED");
+    }
+
+    @Test
+    void shouldOnlyAppendWhenFlagChangesAndSnapshotIsNotDue() {
+        // Given
+        Order order = persistedPendingOrder();
+        OrderJpaEntity snapshot = mapper.toJpaEntity(order);
+        String id = order.getId().getValue().toString();
+        when(transitionRepository.saveAll(anyList())).thenAnswer(invocation -> assignSequences(invocation.getArgument(0)));
+        when(orderRepository.findById(id)).thenReturn(Optional.of(snapshot));
+        when(transitionRepository.countByOrderIdAndIdGreaterThan(id, 0L)).thenReturn(1L);
+
+        order.approvePayment();
+
+        // When
+        adapter.save(order);
+
+        // Then
+        verify(orderRepository, never()).advanceSnapshotSequence(anyString(), anyLong());
+        assertThat(snapshot.getPaymentApproved()).isEqualTo("PENDING");
+        // A versão da linha (ETag) muda mesmo sem snapshot
+        verify(orderRepository).findForVersionIncrement(id);
+    }
+
+    @Test
+    void shouldRebuildOrderFromSnapshotAndTail() {
+        // Given
+        Order order = persistedPendingOrder();
+        OrderJpaEntity snapshot = mapper.toJpaEntity(order);
+        snapshot.setSnapshotSequence(10L);
+        String id = order.getId().getValue().toString();
+
+        order.approvePayment();
+        List<OrderTransitionJpaEntity> tail = order.pullPendingTransitions().stream()
+            .map(transition -> mapper.toTransitionEntity(order.getId(), transition))
+            .toList();
+
+        when(orderRepository.findById(id)).thenReturn(Optional.of(snapshot));
+        when(transitionRepository.findByOrderIdAndIdGreaterThanOrderByIdAsc(id, 10L)).thenReturn(tail);
+
+        // When
+        Optional<Order> result = adapter.findById(order.getId());
+
+        // Then
+        assertThat(result).isPresent();
+        assertThat(result.get().getStatus()).isEqualTo(OrderStatus.PENDING);
+        assertThat(result.get().getPaymentApproved()).isEqualTo("APPROVED");
+        assertThat(result.get().pullPendingTransitions()).isEmpty();
+    }
+
+    @Test
+    void shouldInsertSnapshotForNewOrders() {
+        // Given
+        Order order = newOrder();
+        when(orderRepository.save(any(OrderJpaEntity.class))).thenAnswer(invocation -> {
+            OrderJpaEntity entity = invocation.getArgument(0);
+            entity.setVersion(0L);
+            return entity;
+        });
+
+        // When
+        Order saved = adapter.save(order);
+
+        // Then
+        assertThat(saved.getVersion()).isZero();
+        verify(transitionRepository, never()).saveAll(anyList());
+        verify(transitionRepository, never()).lockOrderStream(anyString());
+    }
+
+    @Test
+    void shouldMapTransitionTypeWhenConvertingEntity() {
+        // Given
+        Order order = persistedPendingOrder();
+        order.cancel();
+
+        // When
+        OrderTransitionJpaEntity entity = mapper.toTransitionEntity(order.getId(), order.pullPendingTransitions().get(0));
+
+        // Then
+        assertThat(entity.getTransitionType()).isEqualTo(OrderTransitionType.CANCELLED);
+        assertThat(mapper.toTransition(entity).toStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    private List<OrderTransitionJpaEntity> assignSequences(Iterable<OrderTransitionJpaEntity> entities) {
+        List<OrderTransitionJpaEntity> saved = new ArrayList<>();
+        entities.forEach(entity -> {
+            entity.setId(sequence.incrementAndGet());
+            saved.add(entity);
+        });
+        return saved;
+    }
+
+    private Order persistedPendingOrder() {
+        Order created = newOrder();
+        created.validate();
+        created.markAsPending();
+        return Order.restore(created.getId(), created.getCustomerId(), created.getProductId(),
+            created.getCategory(), created.getSalesChannel(), created.getPaymentMethod(),
+            created.getTotalMonthlyPremiumAmount(), created.getInsuredAmount(),
+            created.getCoverages(), created.getAssistances(), created.getStatus(),
+            created.getDescription(), created.getCreatedAt(), created.getUpdatedAt(),
+            created.getFinishedAt(), created.getHistory(), created.getPaymentApproved(),
+            created.getSubscriptionApproved(), 1L);
+    }
+
+    private Order newOrder() {
+        return Order.create(
+            new CustomerId("customer-123"),
+            ProductId.of("product-456"),
+            InsuranceType.AUTO,
+            SalesChannel.MOBILE,
+            PaymentMethod.CREDIT_CARD,
+            new BigDecimal("500.00"),
+            new BigDecimal("100000.00"),
+            Coverages.of(Map.of("Collision", new BigDecimal("50000"))),
+            Assistances.of(List.of("24h Roadside Assistance")),
+            "Test order"
+        );
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +31,9 @@ class OrderPersistenceAdapterTest {
     @Mock
     private OrderPersistenceMapper mapper;
 
+    @Mock
+    private OrderCacheInvalidationPublisher cacheInvalidation;
+
     @InjectMocks
     private OrderPersistenceAdapter orderPersistenceAdapter;
 
@@ -61,6 +65,45 @@ class OrderPersistenceAdapterTest {
         mockJpaEntity.setCustomerId(customerId.getValue());
     }
 
+    @Test
+    void shouldFindManyOrdersWithSingleArrayParameter() {
+        // Given
+        OrderId otherId = OrderId.of("223e4567-e89b-12d3-a456-426614174000");
+        String ids = orderId.getValue() + "," + otherId.getValue();
+        when(jpaRepository.findAllByIdAny(ids)).thenReturn(List.of(mockJpaEntity));
+        when(mapper.restoreDomain(mockJpaEntity)).thenReturn(mockOrder);
+
+        // When
+        List<Order> orders = orderPersistenceAdapter.findAllById(List.of(orderId, otherId));
+
+        // Then
+        assertThat(orders).containsExactly(mockOrder);
+        verify(jpaRepository).findAllByIdAny(ids);
+    }
+
+    @Test
+    void shouldNotQueryWhenNoIdsAreGiven() {
+        // When
+        List<Order> orders = orderPersistenceAdapter.findAllById(List.of());
+
+        // Then
+        assertThat(orders).isEmpty();
+        verify(jpaRepository, never()).findAllByIdAny(anyString());
+    }
+
+    @Test
+    void shouldFindVersionWithoutLoadingEntity() {
+        // Given
+        when(jpaRepository.findVersionById(orderId.getValue().toString())).thenReturn(Optional.of(4L));
+
+        // When
+        Optional<Long> version = orderPersistenceAdapter.findVersionById(orderId);
+
+        // Then
+        assertThat(version).contains(4L);
+        verify(jpaRepository, never()).findById(anyString());
+    }
+
     @Test
     void shouldSaveOrderSuccessfully() {
         // Given
@@ -76,6 +119,7 @@ class OrderPersistenceAdapterTest {
         verify(mapper).toJpaEntity(mockOrder);
         verify(jpaRepository).save(mockJpaEntity);
         verify(mapper).restoreDomain(mockJpaEntity);
+        verify(cacheInvalidation).publish(mockOrder.getId(), mockOrder.getCustomerId(), mockOrder.getVersion());
     }
 
     @Test
@@ -210,6 +254,7 @@ class OrderPersistenceAdapterTest {
 
         // Then
         verify(jpaRepository).deleteById(orderId.getValue().toString());
+        verify(cacheInvalidation).publish(orderId, null, null);
     }
 
     @Test
@@ -0,0 +1,135 @@
+package com.seguradora.msorder.infrastructure.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AdaptiveTaskExecutorTest {
+
+    private static final long TARGET_MS = 100;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AdaptiveTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void shouldIncreaseLimitAdditivelyWhenTasksQueueWithinLatencyTarget() {
+        // Given
+        executor = newExecutor(10, 4, 12, 100);
+
+        // When
+        executor.adjust(millis(20), true);
+        executor.adjust(millis(20), true);
+        executor.adjust(millis(20), true);
+
+        // Then
+        assertThat(executor.getLimit()).isEqualTo(12);
+    }
+
+    @Test
+    void shouldDecreaseLimitMultiplicativelyWhenLatencyExceedsTarget() {
+        // Given
+        executor = newExecutor(20, 4, 50, 100);
+
+        // When
+        executor.adjust(millis(TARGET_MS * 3), true);
+
+        // Then
+        assertThat(executor.getLimit()).isEqualTo(15);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            executor.adjust(millis(TARGET_MS * 3), false);
+        }
+
+        // Then
+        assertThat(executor.getLimit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldKeepLimitWhenNothingQueued() {
+        // Given
+        executor = newExecutor(10, 4, 50, 100);
+
+        // When
+        executor.adjust(millis(20), false);
+
+        // Then
+        assertThat(executor.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void shouldRejectInsteadOfRunningOnCallerWhenQueueIsFull() throws InterruptedException {
+        // Given
+        executor = newExecutor(1, 1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> await(release));
+
+        // When & Then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+            .isInstanceOf(TaskRejectedException.class);
+        assertThat(executor.getQueueDepth()).isEqualTo(1);
+        assertThat(meterRegistry.get("order.async.executor.rejected").counter().count()).isEqualTo(1.0);
+        release.countDown();
+    }
+
+    @Test
+    void shouldRecordWaitAndExecutionTimes() throws InterruptedException {
+        // Given
+        executor = newExecutor(2, 1, 4, 10);
+        CountDownLatch done = new CountDownLatch(3);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            executor.execute(done::countDown);
+        }
+
+        // Then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.destroy();
+        assertThat(meterRegistry.get("order.async.executor.wait").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("order.async.executor.execution").timer().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("order.async.executor.limit").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("order.async.executor.queue.depth").gauge().value()).isZero();
+    }
+
+    @Test
+    void shouldRejectInvalidLimits() {
+        assertThatThrownBy(() -> newExecutor(5, 10, 4, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private AdaptiveTaskExecutor newExecutor(int initial, int min, int max, int queueCapacity) {
+        return new AdaptiveTaskExecutor("test-", initial, min, max, queueCapacity, TARGET_MS, 1000, meterRegistry);
+    }
+
+    private static long millis(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.seguradora.msorder.infrastructure.config;
+
+import com.seguradora.msorder.core.domain.service.AmountLimitMatrix;
+import com.seguradora.msorder.core.domain.service.InsuranceAmountValidator;
+import com.seguradora.msorder.core.domain.valueobject.InsuranceType;
+import com.seguradora.msorder.core.domain.valueobject.RiskLevel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AmountLimitsReloaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void shouldShipClasspathLimitsEqualToDefaults() throws IOException {
+        // When
+        AmountLimitMatrix shipped = AmountLimitsReloader.parse(new ClassPathResource("amount-limits.properties"));
+        AmountLimitMatrix defaults = AmountLimitMatrix.defaults();
+
+        // Then
+        assertThat(shipped.version()).isEqualTo(1);
+        for (RiskLevel riskLevel : RiskLevel.values()) {
+            for (InsuranceType type : InsuranceType.values()) {
+                assertThat(shipped.limitInCents(riskLevel, type))
+                    .as("%s.%s", riskLevel, type)
+                    .isEqualTo(defaults.limitInCents(riskLevel, type));
+            }
+        }
+    }
+
+    @Test
+    void shouldLoadLimitsOnStartup() throws IOException {
+        // Given
+        Path file = write("version=2\nNO_INFO.AUTO=90000.00\n", 1);
+        InsuranceAmountValidator validator = new InsuranceAmountValidator();
+
+        // When
+        new AmountLimitsReloader(validator, file.toUri().toString());
+
+        // Then
+        assertThat(validator.currentLimits().version()).isEqualTo(2);
+        assertThat(validator.isAmountValid(RiskLevel.NO_INFO, InsuranceType.AUTO, new BigDecimal("80000.00"))).isTrue();
+    }
+
+    @Test
+    void shouldReloadWhenFileChangesWithNewerVersion() throws IOException {
+        // Given
+        Path file = write("version=2\nNO_INFO.AUTO=90000.00\n", 1);
+        InsuranceAmountValidator validator = new InsuranceAmountValidator();
+        AmountLimitsReloader reloader = new AmountLimitsReloader(validator, file.toUri().toString());
+
+        // When
+        write("version=3\nNO_INFO.AUTO=60000.00\n", 2);
+        reloader.reload();
+
+        // Then
+        assertThat(validator.currentLimits().version()).isEqualTo(3);
+        assertThat(validator.isAmountValid(RiskLevel.NO_INFO, InsuranceType.AUTO, new BigDecimal("80000.00"))).isFalse();
+    }
+
+    @Test
+    void shouldKeepCurrentLimitsWhenVersionIsNotNewer() throws IOException {
+        // Given
+        Path file = write("version=2\nNO_INFO.AUTO=90000.00\n", 1);
+        InsuranceAmountValidator validator = new InsuranceAmountValidator();
+        AmountLimitsReloader reloader = new AmountLimitsReloader(validator, file.toUri().toString());
+
+        // When
+        write("version=2\nNO_INFO.AUTO=1.00\n", 2);
+        reloader.reload();
+
+        // Then
+        assertThat(validator.currentLimits().limitInCents(RiskLevel.NO_INFO, InsuranceType.AUTO)).isEqualTo(9_000_000L);
+    }
+
+    @Test
+    void shouldKeepCurrentLimitsWhenFileIsInvalid() throws IOException {
+        // Given
+        Path file = write("version=2\nNO_INFO.AUTO=90000.00\n", 1);
+        InsuranceAmountValidator validator = new InsuranceAmountValidator();
+        AmountLimitsReloader reloader = new AmountLimitsReloader(validator, file.toUri().toString());
+
+        // When
+        write("version=3\nUNKNOWN.AUTO=1.00\n", 2);
+        reloader.reload();
+
+        // Then
+        assertThat(validator.currentLimits().version()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldKeepDefaultsWhenFileIsMissing() {
+        // Given
+        InsuranceAmountValidator validator = new InsuranceAmountValidator();
+
+        // When
+        new AmountLimitsReloader(validator, tempDir.resolve("missing.properties").toUri().toString());
+
+        // Then
+        assertThat(validator.currentLimits().version()).isZero();
+    }
+
+    private Path write(String content, int secondsAfterEpoch) throws IOException {
+        Path file = tempDir.resolve("amount-limits.properties");
+        Files.writeString(file, content);
+        // Garante mtime distinto entre escritas consecutivas
+        Files.setLastModifiedTime(file, FileTime.from(Instant.ofEpochSecond(1_700_000_000L + secondsAfterEpoch)));
+        return file;
+    }
+}
@@ -4,16 +4,23 @@ import com.seguradora.msorder.core.domain.service.InsuranceAmountValidator;
 import com.seguradora.msorder.core.port.in.CreateOrderUseCase;
 import com.seguradora.msorder.core.port.in.GetOrderUseCase;
 import com.seguradora.msorder.core.port.in.ListOrdersUseCase;
+import com.seguradora.msorder.core.port.out.BlockedCustomerPort;
+import com.seguradora.msorder.core.port.out.CustomerOrderStatsPort;
 import com.seguradora.msorder.core.port.out.FraudAnalysisPort;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import com.seguradora.msorder.core.port.out.OrderRepositoryPort;
+import com.seguradora.msorder.infrastructure.adapter.in.OrderLaneExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class ApplicationConfigTest {
@@ -27,6 +34,12 @@ class ApplicationConfigTest {
     @Mock
     private FraudAnalysisPort fraudAnalysisPort;
 
+    @Mock
+    private BlockedCustomerPort blockedCustomerPort;
+
+    @Mock
+    private CustomerOrderStatsPort customerOrderStatsPort;
+
     @InjectMocks
     private ApplicationConfig applicationConfig;
 
@@ -37,7 +50,8 @@ class ApplicationConfigTest {
 
         // When
         CreateOrderUseCase createOrderUseCase = applicationConfig.createOrderUseCase(
-            orderRepository, eventPublisher, fraudAnalysisPort, amountValidator);
+            orderRepository, eventPublisher, fraudAnalysisPort, amountValidator, blockedCustomerPort, customerOrderStatsPort, order -> { },
+            new OrderLaneExecutor(4), mock(PlatformTransactionManager.class), Runnable::run, false);
 
         // Then
         assertThat(createOrderUseCase).isNotNull();
@@ -46,7 +60,7 @@ class ApplicationConfigTest {
     @Test
     void shouldCreateGetOrderUseCase() {
         // When
-        GetOrderUseCase getOrderUseCase = applicationConfig.getOrderUseCase(orderRepository);
+        GetOrderUseCase getOrderUseCase = applicationConfig.getOrderUseCase(orderRepository, new ConcurrentMapCacheManager("orders"));
 
         // Then
         assertThat(getOrderUseCase).isNotNull();
@@ -69,4 +83,23 @@ class ApplicationConfigTest {
         // Then
         assertThat(validator).isNotNull();
     }
+
+    @Test
+    void shouldExposePreValidationCounters() {
+        // Given
+        CreateOrderUseCase createOrderUseCase = applicationConfig.createOrderUseCase(
+            orderRepository, eventPublisher, fraudAnalysisPort, new InsuranceAmountValidator(), blockedCustomerPort, customerOrderStatsPort, order -> { },
+            new OrderLaneExecutor(4), mock(PlatformTransactionManager.class), Runnable::run, false);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        // When
+        applicationConfig.orderValidationMetrics(createOrderUseCase).bindTo(registry);
+
+        // Then
+        assertThat(registry.get("order.validation.fraud.skipped").tag("outcome", "approved").functionCounter().count()).isZero();
+        assertThat(registry.get("order.validation.fraud.skipped").tag("outcome", "rejected").functionCounter().count()).isZero();
+        assertThat(registry.get("order.validation.fraud.calls").functionCounter().count()).isZero();
+        assertThat(registry.get("order.validation.blocked").functionCounter().count()).isZero();
+        assertThat(registry.get("order.validation.fraud.fallback").functionCounter().count()).isZero();
+    }
 }
@@ -1,12 +1,19 @@
 package com.seguradora.msorder.infrastructure.config;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -44,4 +51,58 @@ class AsyncConfigTest {
         assertThat(executor).isNotNull();
         assertThat(executor.getThreadNamePrefix()).isEqualTo("OrderAsync-");
     }
+
+    @Test
+    void shouldKeepPlatformPoolWhenVirtualThreadsAreDisabled() {
+        // Then
+        assertThat(AsyncConfig.virtualThreadsActive(false)).isFalse();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void shouldFallBackToPlatformPoolWhenRuntimeLacksVirtualThreads() {
+        // Given
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreads", true);
+
+        // When
+        Executor taskExecutor = asyncConfig.taskExecutor();
+
+        // Then
+        assertThat(taskExecutor).isInstanceOf(ThreadPoolTaskExecutor.class);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldUseVirtualThreadsWhenEnabledOnSupportedRuntime() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreads", true);
+
+        // When
+        Executor taskExecutor = asyncConfig.taskExecutor();
+        CountDownLatch ran = new CountDownLatch(1);
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        taskExecutor.execute(() -> {
+            thread.set(Thread.currentThread());
+            ran.countDown();
+        });
+
+        // Then
+        assertThat(taskExecutor).isInstanceOf(SimpleAsyncTaskExecutor.class);
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(thread.get().getName()).startsWith("OrderAsync-");
+    }
+
+    @Test
+    void shouldUseAdaptiveExecutorWhenEnabled() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(asyncConfig, "adaptive", true);
+
+        // When
+        Executor taskExecutor = asyncConfig.taskExecutor();
+
+        // Then
+        assertThat(taskExecutor).isInstanceOf(AdaptiveTaskExecutor.class);
+        assertThat(((AdaptiveTaskExecutor) taskExecutor).getLimit()).isEqualTo(10);
+        ((AdaptiveTaskExecutor) taskExecutor).destroy();
+    }
 }
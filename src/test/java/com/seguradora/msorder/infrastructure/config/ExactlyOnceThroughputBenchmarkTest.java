@@ -0,0 +1,155 @@
+package com.seguradora.msorder.infrastructure.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seguradora.msorder.application.dto.PaymentEventData;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaZKBroker;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vazão do fluxo consumir-processar-publicar (payment-events -> order-events) com o pipeline
+ * at-least-once atual e com order.events.exactly-once.enabled, sobre um broker embarcado.
+ *
+ * Só roda com -Dbenchmark=true:
+ * mvn test -Dtest=ExactlyOnceThroughputBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExactlyOnceThroughputBenchmarkTest {
+
+    private static final int WARMUP = 100;
+    private static final int RECORDS = 1_000;
+
+    private static EmbeddedKafkaBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaZKBroker(1, false, 1)
+            .brokerProperties(Map.of(
+                "transaction.state.log.replication.factor", "1",
+                "transaction.state.log.min.isr", "1"));
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    void compareAtLeastOnceAndExactlyOnceThroughput() throws Exception {
+        double atLeastOnce = recordsPerSecond(false);
+        double exactlyOnce = recordsPerSecond(true);
+
+        System.out.printf("payment-events -> order-events: at-least-once=%.0f rec/s, exactly-once=%.0f rec/s (%.0f%%)%n",
+            atLeastOnce, exactlyOnce, 100.0 * exactlyOnce / atLeastOnce);
+    }
+
+    @SuppressWarnings("unchecked")
+    private double recordsPerSecond(boolean exactlyOnce) throws Exception {
+        String suffix = exactlyOnce ? "eos" : "alo";
+        String inputTopic = "bench-payment-events-" + suffix;
+        String outputTopic = "bench-order-events-" + suffix;
+        broker.addTopics(inputTopic, outputTopic);
+        produceInput(inputTopic, WARMUP + RECORDS);
+
+        try (AnnotationConfigApplicationContext context = kafkaContext(exactlyOnce);
+             Consumer<String, String> output = outputConsumer(outputTopic)) {
+
+            KafkaTemplate<String, OrderEvent> template = context.getBean("kafkaTemplate", KafkaTemplate.class);
+            ConcurrentKafkaListenerContainerFactory<String, PaymentEventData> factory =
+                context.getBean("paymentEventListenerContainerFactory", ConcurrentKafkaListenerContainerFactory.class);
+
+            ConcurrentMessageListenerContainer<String, PaymentEventData> container = factory.createContainer(inputTopic);
+            container.getContainerProperties().setGroupId("bench-" + suffix);
+            container.setupMessageListener((MessageListener<String, PaymentEventData>) record ->
+                template.send(outputTopic, record.key(), approvedEvent(record.value().getOrderId())));
+
+            container.start();
+            try {
+                int warmedUp = awaitRecords(output, 0, WARMUP);
+                long start = System.nanoTime();
+                int received = awaitRecords(output, warmedUp, WARMUP + RECORDS);
+                double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                return (received - warmedUp) / seconds;
+            } finally {
+                container.stop();
+            }
+        }
+    }
+
+    private static AnnotationConfigApplicationContext kafkaContext(boolean exactlyOnce) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+            "spring.kafka.bootstrap-servers", broker.getBrokersAsString(),
+            "order.events.exactly-once.enabled", String.valueOf(exactlyOnce),
+            "order.events.exactly-once.transaction-id-prefix", "bench-tx-" + UUID.randomUUID() + "-")));
+        context.registerBean(ObjectMapper.class, () -> new ObjectMapper());
+        context.register(KafkaConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private static void produceInput(String topic, int count) {
+        Map<String, Object> props = KafkaTestUtils.producerProps(broker);
+        try (Producer<String, String> producer =
+                 new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new StringSerializer()).createProducer()) {
+            for (int i = 0; i < count; i++) {
+                String orderId = UUID.randomUUID().toString();
+                producer.send(new ProducerRecord<>(topic, orderId,
+                    "{\"eventId\":\"" + i + "\",\"orderId\":\"" + orderId + "\",\"status\":\"APPROVED\"}"));
+            }
+            producer.flush();
+        }
+    }
+
+    private static Consumer<String, String> outputConsumer(String topic) {
+        Map<String, Object> props = KafkaTestUtils.consumerProps("bench-output-" + topic, "false", broker);
+        props.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+        Consumer<String, String> consumer =
+            new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), new StringDeserializer()).createConsumer();
+        broker.consumeFromAnEmbeddedTopic(consumer, topic);
+        return consumer;
+    }
+
+    private static int awaitRecords(Consumer<String, String> consumer, int received, int expected) {
+        long deadline = System.nanoTime() + Duration.ofMinutes(5).toNanos();
+        while (received < expected && System.nanoTime() < deadline) {
+            received += consumer.poll(Duration.ofMillis(100)).count();
+        }
+        assertThat(received).isGreaterThanOrEqualTo(expected);
+        return received;
+    }
+
+    private static OrderEvent approvedEvent(String orderId) {
+        return new OrderEvent(orderId, "customer-123", null, OrderStatus.APPROVED,
+            new BigDecimal("100000.00"), null, LocalDateTime.now(), "ORDER_APPROVED");
+    }
+}
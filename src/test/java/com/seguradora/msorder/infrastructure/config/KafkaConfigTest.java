@@ -1,18 +1,35 @@
 package com.seguradora.msorder.infrastructure.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seguradora.msorder.application.dto.PaymentEventData;
 import com.seguradora.msorder.infrastructure.adapter.out.messaging.event.OrderEvent;
+import com.seguradora.msorder.infrastructure.adapter.out.messaging.serialization.OrderEventAvroSerializer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.support.serializer.DelegatingByTopicSerializer;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.kafka.transaction.KafkaTransactionManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,14 +45,14 @@ class KafkaConfigTest {
         ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
 
         // When
-        ProducerFactory<String, OrderEvent> producerFactory = kafkaConfig.producerFactory();
+        ProducerFactory<String, Object> producerFactory = kafkaConfig.producerFactory();
 
         // Then
         assertThat(producerFactory).isNotNull();
+        assertThat(producerFactory.getKeySerializer()).isInstanceOf(StringSerializer.class);
+        assertThat(producerFactory.getValueSerializer()).isInstanceOf(DelegatingByTopicSerializer.class);
         assertThat(producerFactory.getConfigurationProperties())
             .containsEntry(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092")
-            .containsEntry(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class)
-            .containsEntry(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class)
             .containsEntry(ProducerConfig.ACKS_CONFIG, "all") // Corrigido de "1" para "all"
             .containsEntry(ProducerConfig.RETRIES_CONFIG, 3)
             .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true)
@@ -43,6 +60,7 @@ class KafkaConfigTest {
             .containsEntry(ProducerConfig.LINGER_MS_CONFIG, 5)
             .containsEntry(ProducerConfig.BUFFER_MEMORY_CONFIG, 33554432)
             .containsEntry(ProducerConfig.COMPRESSION_TYPE_CONFIG, "snappy")
+            .containsEntry(ProducerConfig.MAX_BLOCK_MS_CONFIG, 5000)
             .containsEntry(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5)
             .containsEntry(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, 30000);
     }
@@ -61,22 +79,36 @@ class KafkaConfigTest {
     }
 
     @Test
-    void shouldCreateGenericProducerFactoryWithCorrectConfiguration() {
+    void shouldShareSingleProducerFactoryAcrossTemplates() {
         // Given
         ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ProducerFactory<String, Object> producerFactory = kafkaConfig.producerFactory();
+        KafkaEventConfiguration eventConfiguration = new KafkaEventConfiguration();
+
+        // When & Then
+        assertThat(eventConfiguration.paymentEventKafkaTemplate(producerFactory).getProducerFactory()).isSameAs(producerFactory);
+        assertThat(eventConfiguration.subscriptionEventKafkaTemplate(producerFactory).getProducerFactory()).isSameAs(producerFactory);
+    }
+
+    @Test
+    void shouldSerializeOrderEventsAsTypedJsonAndOtherTopicsByPayloadType() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        Serializer<Object> serializer = kafkaConfig.producerFactory().getValueSerializer();
+        OrderEvent event = new OrderEvent("order-1", "customer-1", null, null, null, null, null, "ORDER_RECEIVED");
+        RecordHeaders orderHeaders = new RecordHeaders();
+        RecordHeaders paymentHeaders = new RecordHeaders();
 
         // When
-        ProducerFactory<String, Object> genericProducerFactory = kafkaConfig.genericProducerFactory();
+        serializer.serialize("order-events", orderHeaders, event);
+        byte[] raw = serializer.serialize("payment-events-dlt", paymentHeaders, "not json".getBytes(StandardCharsets.UTF_8));
+        byte[] text = serializer.serialize("payment-events", paymentHeaders, "{\"orderId\":\"order-1\"}");
 
         // Then
-        assertThat(genericProducerFactory).isNotNull();
-        assertThat(genericProducerFactory.getConfigurationProperties())
-            .containsEntry(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092")
-            .containsEntry(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class)
-            .containsEntry(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class)
-            .containsEntry(ProducerConfig.ACKS_CONFIG, "all")
-            .containsEntry(ProducerConfig.RETRIES_CONFIG, 3)
-            .containsEntry(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        assertThat(orderHeaders.lastHeader("__TypeId__")).isNotNull();
+        assertThat(new String(raw, StandardCharsets.UTF_8)).isEqualTo("not json");
+        assertThat(new String(text, StandardCharsets.UTF_8)).isEqualTo("{\"orderId\":\"order-1\"}");
+        assertThat(paymentHeaders.lastHeader("__TypeId__")).isNull();
     }
 
     @Test
@@ -99,11 +131,165 @@ class KafkaConfigTest {
         ReflectionTestUtils.setField(defaultKafkaConfig, "bootstrapServers", "localhost:9092");
 
         // When
-        ProducerFactory<String, OrderEvent> producerFactory = defaultKafkaConfig.producerFactory();
+        ProducerFactory<String, Object> producerFactory = defaultKafkaConfig.producerFactory();
 
         // Then
         assertThat(producerFactory).isNotNull();
         Map<String, Object> configs = producerFactory.getConfigurationProperties();
         assertThat(configs).containsEntry(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, "localhost:9092");
     }
+
+    @Test
+    void shouldDeserializePaymentEventDirectlyFromBytes() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ConsumerFactory<String, Object> consumerFactory =
+            kafkaConfig.paymentEventConsumerFactory(new ObjectMapper());
+        byte[] payload = "{\"orderId\":\"order-1\",\"status\":\"APPROVED\"}".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        PaymentEventData eventData;
+        try (Deserializer<Object> deserializer = consumerFactory.getValueDeserializer()) {
+            eventData = (PaymentEventData) deserializer.deserialize("payment-events", new RecordHeaders(), payload);
+        }
+
+        // Then
+        assertThat(eventData.getOrderId()).isEqualTo("order-1");
+        assertThat(eventData.getStatus()).isEqualTo("APPROVED");
+    }
+
+    @Test
+    void shouldFlagMalformedSubscriptionEventInsteadOfThrowing() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ConsumerFactory<String, Object> consumerFactory =
+            kafkaConfig.subscriptionEventConsumerFactory(new ObjectMapper());
+        RecordHeaders headers = new RecordHeaders();
+
+        // When
+        Object eventData;
+        try (Deserializer<Object> deserializer = consumerFactory.getValueDeserializer()) {
+            eventData = deserializer.deserialize("subscription-events", headers, "not json".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // Then
+        assertThat(eventData).isNull();
+        assertThat(headers.lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)).isNotNull();
+        assertThat(consumerFactory.getConfigurationProperties())
+            .containsEntry(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+    }
+
+    @Test
+    void shouldReplayRawBytesToOriginalTopicUnchanged() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        KafkaTemplate<String, byte[]> rawKafkaTemplate = kafkaConfig.rawKafkaTemplate();
+        byte[] payload = "{\"orderId\":\"order-1\"}".getBytes(StandardCharsets.UTF_8);
+        RecordHeaders headers = new RecordHeaders();
+
+        // When
+        Serializer<Object> serializer = kafkaConfig.producerFactory().getValueSerializer();
+        byte[] sent = serializer.serialize("payment-events", headers, payload);
+
+        // Then
+        assertThat(rawKafkaTemplate.getProducerFactory()).isNotNull();
+        assertThat(sent).isEqualTo(payload);
+        assertThat(headers.lastHeader("__TypeId__")).isNull();
+    }
+
+    @Test
+    void shouldReadDeadLetterTopicAsRawBytes() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ConsumerFactory<String, Object> consumerFactory =
+            kafkaConfig.subscriptionEventConsumerFactory(new ObjectMapper());
+        RecordHeaders headers = new RecordHeaders();
+        byte[] payload = "not json".getBytes(StandardCharsets.UTF_8);
+
+        // When
+        Object value;
+        try (Deserializer<Object> deserializer = consumerFactory.getValueDeserializer()) {
+            value = deserializer.deserialize("subscription-events-dlt", headers, payload);
+        }
+
+        // Then
+        assertThat(value).isEqualTo(payload);
+        assertThat(headers.lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)).isNull();
+    }
+
+    @Test
+    void shouldUseAvroSerializerWhenAvroEncodingIsEnabled() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(kafkaConfig, "eventEncoding", "avro");
+
+        OrderEvent event = new OrderEvent(UUID.randomUUID().toString(), "customer-1", null, null,
+            BigDecimal.ONE, null, LocalDateTime.now(), "ORDER_RECEIVED");
+        RecordHeaders headers = new RecordHeaders();
+
+        // When
+        kafkaConfig.producerFactory().getValueSerializer().serialize("order-events", headers, event);
+
+        // Then
+        assertThat(new String(headers.lastHeader(OrderEventAvroSerializer.CONTENT_TYPE_HEADER).value(), StandardCharsets.UTF_8))
+            .isEqualTo("application/avro");
+    }
+
+    @Test
+    void shouldKeepNonTransactionalPipelineByDefault() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+
+        // When
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            kafkaConfig.paymentEventListenerContainerFactory(new ObjectMapper());
+
+        // Then
+        assertThat(kafkaConfig.producerFactory().transactionCapable()).isFalse();
+        assertThat(factory.getContainerProperties().getTransactionManager()).isNull();
+    }
+
+    @Test
+    void shouldUseTransactionalConsumeProcessProduceWhenExactlyOnceIsEnabled() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(kafkaConfig, "exactlyOnce", true);
+        ReflectionTestUtils.setField(kafkaConfig, "transactionIdPrefix", "order-service-tx-");
+        ReflectionTestUtils.setField(kafkaConfig, "retryAttempts", 4);
+        ReflectionTestUtils.setField(kafkaConfig, "retryInitialDelay", 1000L);
+        ReflectionTestUtils.setField(kafkaConfig, "retryMultiplier", 2.0);
+        ReflectionTestUtils.setField(kafkaConfig, "retryMaxDelay", 30000L);
+
+        // When
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+            kafkaConfig.paymentEventListenerContainerFactory(new ObjectMapper());
+        KafkaTemplate<String, OrderEvent> template = kafkaConfig.kafkaTemplate();
+
+        // Then
+        assertThat(kafkaConfig.producerFactory().transactionCapable()).isTrue();
+        assertThat(template.isAllowNonTransactional()).isTrue();
+        assertThat(factory.getContainerProperties().getTransactionManager()).isInstanceOf(KafkaTransactionManager.class);
+        assertThat(factory.getConsumerFactory().getConfigurationProperties())
+            .containsEntry(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+    }
+
+    @Test
+    void shouldRouteRetryTopicRecordsToMainDeadLetterTopic() {
+        assertThat(KafkaConfig.deadLetterTopic("payment-events")).isEqualTo("payment-events-dlt");
+        assertThat(KafkaConfig.deadLetterTopic("payment-events-retry-1000")).isEqualTo("payment-events-dlt");
+        assertThat(KafkaConfig.deadLetterTopic("subscription-events-retry")).isEqualTo("subscription-events-dlt");
+    }
+
+    @Test
+    void shouldExportProducerMetricsWhenMeterRegistryIsAvailable() {
+        // Given
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", "localhost:9092");
+        ReflectionTestUtils.setField(kafkaConfig, "meterRegistry", new SimpleMeterRegistry());
+
+        // When
+        ProducerFactory<String, Object> producerFactory = kafkaConfig.producerFactory();
+
+        // Then
+        assertThat(producerFactory.getListeners()).hasAtLeastOneElementOfType(MicrometerProducerListener.class);
+    }
 }
@@ -0,0 +1,80 @@
+package com.seguradora.msorder.infrastructure.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Vazão e memória do taskExecutor com o pool de platform threads atual e com virtual threads,
+ * para tarefas que bloqueiam em I/O (simulando a chamada à API de fraudes).
+ *
+ * Só roda com -Dbenchmark=true; a medição com virtual threads exige JDK 21+:
+ * mvn test -Dtest=VirtualThreadExecutorBenchmarkTest -Dbenchmark=true
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadExecutorBenchmarkTest {
+
+    private static final int TASKS = 2_000;
+    private static final long BLOCKING_MS = 20;
+
+    @Test
+    void comparePlatformPoolAndVirtualThreads() throws InterruptedException {
+        Result platform = run(false);
+        System.out.printf("platform pool: %.0f tasks/s, peak threads=%d, heap delta=%d KB%n",
+            platform.tasksPerSecond, platform.peakThreads, platform.heapDeltaKb);
+
+        if (!JavaVersion.getJavaVersion().isEqualOrNewerThan(JavaVersion.TWENTY_ONE)) {
+            System.out.printf("virtual threads: indisponível no Java %s%n", JavaVersion.getJavaVersion());
+            return;
+        }
+
+        Result virtual = run(true);
+        System.out.printf("virtual threads: %.0f tasks/s, peak threads=%d, heap delta=%d KB%n",
+            virtual.tasksPerSecond, virtual.peakThreads, virtual.heapDeltaKb);
+    }
+
+    private static Result run(boolean virtualThreads) throws InterruptedException {
+        AsyncConfig config = new AsyncConfig();
+        ReflectionTestUtils.setField(config, "virtualThreads", virtualThreads);
+        Executor executor = config.taskExecutor();
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        System.gc();
+        long heapBefore = usedHeap();
+
+        CountDownLatch done = new CountDownLatch(TASKS);
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(BLOCKING_MS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        assertThat(done.await(5, TimeUnit.MINUTES)).isTrue();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+        long heapDeltaKb = (usedHeap() - heapBefore) / 1024;
+        return new Result(TASKS / seconds, threads.getPeakThreadCount(), heapDeltaKb);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private record Result(double tasksPerSecond, int peakThreads, long heapDeltaKb) {}
+}
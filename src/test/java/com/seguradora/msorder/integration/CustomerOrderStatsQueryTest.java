@@ -0,0 +1,106 @@
+package com.seguradora.msorder.integration;
+
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository;
+import com.seguradora.msorder.infrastructure.adapter.out.persistence.repository.OrderJpaRepository.CustomerOrderStatsView;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Consultas nativas do histórico agregado por cliente contra PostgreSQL real
+ *
+ * O Postgres converte aliases sem aspas para minúsculas; a projeção só é preenchida se o alias
+ * devolvido bater com o nome da propriedade. Para executar com Docker, use: mvn test -Ddocker.available=true
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "docker.available", matches = "true")
+class CustomerOrderStatsQueryTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("orders_test")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.flyway.locations", () -> "classpath:db/migration");
+    }
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void shouldMapEveryProjectionColumnFromPostgres() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        insertOrder("1001", "APPROVED", "100000.00", now);
+        insertOrder("1001", "APPROVED", "50000.00", now);
+        insertOrder("1001", "REJECTED", "70000.00", now);
+        insertOrder("1001", "CANCELLED", "30000.00", now);
+
+        // When
+        List<CustomerOrderStatsView> rows = orderJpaRepository.aggregateStatsByCustomer();
+
+        // Then
+        assertThat(rows).hasSize(1);
+        CustomerOrderStatsView row = rows.get(0);
+        assertThat(row.getCustomerId()).isEqualTo("1001");
+        assertThat(row.getApproved()).isEqualTo(2L);
+        assertThat(row.getRejected()).isEqualTo(1L);
+        assertThat(row.getCancelled()).isEqualTo(1L);
+        assertThat(row.getApprovedAmount()).isEqualByComparingTo("150000.00");
+    }
+
+    @Test
+    void shouldAggregateOnlyCustomersChangedSince() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        insertOrder("2001", "APPROVED", "10000.00", now.minusHours(2));
+        insertOrder("2002", "APPROVED", "20000.00", now.minusHours(2));
+        insertOrder("2002", "REJECTED", "5000.00", now);
+
+        // When
+        List<CustomerOrderStatsView> rows = orderJpaRepository.aggregateStatsByCustomerChangedSince(now.minusMinutes(1));
+
+        // Then
+        assertThat(rows).extracting(CustomerOrderStatsView::getCustomerId).containsExactly("2002");
+        assertThat(rows.get(0).getApprovedAmount()).isEqualByComparingTo("20000.00");
+    }
+
+    private void insertOrder(String customerId, String status, String insuredAmount, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO orders (id, customer_id, product_id, category, sales_channel, payment_method, "
+                + "total_monthly_premium_amount, insured_amount, status, created_at, updated_at) "
+                + "VALUES (?, ?, 'PROD001', 'AUTO', 'MOBILE', 'PIX', ?, ?, ?, ?, ?)",
+            UUID.randomUUID().toString(), customerId, new BigDecimal("100.00"), new BigDecimal(insuredAmount),
+            status, updatedAt, updatedAt);
+    }
+}
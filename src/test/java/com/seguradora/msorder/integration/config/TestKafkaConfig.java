@@ -1,6 +1,7 @@
 package com.seguradora.msorder.integration.config;
 
 import com.seguradora.msorder.core.domain.entity.Order;
+import com.seguradora.msorder.core.domain.valueobject.OrderStatus;
 import com.seguradora.msorder.core.port.out.OrderEventPublisherPort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,6 +9,8 @@ import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Primary;
 
+import java.util.List;
+
 /**
  * Configuração de teste para mockar o Kafka
  */
@@ -59,6 +62,11 @@ public class TestKafkaConfig {
             public void publishSubscriptionApproved(Order order) {
                 logger.info("Mock: Publishing SUBSCRIPTION_APPROVED event for order: {}", order.getId());
             }
+
+            @Override
+            public void publishOrderTransitions(Order order, List<OrderStatus> transitions) {
+                logger.info("Mock: Publishing ORDER_TRANSITIONS event {} for order: {}", transitions, order.getId());
+            }
         };
     }
 }